@@ -0,0 +1,68 @@
+package io.github.parubok.swingfx.benchmark;
+
+import io.github.parubok.swingfx.beans.binding.Bindings;
+import io.github.parubok.swingfx.beans.binding.BooleanBinding;
+import io.github.parubok.swingfx.beans.binding.NumberBinding;
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation and re-evaluation of expression trees built via {@link Bindings#add} and {@link Bindings#multiply}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingsBenchmark {
+
+    private SimpleDoubleProperty a;
+    private SimpleDoubleProperty b;
+    private SimpleIntegerProperty c;
+    private SimpleDoubleProperty d;
+    private NumberBinding tree;
+    private BooleanBinding comparison;
+    private double value;
+
+    @Setup
+    public void setup() {
+        a = new SimpleDoubleProperty(1.0);
+        b = new SimpleDoubleProperty(2.0);
+        c = new SimpleIntegerProperty(3);
+        d = new SimpleDoubleProperty(10.0);
+        tree = Bindings.multiply(Bindings.add(a, b), c);
+        comparison = Bindings.greaterThan(tree, d);
+        comparison.addListener((observable, oldValue, newValue) -> {
+        });
+    }
+
+    @Benchmark
+    public NumberBinding createTree() {
+        return Bindings.multiply(Bindings.add(a, b), c);
+    }
+
+    @Benchmark
+    public double updateLeafThenGet() {
+        a.set(value++);
+        return tree.doubleValue();
+    }
+
+    @Benchmark
+    public boolean updateLeafObservedComparison() {
+        a.set(value++);
+        return comparison.get();
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.parubok.swingfx.benchmark;
+
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import io.github.parubok.swingfx.beans.value.ObservableValueBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ExpressionHelper.fireValueChangedEvent} for the single-listener and the generic
+ * (array based) helper implementations, and {@code DoubleExpressionHelper} with boxed and primitive change listeners.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionHelperBenchmark {
+
+    /**
+     * Observable which fires on demand. Each fire produces a new value, so change listeners are always notified.
+     */
+    static final class Source extends ObservableValueBase<Integer> {
+        private int value;
+
+        @Override
+        public Integer getValue() {
+            return value;
+        }
+
+        void fire() {
+            value++;
+            fireValueChangedEvent();
+        }
+    }
+
+    @Param({"1", "2", "16"})
+    public int listenerCount;
+
+    private Source invalidationSource;
+    private Source changeSource;
+    private SimpleDoubleProperty boxedDouble;
+    private SimpleDoubleProperty primitiveDouble;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        invalidationSource = new Source();
+        changeSource = new Source();
+        for (int i = 0; i < listenerCount; i++) {
+            invalidationSource.addListener(bh::consume);
+            changeSource.addListener((observable, oldValue, newValue) -> bh.consume(newValue));
+        }
+        boxedDouble = new SimpleDoubleProperty();
+        primitiveDouble = new SimpleDoubleProperty();
+        for (int i = 0; i < listenerCount; i++) {
+            boxedDouble.addListener((observable, oldValue, newValue) -> bh.consume(newValue));
+            primitiveDouble.addDoubleChangeListener((observable, oldValue, newValue) -> bh.consume(newValue));
+        }
+    }
+
+    @Benchmark
+    public void fireInvalidation() {
+        invalidationSource.fire();
+    }
+
+    @Benchmark
+    public void fireChange() {
+        changeSource.fire();
+    }
+
+    @Benchmark
+    public void fireDoubleChangeBoxed() {
+        boxedDouble.set(boxedDouble.get() + 1.0);
+    }
+
+    @Benchmark
+    public void fireDoubleChangePrimitive() {
+        primitiveDouble.set(primitiveDouble.get() + 1.0);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.parubok.swingfx.benchmark;
+
+import io.github.parubok.com.sun.swingfx.collections.ObservableListWrapper;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mutations of {@link ObservableListWrapper} with a change listener attached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObservableListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObservableListWrapper<Integer> list;
+    private List<Integer> contentA;
+    private List<Integer> contentB;
+    private boolean flip;
+    private int counter;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        contentA = new ArrayList<>(size);
+        contentB = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            contentA.add(i);
+            contentB.add(size - i);
+        }
+        list = new ObservableListWrapper<>(new ArrayList<>(contentA));
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                bh.consume(c.getFrom());
+            }
+        });
+    }
+
+    @Benchmark
+    public void setAll() {
+        flip = !flip;
+        list.setAll(flip ? contentB : contentA);
+    }
+
+    @Benchmark
+    public void setSingle() {
+        int i = counter++ % size;
+        list.set(i, counter);
+    }
+}
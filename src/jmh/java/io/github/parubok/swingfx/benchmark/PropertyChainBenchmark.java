@@ -0,0 +1,60 @@
+package io.github.parubok.swingfx.benchmark;
+
+import io.github.parubok.swingfx.beans.property.DoubleProperty;
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code DoublePropertyBase.set} followed by {@code get} at the end of a chain of bound properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyChainBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int chainLength;
+
+    private DoubleProperty head;
+    private DoubleProperty tail;
+    private double value;
+
+    @Setup
+    public void setup() {
+        head = new SimpleDoubleProperty();
+        DoubleProperty previous = head;
+        for (int i = 0; i < chainLength; i++) {
+            DoubleProperty next = new SimpleDoubleProperty();
+            next.bind(previous);
+            previous = next;
+        }
+        tail = previous;
+    }
+
+    @Benchmark
+    public double setThenGet() {
+        head.set(value++);
+        return tail.get();
+    }
+
+    @Benchmark
+    public double setOnly() {
+        head.set(value++);
+        return value;
+    }
+}
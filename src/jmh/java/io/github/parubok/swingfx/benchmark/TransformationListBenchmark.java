@@ -0,0 +1,93 @@
+package io.github.parubok.swingfx.benchmark;
+
+import io.github.parubok.com.sun.swingfx.collections.ObservableListWrapper;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import io.github.parubok.swingfx.collections.transformation.FilteredList;
+import io.github.parubok.swingfx.collections.transformation.SortedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SortedList} and {@link FilteredList} maintenance while the source list is modified.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformationListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObservableListWrapper<Integer> sortedSource;
+    private ObservableListWrapper<Integer> filteredSource;
+    private SortedList<Integer> sorted;
+    private FilteredList<Integer> filtered;
+    private Random random;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        random = new Random(42);
+        List<Integer> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(random.nextInt());
+        }
+        sortedSource = new ObservableListWrapper<>(new ArrayList<>(content));
+        filteredSource = new ObservableListWrapper<>(new ArrayList<>(content));
+        sorted = new SortedList<>(sortedSource, Comparator.naturalOrder());
+        filtered = new FilteredList<>(filteredSource, v -> (v & 1) == 0);
+        ListChangeListener<Integer> listener = c -> {
+            while (c.next()) {
+                bh.consume(c.getFrom());
+            }
+        };
+        sorted.addListener(listener);
+        filtered.addListener(listener);
+    }
+
+    @Benchmark
+    public void sortedSet() {
+        sortedSource.set(random.nextInt(size), random.nextInt());
+    }
+
+    @Benchmark
+    public void sortedAddRemove() {
+        sortedSource.add(random.nextInt(size), random.nextInt());
+        sortedSource.remove(random.nextInt(size));
+    }
+
+    @Benchmark
+    public void sortedComparatorChange() {
+        sorted.setComparator(sorted.getComparator() == Comparator.<Integer>naturalOrder()
+                ? Comparator.<Integer>reverseOrder() : Comparator.<Integer>naturalOrder());
+    }
+
+    @Benchmark
+    public void filteredSet() {
+        filteredSource.set(random.nextInt(size), random.nextInt());
+    }
+
+    @Benchmark
+    public void filteredAddRemove() {
+        filteredSource.add(random.nextInt(size), random.nextInt());
+        filteredSource.remove(random.nextInt(size));
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.fxprop.misc.Logging;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Batch of changes: while a batch is open on the current thread, the observables defer the notification of their
+ * listeners until the outermost batch is closed. Each observable is notified at most once per batch, with the net
+ * change. The notifications are performed as a single glitch-free wave (see {@link Propagation}).
+ * <p>
+ * The state of the batch is kept per thread.
+ * </p>
+ */
+public final class Batch {
+
+    private static final class State {
+        int depth;
+        final Map<Object, Boolean> keys = new IdentityHashMap<>();
+        final List<Runnable> actions = new ArrayList<>();
+    }
+
+    /**
+     * Number of threads with an open batch. Allows to skip the thread local lookup when no batch is open.
+     */
+    private static final AtomicInteger openCount = new AtomicInteger();
+    private static final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    private Batch() {
+    }
+
+    /**
+     * @return {@code true} if a batch is open on the current thread.
+     */
+    public static boolean isOpen() {
+        return openCount.get() != 0 && state.get().depth != 0;
+    }
+
+    /**
+     * Schedules the notification to be performed when the outermost batch is closed. Must be called only when
+     * {@link #isOpen()} returns {@code true}.
+     *
+     * @param key Observable which listeners are notified. Only the first notification of the key is performed.
+     * @param notification Notification task.
+     */
+    public static void defer(Object key, Runnable notification) {
+        final State s = state.get();
+        if (s.keys.put(key, Boolean.TRUE) == null) {
+            s.actions.add(notification);
+        }
+    }
+
+    /**
+     * Runs the specified task in a batch. If the batch is the outermost one on the current thread, the deferred
+     * notifications are performed after the task completes (even if it completes abruptly).
+     *
+     * @param body Task to run. Not null.
+     */
+    public static void run(Runnable body) {
+        Objects.requireNonNull(body, "body");
+        final State s = state.get();
+        if (s.depth++ == 0) {
+            openCount.incrementAndGet();
+        }
+        boolean completed = false;
+        try {
+            body.run();
+            completed = true;
+        } finally {
+            if (--s.depth == 0) {
+                openCount.decrementAndGet();
+                flush(s, completed);
+            }
+        }
+    }
+
+    private static void flush(State s, boolean rethrow) {
+        // the batch is closed, so changes made by the listeners are not deferred
+        final List<Runnable> actions = new ArrayList<>(s.actions);
+        s.actions.clear();
+        s.keys.clear();
+        final RuntimeException[] error = new RuntimeException[1];
+        // invalidate everything first, so each dependent binding is recomputed once
+        Propagation.runWave(() -> {
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    // do not lose notifications of other observables
+                    if (error[0] == null) {
+                        error[0] = e;
+                    } else {
+                        error[0].addSuppressed(e);
+                    }
+                }
+            }
+        });
+        if (error[0] != null) {
+            if (rethrow) {
+                throw error[0];
+            }
+            // do not hide the exception of the batch body
+            Logging.getLogger().log(Level.WARNING, "Exception in listener notification.", error[0]);
+        }
+    }
+}
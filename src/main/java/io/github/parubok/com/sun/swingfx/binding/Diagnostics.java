@@ -0,0 +1,365 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.property.ReadOnlyProperty;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects statistics of the events fired by the listener helpers: the number of listeners and the rate of events of
+ * each observable, the wall time spent in each listener, and the longest chains of nested events (an event fired
+ * while a listener of another event is running).
+ * <p>
+ * When disabled, the helpers skip the collection after reading a single volatile field. The observables and the
+ * listeners are referenced weakly. The statistics of a listener are kept per observable, so a listener registered on
+ * several observables is reported separately for each of them.
+ * </p>
+ * <p>
+ * In the glitch-free mode (see {@link Propagation}) the change listeners are notified after the invalidation wave;
+ * such deferred notifications are reported by {@link #deferredFireStarted(Object)}, so the chains reflect where the
+ * change listeners actually run.
+ * </p>
+ */
+public final class Diagnostics {
+    /**
+     * Max. number of the reported slowest listeners and longest chains.
+     */
+    static final int TOP_SIZE = 10;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+        /**
+         * Observable which listeners map contains this key, {@code null} for the keys of the observables.
+         */
+        final ObservableStats owner;
+
+        /**
+         * @param queue Queue of the stored keys, {@code null} for the lookup keys.
+         */
+        Key(Object referent, ReferenceQueue<Object> queue) {
+            this(referent, queue, null);
+        }
+
+        Key(Object referent, ReferenceQueue<Object> queue, ObservableStats owner) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+            this.owner = owner;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((Key) o).get();
+        }
+    }
+
+    private static final class ObservableStats {
+        final String name;
+        int listenerCount;
+        long windowStart;
+        long windowFires;
+        double firesPerSecond;
+        final Map<Key, ListenerStats> listeners = new HashMap<>();
+
+        ObservableStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class ListenerStats {
+        final String name;
+        long calls;
+        long totalNanos;
+        long maxNanos;
+
+        ListenerStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    /**
+     * Guards the statistics.
+     */
+    private static final Object lock = new Object();
+    private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private static final Map<Key, ObservableStats> observables = new HashMap<>();
+    private static final List<String[]> chains = new ArrayList<>();
+
+    /**
+     * Observables which events are being fired on the current thread, outermost first.
+     */
+    private static final ThreadLocal<List<ObservableStats>> stack = ThreadLocal.withInitial(ArrayList::new);
+
+    private Diagnostics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Diagnostics.enabled = enabled;
+    }
+
+    /**
+     * Clears the collected statistics.
+     */
+    public static void reset() {
+        synchronized (lock) {
+            observables.clear();
+            chains.clear();
+            while (queue.poll() != null) {
+                // drop
+            }
+        }
+    }
+
+    /**
+     * Must be called before the listeners of the observable are notified, if {@link #isEnabled()} returns
+     * {@code true}. Must be followed by {@link #fireCompleted()}.
+     */
+    public static void fireStarted(Object observable, int listenerCount) {
+        final List<ObservableStats> s = stack.get();
+        final long now = System.nanoTime();
+        synchronized (lock) {
+            final ObservableStats stats = observableStats(observable);
+            stats.listenerCount = listenerCount;
+            if (stats.windowStart == 0L) {
+                stats.windowStart = now;
+            }
+            stats.windowFires++;
+            final long elapsed = now - stats.windowStart;
+            if (elapsed >= WINDOW_NANOS) {
+                stats.firesPerSecond = stats.windowFires * (double) WINDOW_NANOS / elapsed;
+                stats.windowStart = now;
+                stats.windowFires = 0L;
+            }
+            push(s, stats);
+        }
+    }
+
+    /**
+     * Must be called before the change listeners of the observable are notified at the end of a glitch-free wave, if
+     * {@link #isEnabled()} returns {@code true}. Unlike {@link #fireStarted(Object, int)}, does not count an event of
+     * the observable, since the event was counted when the observable was invalidated. Must be followed by
+     * {@link #fireCompleted()}.
+     */
+    public static void deferredFireStarted(Object observable) {
+        final List<ObservableStats> s = stack.get();
+        synchronized (lock) {
+            push(s, observableStats(observable));
+        }
+    }
+
+    private static void push(List<ObservableStats> s, ObservableStats stats) {
+        s.add(stats);
+        if (s.size() > 1) {
+            recordChain(s);
+        }
+    }
+
+    public static void fireCompleted() {
+        final List<ObservableStats> s = stack.get();
+        if (!s.isEmpty()) {
+            // the collection may have been enabled during the event
+            s.remove(s.size() - 1);
+        }
+    }
+
+    /**
+     * @return Start time to pass to {@link #listenerCompleted(Object, Object, long)} or 0 if the collection is
+     * disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the wall time of a listener call.
+     *
+     * @param start Value returned by {@link #start()} before the call.
+     */
+    public static void listenerCompleted(Object observable, Object listener, long start) {
+        if (start == 0L) {
+            return;
+        }
+        final long nanos = System.nanoTime() - start;
+        synchronized (lock) {
+            final ObservableStats observableStats = observableStats(observable);
+            ListenerStats stats = observableStats.listeners.get(new Key(listener, null));
+            if (stats == null) {
+                stats = new ListenerStats(name(listener) + " on " + observableStats.name);
+                observableStats.listeners.put(new Key(listener, queue, observableStats), stats);
+            }
+            stats.calls++;
+            stats.totalNanos += nanos;
+            stats.maxNanos = Math.max(stats.maxNanos, nanos);
+        }
+    }
+
+    /**
+     * @return Number of listeners of each observable, as of its last event.
+     */
+    public static Map<String, Integer> getListenerCounts() {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        synchronized (lock) {
+            expunge();
+            for (ObservableStats stats : observables.values()) {
+                result.put(stats.name, stats.listenerCount);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Number of events per second of each observable, measured over the last completed window of about one
+     * second, or over the current window if there is no completed one.
+     */
+    public static Map<String, Double> getFiresPerSecond() {
+        final long now = System.nanoTime();
+        final Map<String, Double> result = new LinkedHashMap<>();
+        synchronized (lock) {
+            expunge();
+            for (ObservableStats stats : observables.values()) {
+                final double rate;
+                if (stats.firesPerSecond > 0.0) {
+                    rate = stats.firesPerSecond;
+                } else {
+                    rate = stats.windowFires * (double) WINDOW_NANOS / Math.max(now - stats.windowStart, WINDOW_NANOS);
+                }
+                result.put(stats.name, rate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Descriptions of the listeners with the longest single call, longest first.
+     */
+    public static List<String> getSlowestListeners() {
+        final List<ListenerStats> all = new ArrayList<>();
+        synchronized (lock) {
+            expunge();
+            for (ObservableStats stats : observables.values()) {
+                all.addAll(stats.listeners.values());
+            }
+        }
+        all.sort(Comparator.comparingLong((ListenerStats stats) -> stats.maxNanos).reversed());
+        final List<String> result = new ArrayList<>();
+        for (ListenerStats stats : all.subList(0, Math.min(TOP_SIZE, all.size()))) {
+            result.add(String.format("%s: max %.3f ms, total %.3f ms, %d calls", stats.name,
+                    stats.maxNanos / 1e6, stats.totalNanos / 1e6, stats.calls));
+        }
+        return result;
+    }
+
+    /**
+     * @return The longest chains of nested events, longest first. Each chain lists the observables from the outermost
+     * one.
+     */
+    public static List<String> getLongestChains() {
+        final List<String> result = new ArrayList<>();
+        synchronized (lock) {
+            for (String[] chain : chains) {
+                result.add(String.join(" -> ", chain));
+            }
+        }
+        return result;
+    }
+
+    private static void recordChain(List<ObservableStats> s) {
+        final int length = s.size();
+        if (chains.size() == TOP_SIZE && chains.get(TOP_SIZE - 1).length >= length) {
+            return;
+        }
+        final String[] chain = new String[length];
+        for (int i = 0; i < length; i++) {
+            chain[i] = s.get(i).name;
+        }
+        for (String[] recorded : chains) {
+            if (isPrefix(chain, recorded)) {
+                return;
+            }
+        }
+        // the same chain went deeper
+        chains.removeIf(recorded -> isPrefix(recorded, chain));
+        int pos = 0;
+        while (pos < chains.size() && chains.get(pos).length >= length) {
+            pos++;
+        }
+        chains.add(pos, chain);
+        if (chains.size() > TOP_SIZE) {
+            chains.remove(TOP_SIZE);
+        }
+    }
+
+    private static boolean isPrefix(String[] prefix, String[] chain) {
+        if (prefix.length > chain.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (!prefix[i].equals(chain[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ObservableStats observableStats(Object observable) {
+        expunge();
+        ObservableStats stats = observables.get(new Key(observable, null));
+        if (stats == null) {
+            stats = new ObservableStats(name(observable));
+            observables.put(new Key(observable, queue), stats);
+        }
+        return stats;
+    }
+
+    private static String name(Object object) {
+        final String name = object.getClass().getSimpleName().isEmpty() ? object.getClass().getName()
+                : object.getClass().getSimpleName();
+        final String id = name + "@" + Integer.toHexString(System.identityHashCode(object));
+        if (object instanceof ReadOnlyProperty) {
+            final String propertyName = ((ReadOnlyProperty<?>) object).getName();
+            if (propertyName != null && !propertyName.isEmpty()) {
+                return id + "[" + propertyName + "]";
+            }
+        }
+        return id;
+    }
+
+    private static void expunge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            // the stale key is equal only to itself
+            final Key key = (Key) ref;
+            if (key.owner != null) {
+                key.owner.listeners.remove(key);
+            } else {
+                observables.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.DoubleChangeListener;
+import io.github.parubok.swingfx.beans.value.ObservableDoubleValue;
+import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
+
+/**
+ * Expression helper of {@link ObservableDoubleValue}, which notifies {@link DoubleChangeListener}s in addition to
+ * {@link InvalidationListener}s and {@link ChangeListener}s. See {@link PrimitiveExpressionHelper}.
+ * The values are compared by {@link Double#doubleToLongBits(double)}, so e.g. a change from NaN to NaN is not reported.
+ */
+public final class DoubleExpressionHelper {
+
+    private static final PrimitiveExpressionHelper.ValueType TYPE = new PrimitiveExpressionHelper.ValueType() {
+        @Override
+        long read(ObservableNumberValue observable) {
+            return Double.doubleToLongBits(((ObservableDoubleValue) observable).get());
+        }
+
+        @Override
+        Number box(long bits) {
+            return Double.longBitsToDouble(bits);
+        }
+
+        @Override
+        void changed(Object listener, ObservableNumberValue observable, long oldBits, long newBits) {
+            ((DoubleChangeListener) listener).changed((ObservableDoubleValue) observable,
+                    Double.longBitsToDouble(oldBits), Double.longBitsToDouble(newBits));
+        }
+    };
+
+    private DoubleExpressionHelper() {
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableDoubleValue observable,
+            InvalidationListener listener) {
+        return PrimitiveExpressionHelper.addInvalidationListener(helper, observable, TYPE, listener);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, InvalidationListener listener) {
+        return PrimitiveExpressionHelper.removeInvalidationListener(helper, listener);
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableDoubleValue observable,
+            ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper addPrimitiveListener(PrimitiveExpressionHelper helper,
+            ObservableDoubleValue observable, DoubleChangeListener listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, true);
+    }
+
+    public static PrimitiveExpressionHelper removePrimitiveListener(PrimitiveExpressionHelper helper, DoubleChangeListener listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, true);
+    }
+
+    public static void fireValueChangedEvent(PrimitiveExpressionHelper helper) {
+        PrimitiveExpressionHelper.fireValueChangedEvent(helper);
+    }
+}
@@ -26,10 +26,10 @@
 package io.github.parubok.com.sun.swingfx.binding;
 
 import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.Observable;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -40,6 +40,9 @@ import java.util.Objects;
  * This implementation can handle adding and removing listeners while the
  * observers are being notified, but it is not thread-safe.
  *
+ * In the glitch-free mode (see {@link Propagation}) the change listeners are
+ * notified after the invalidation wave.
+ *
  *
  */
 public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
@@ -78,7 +81,16 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
         if (helper != null) {
-            helper.fireValueChangedEvent();
+            if (Diagnostics.isEnabled()) {
+                Diagnostics.fireStarted(helper.observable, helper.getListenerCount());
+                try {
+                    helper.fireValueChangedEvent();
+                } finally {
+                    Diagnostics.fireCompleted();
+                }
+            } else {
+                helper.fireValueChangedEvent();
+            }
         }
     }
 
@@ -99,6 +111,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent();
 
+    protected abstract int getListenerCount();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -131,13 +145,27 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent() {
-            listener.invalidated(observable);
+            final boolean wave = Propagation.enter();
+            try {
+                final long start = Diagnostics.start();
+                listener.invalidated(observable);
+                Diagnostics.listenerCompleted(observable, listener, start);
+            } finally {
+                if (wave) {
+                    Propagation.exit();
+                }
+            }
         }
     }
 
-    private static class SingleChange<T> extends ExpressionHelper<T> {
+    private static class SingleChange<T> extends ExpressionHelper<T> implements Propagation.Notification {
 
         private final ChangeListener<? super T> listener;
         private T currentValue;
@@ -168,99 +196,95 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             return (listener.equals(this.listener))? null : this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent() {
+            if (Propagation.enter()) {
+                try {
+                    Propagation.defer(this);
+                } finally {
+                    Propagation.exit();
+                }
+            } else {
+                fireChange();
+            }
+        }
+
+        @Override
+        public Observable getObservable() {
+            return observable;
+        }
+
+        @Override
+        public void fireChange() {
             final T oldValue = currentValue;
             currentValue = observable.getValue();
             if (!Objects.equals(oldValue, currentValue)) {
+                final long start = Diagnostics.start();
                 listener.changed(observable, oldValue, currentValue);
+                Diagnostics.listenerCompleted(observable, listener, start);
             }
         }
     }
 
-    private static class Generic<T> extends ExpressionHelper<T> {
+    private static class Generic<T> extends ExpressionHelper<T> implements Propagation.Notification {
 
-        private InvalidationListener[] invalidationListeners;
-        private ChangeListener<? super T>[] changeListeners;
-        private int invalidationSize;
-        private int changeSize;
+        private ListenerList invalidationListeners;
+        private ListenerList changeListeners;
         private boolean locked;
         private T currentValue;
 
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
             super(observable);
-            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
-            this.invalidationSize = 2;
+            this.invalidationListeners = new ListenerList(listener0, listener1);
         }
 
         private Generic(ObservableValue<T> observable, ChangeListener<? super T> listener0, ChangeListener<? super T> listener1) {
             super(observable);
-            this.changeListeners = new ChangeListener[] {listener0, listener1};
-            this.changeSize = 2;
+            this.changeListeners = new ListenerList(listener0, listener1);
             this.currentValue = observable.getValue();
         }
 
         private Generic(ObservableValue<T> observable, InvalidationListener invalidationListener, ChangeListener<? super T> changeListener) {
             super(observable);
-            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
-            this.invalidationSize = 1;
-            this.changeListeners = new ChangeListener[] {changeListener};
-            this.changeSize = 1;
+            this.invalidationListeners = new ListenerList(invalidationListener);
+            this.changeListeners = new ListenerList(changeListener);
             this.currentValue = observable.getValue();
         }
 
+        private static int size(ListenerList list) {
+            return (list == null) ? 0 : list.size();
+        }
+
+        private static int end(ListenerList list) {
+            return (list == null) ? 0 : list.getEnd();
+        }
+
         @Override
         protected ExpressionHelper.Generic<T> addListener(InvalidationListener listener) {
             if (invalidationListeners == null) {
-                invalidationListeners = new InvalidationListener[] {listener};
-                invalidationSize = 1;
+                invalidationListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = invalidationListeners.length;
-                if (locked) {
-                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                    }
-                }
-                invalidationListeners[invalidationSize++] = listener;
+                invalidationListeners.add(listener, locked);
             }
             return this;
         }
 
         @Override
         protected ExpressionHelper<T> removeListener(InvalidationListener listener) {
-            if (invalidationListeners != null) {
-                for (int index = 0; index < invalidationSize; index++) {
-                    if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new ExpressionHelper.SingleChange<T>(observable, changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new ExpressionHelper.SingleInvalidation<T>(observable, invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (invalidationListeners != null && invalidationListeners.remove(listener, locked)) {
+                final int invalidationSize = invalidationListeners.size();
+                if (invalidationSize == 0) {
+                    invalidationListeners = null;
+                    if (size(changeListeners) == 1) {
+                        return new ExpressionHelper.SingleChange<T>(observable, changeListener(changeListeners.first()));
                     }
+                } else if ((invalidationSize == 1) && (size(changeListeners) == 0)) {
+                    return new ExpressionHelper.SingleInvalidation<T>(observable, (InvalidationListener) invalidationListeners.first());
                 }
             }
             return this;
@@ -269,23 +293,11 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         @Override
         protected ExpressionHelper<T> addListener(ChangeListener<? super T> listener) {
             if (changeListeners == null) {
-                changeListeners = new ChangeListener[] {listener};
-                changeSize = 1;
+                changeListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = changeListeners.length;
-                if (locked) {
-                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                    }
-                }
-                changeListeners[changeSize++] = listener;
+                changeListeners.add(listener, locked);
             }
-            if (changeSize == 1) {
+            if (changeListeners.size() == 1) {
                 currentValue = observable.getValue();
             }
             return this;
@@ -293,62 +305,114 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> removeListener(ChangeListener<? super T> listener) {
-            if (changeListeners != null) {
-                for (int index = 0; index < changeSize; index++) {
-                    if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new ExpressionHelper.SingleInvalidation<T>(observable, invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new ExpressionHelper.SingleChange<T>(observable, changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final ChangeListener<? super T>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new ChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (changeListeners != null && changeListeners.remove(listener, locked)) {
+                final int changeSize = changeListeners.size();
+                if (changeSize == 0) {
+                    changeListeners = null;
+                    if (size(invalidationListeners) == 1) {
+                        return new ExpressionHelper.SingleInvalidation<T>(observable, (InvalidationListener) invalidationListeners.first());
                     }
+                } else if ((changeSize == 1) && (size(invalidationListeners) == 0)) {
+                    return new ExpressionHelper.SingleChange<T>(observable, changeListener(changeListeners.first()));
                 }
             }
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        private ChangeListener<? super T> changeListener(Object listener) {
+            return (ChangeListener<? super T>) listener;
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return size(invalidationListeners) + size(changeListeners);
+        }
+
         @Override
         protected void fireValueChangedEvent() {
-            final InvalidationListener[] curInvalidationList = invalidationListeners;
-            final int curInvalidationSize = invalidationSize;
-            final ChangeListener<? super T>[] curChangeList = changeListeners;
-            final int curChangeSize = changeSize;
+            final Object[] curInvalidationList = (invalidationListeners == null) ? null : invalidationListeners.getListeners();
+            final int curInvalidationEnd = end(invalidationListeners);
+            final Object[] curChangeList = (changeListeners == null) ? null : changeListeners.getListeners();
+            final int curChangeEnd = end(changeListeners);
 
+            final boolean wave = Propagation.enter();
             try {
-                locked = true;
-                for (int i = 0; i < curInvalidationSize; i++) {
-                    curInvalidationList[i].invalidated(observable);
+                final boolean wasLocked = locked;
+                try {
+                    locked = true;
+                    for (int i = 0; i < curInvalidationEnd; i++) {
+                        final InvalidationListener listener = (InvalidationListener) curInvalidationList[i];
+                        if (listener != null) {
+                            final long start = Diagnostics.start();
+                            listener.invalidated(observable);
+                            Diagnostics.listenerCompleted(observable, listener, start);
+                        }
+                    }
+                } finally {
+                    locked = wasLocked;
+                    reap();
+                }
+                if (curChangeEnd > 0) {
+                    if (wave) {
+                        Propagation.defer(this);
+                    } else {
+                        fireChange(curChangeList, curChangeEnd);
+                    }
                 }
-                if (curChangeSize > 0) {
-                    final T oldValue = currentValue;
-                    currentValue = observable.getValue();
-                    if (!Objects.equals(oldValue, currentValue)) {
-                        for (int i = 0; i < curChangeSize; i++) {
-                            curChangeList[i].changed(observable, oldValue, currentValue);
+            } finally {
+                if (wave) {
+                    Propagation.exit();
+                }
+            }
+        }
+
+        @Override
+        public Observable getObservable() {
+            return observable;
+        }
+
+        @Override
+        public void fireChange() {
+            fireChange((changeListeners == null) ? null : changeListeners.getListeners(), end(changeListeners));
+        }
+
+        private void fireChange(Object[] curChangeList, int curChangeEnd) {
+            if (curChangeEnd == 0) {
+                return;
+            }
+            final boolean wasLocked = locked;
+            try {
+                locked = true;
+                final T oldValue = currentValue;
+                currentValue = observable.getValue();
+                if (!Objects.equals(oldValue, currentValue)) {
+                    for (int i = 0; i < curChangeEnd; i++) {
+                        final ChangeListener<? super T> listener = changeListener(curChangeList[i]);
+                        if (listener != null) {
+                            final long start = Diagnostics.start();
+                            listener.changed(observable, oldValue, currentValue);
+                            Diagnostics.listenerCompleted(observable, listener, start);
                         }
                     }
                 }
             } finally {
-                locked = false;
+                locked = wasLocked;
+                reap();
+            }
+        }
+
+        /**
+         * Removes the garbage collected weak listeners after the outermost event is fired.
+         */
+        private void reap() {
+            if (!locked) {
+                if (invalidationListeners != null) {
+                    invalidationListeners.reap();
+                }
+                if (changeListeners != null) {
+                    changeListeners.reap();
+                }
             }
         }
     }
@@ -27,24 +27,40 @@ package io.github.parubok.com.sun.swingfx.binding;
 
 import io.github.parubok.swingfx.beans.WeakListener;
 
+import java.util.Arrays;
+
 /**
  */
 public class ExpressionHelperBase {
 
+    /**
+     * Removes the garbage collected weak listeners, keeping the order of the remaining listeners.
+     *
+     * @return New number of listeners.
+     */
     protected static int trim(int size, Object[] listeners) {
+        int newSize = 0;
         for (int index = 0; index < size; index++) {
             final Object listener = listeners[index];
-            if (listener instanceof WeakListener) {
-                if (((WeakListener)listener).wasGarbageCollected()) {
-                    final int numMoved = size - index - 1;
-                    if (numMoved > 0)
-                        System.arraycopy(listeners, index+1, listeners, index, numMoved);
-                    listeners[--size] = null; // Let gc do its work
-                    index--;
-                }
+            if (!isGarbageCollected(listener)) {
+                listeners[newSize++] = listener;
             }
         }
-        return size;
+        Arrays.fill(listeners, newSize, size, null); // Let gc do its work
+        return newSize;
+    }
+
+    /**
+     * Decides whether the listener array must grow after it was trimmed. The array grows unless more than a quarter of
+     * it is free after the trimming, so the next trimming happens only after a number of additions proportional to the
+     * capacity, i.e. the cost of the trimming is amortized over the additions.
+     */
+    protected static boolean needsGrowth(int size, int capacity) {
+        return size > capacity - capacity / 4 - 1;
+    }
+
+    protected static boolean isGarbageCollected(Object listener) {
+        return (listener instanceof WeakListener) && ((WeakListener) listener).wasGarbageCollected();
     }
 
 }
@@ -0,0 +1,67 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.FloatChangeListener;
+import io.github.parubok.swingfx.beans.value.ObservableFloatValue;
+import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
+
+/**
+ * Expression helper of {@link ObservableFloatValue}, which notifies {@link FloatChangeListener}s in addition to
+ * {@link InvalidationListener}s and {@link ChangeListener}s. See {@link PrimitiveExpressionHelper}.
+ * The values are compared by {@link Float#floatToIntBits(float)}, so e.g. a change from NaN to NaN is not reported.
+ */
+public final class FloatExpressionHelper {
+
+    private static final PrimitiveExpressionHelper.ValueType TYPE = new PrimitiveExpressionHelper.ValueType() {
+        @Override
+        long read(ObservableNumberValue observable) {
+            return Float.floatToIntBits(((ObservableFloatValue) observable).get());
+        }
+
+        @Override
+        Number box(long bits) {
+            return Float.intBitsToFloat((int) bits);
+        }
+
+        @Override
+        void changed(Object listener, ObservableNumberValue observable, long oldBits, long newBits) {
+            ((FloatChangeListener) listener).changed((ObservableFloatValue) observable,
+                    Float.intBitsToFloat((int) oldBits), Float.intBitsToFloat((int) newBits));
+        }
+    };
+
+    private FloatExpressionHelper() {
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableFloatValue observable,
+            InvalidationListener listener) {
+        return PrimitiveExpressionHelper.addInvalidationListener(helper, observable, TYPE, listener);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, InvalidationListener listener) {
+        return PrimitiveExpressionHelper.removeInvalidationListener(helper, listener);
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableFloatValue observable,
+            ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper addPrimitiveListener(PrimitiveExpressionHelper helper,
+            ObservableFloatValue observable, FloatChangeListener listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, true);
+    }
+
+    public static PrimitiveExpressionHelper removePrimitiveListener(PrimitiveExpressionHelper helper, FloatChangeListener listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, true);
+    }
+
+    public static void fireValueChangedEvent(PrimitiveExpressionHelper helper) {
+        PrimitiveExpressionHelper.fireValueChangedEvent(helper);
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.binding.Binding;
+import io.github.parubok.swingfx.beans.value.ObservableValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the bindings created by the factory methods of {@code Bindings}. When enabled, a factory method returns
+ * the existing binding if a binding of the same operation over the same operands is still alive.
+ * <p>
+ * The operands are compared by identity, except numeric constants, which are compared by value. The registry
+ * references the bindings weakly, so a binding is removed when it is garbage collected.
+ * </p>
+ */
+public final class Interning {
+
+    private static final class Key {
+        private final Object[] parts;
+        private final int hash;
+
+        Key(Object[] parts) {
+            this.parts = parts;
+            int h = 1;
+            for (int i = 0; i < parts.length; i++) {
+                final Object part = parts[i] = normalize(parts[i]);
+                h = 31 * h + (isValue(part) ? part.hashCode() : System.identityHashCode(part));
+            }
+            this.hash = h;
+        }
+
+        private static Object normalize(Object part) {
+            if (NumberOperations.isConstant(part)) {
+                // boxed value - Integer 1 is not equal to Long 1, as the constants are of different types
+                return ((ObservableValue<?>) part).getValue();
+            }
+            return part;
+        }
+
+        private static boolean isValue(Object part) {
+            return (part instanceof Number) || (part instanceof String) || (part instanceof Enum);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            if (hash != other.hash || parts.length != other.parts.length) {
+                return false;
+            }
+            for (int i = 0; i < parts.length; i++) {
+                final Object a = parts[i];
+                final Object b = other.parts[i];
+                if (a != b && !(isValue(a) && a.equals(b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(parts);
+        }
+    }
+
+    private static final class Entry extends WeakReference<Binding<?>> {
+        final Key key;
+
+        Entry(Key key, Binding<?> binding, ReferenceQueue<Binding<?>> queue) {
+            super(binding, queue);
+            this.key = key;
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    /**
+     * Guarded by itself.
+     */
+    private static final Map<Key, Entry> bindings = new HashMap<>();
+    private static final ReferenceQueue<Binding<?>> queue = new ReferenceQueue<>();
+
+    private Interning() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Interning.enabled = enabled;
+        if (!enabled) {
+            synchronized (bindings) {
+                bindings.clear();
+                while (queue.poll() != null) {
+                    // drop
+                }
+            }
+        }
+    }
+
+    /**
+     * @param factory Creates a new binding.
+     * @param key Operation (e.g. enum constant or name) followed by the operands and other parameters of the binding.
+     * @return Existing binding for the key if interning is enabled and such binding is alive, otherwise new binding
+     * created by the factory.
+     */
+    @SuppressWarnings("unchecked")
+    public static <B extends Binding<?>> B intern(Supplier<B> factory, Object... key) {
+        if (!enabled) {
+            return factory.get();
+        }
+        final Key k = new Key(key);
+        synchronized (bindings) {
+            expunge();
+            final Entry entry = bindings.get(k);
+            final Binding<?> existing = (entry != null) ? entry.get() : null;
+            if (existing != null) {
+                return (B) existing;
+            }
+            final B binding = factory.get();
+            bindings.put(k, new Entry(k, binding, queue));
+            return binding;
+        }
+    }
+
+    private static void expunge() {
+        Reference<? extends Binding<?>> ref;
+        while ((ref = queue.poll()) != null) {
+            final Entry entry = (Entry) ref;
+            // the key may be mapped to a newer entry
+            bindings.remove(entry.key, entry);
+        }
+    }
+}
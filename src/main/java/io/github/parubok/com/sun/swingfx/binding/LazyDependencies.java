@@ -0,0 +1,95 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.binding.Binding;
+
+import java.util.Arrays;
+
+/**
+ * Dependencies of a binding created in the lazy mode. The binding observes its dependencies only while it is attached:
+ * the binding attaches when it gets a listener or its value is requested, and detaches when its last listener is
+ * removed. A detached binding is invalid, so its value is recomputed on the next request.
+ */
+public final class LazyDependencies {
+    private static final Observable[] EMPTY = new Observable[0];
+
+    private static volatile boolean enabled;
+
+    private final BindingHelperObserver observer;
+    private Observable[] dependencies = EMPTY;
+    private boolean attached;
+
+    public LazyDependencies(Binding<?> binding) {
+        this.observer = new BindingHelperObserver(binding);
+    }
+
+    /**
+     * @return {@code true} if the bindings which start observing their dependencies should be lazy.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        LazyDependencies.enabled = enabled;
+    }
+
+    public boolean isAttached() {
+        return attached;
+    }
+
+    public void add(Observable... added) {
+        final int oldLength = dependencies.length;
+        dependencies = Arrays.copyOf(dependencies, oldLength + added.length);
+        System.arraycopy(added, 0, dependencies, oldLength, added.length);
+        if (attached) {
+            for (Observable dep : added) {
+                if (dep != null) {
+                    dep.addListener(observer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the first occurrence of each specified dependency.
+     */
+    public void remove(Observable... removed) {
+        for (Observable dep : removed) {
+            for (int i = 0; i < dependencies.length; i++) {
+                if (dependencies[i] == dep) {
+                    final Observable[] newDependencies = new Observable[dependencies.length - 1];
+                    System.arraycopy(dependencies, 0, newDependencies, 0, i);
+                    System.arraycopy(dependencies, i + 1, newDependencies, i, newDependencies.length - i);
+                    dependencies = newDependencies;
+                    if (attached && dep != null) {
+                        dep.removeListener(observer);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    public void attach() {
+        if (!attached) {
+            attached = true;
+            for (Observable dep : dependencies) {
+                if (dep != null) {
+                    dep.addListener(observer);
+                }
+            }
+        }
+    }
+
+    public void detach() {
+        if (attached) {
+            attached = false;
+            for (Observable dep : dependencies) {
+                if (dep != null) {
+                    dep.removeListener(observer);
+                }
+            }
+        }
+    }
+}
@@ -371,7 +371,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
+                    if (needsGrowth(invalidationSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
@@ -430,7 +430,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
+                    if (needsGrowth(changeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
@@ -492,7 +492,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     listChangeListeners = Arrays.copyOf(listChangeListeners, newCapacity);
                 } else if (listChangeSize == oldCapacity) {
                     listChangeSize = trim(listChangeSize, listChangeListeners);
-                    if (listChangeSize == oldCapacity) {
+                    if (needsGrowth(listChangeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         listChangeListeners = Arrays.copyOf(listChangeListeners, newCapacity);
                     }
@@ -0,0 +1,233 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Array of listeners of a single kind, with the same semantics as the listener arrays of the original
+ * {@code ExpressionHelper.Generic}: the listeners are notified in the order of registration, and while the owner is
+ * locked (i.e. is firing an event) modifications do not affect the iteration over the array obtained via
+ * {@link #getListeners()} before the modification.
+ * <p>
+ * A removed listener leaves a hole ({@code null}) in the array. The holes are compacted when they take more than half
+ * of the used part of the array. When the list holds more than {@link #INDEX_THRESHOLD} listeners, their positions
+ * are indexed by identity, so removal of a registered listener does not scan the array.
+ * </p>
+ */
+public final class ListenerList {
+    /**
+     * Number of listeners above which the positions of the listeners are indexed.
+     */
+    static final int INDEX_THRESHOLD = 32;
+
+    private Object[] listeners;
+    /**
+     * Number of used elements of the array, including the holes.
+     */
+    private int end;
+    private int size;
+    /**
+     * {@code true} if the array was handed out for iteration, so it is copied before it is modified while the owner
+     * is locked.
+     */
+    private boolean shared;
+    /**
+     * {@code true} if a garbage collected weak listener tried to remove itself while the owner was locked.
+     */
+    private boolean reapPending;
+    /**
+     * Position of the first occurrence of each listener, or {@code null} if the list is small.
+     */
+    private Map<Object, Integer> index;
+    /**
+     * Number of extra occurrences of the listeners registered more than once, valid when {@link #index} is not null.
+     */
+    private int duplicates;
+
+    public ListenerList(Object listener) {
+        this.listeners = new Object[] {listener};
+        this.end = 1;
+        this.size = 1;
+    }
+
+    public ListenerList(Object listener0, Object listener1) {
+        this.listeners = new Object[] {listener0, listener1};
+        this.end = 2;
+        this.size = 2;
+    }
+
+    /**
+     * @return Number of listeners.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Array with the listeners at indexes [0, {@link #getEnd()}). Removed listeners leave {@code null}
+     * elements, which must be skipped. The array must not be modified.
+     */
+    public Object[] getListeners() {
+        shared = true;
+        return listeners;
+    }
+
+    /**
+     * @return Number of elements of the array returned by {@link #getListeners()} to iterate.
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return The first listener or {@code null} if the list is empty.
+     */
+    public Object first() {
+        for (int i = 0; i < end; i++) {
+            if (listeners[i] != null) {
+                return listeners[i];
+            }
+        }
+        return null;
+    }
+
+    public void add(Object listener, boolean locked) {
+        if (end == listeners.length) {
+            compact(locked && shared);
+            if (ExpressionHelperBase.needsGrowth(end, listeners.length)) {
+                listeners = Arrays.copyOf(listeners, (listeners.length * 3) / 2 + 1);
+                shared = false;
+            }
+        }
+        // the iteration over a handed out array stops at the old end, so the slot may be used without copying
+        listeners[end] = listener;
+        if (index != null && index.putIfAbsent(listener, end) != null) {
+            duplicates++;
+        }
+        end++;
+        size++;
+        if (index == null && size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Removes the first listener which is equal to the specified one.
+     *
+     * @return {@code true} if a listener was removed.
+     */
+    public boolean remove(Object listener, boolean locked) {
+        if (locked && ExpressionHelperBase.isGarbageCollected(listener)) {
+            // do not copy the array for each such listener - all of them are removed by reap()
+            reapPending = true;
+            return false;
+        }
+        final int pos = indexOf(listener);
+        if (pos < 0) {
+            return false;
+        }
+        if (locked && shared) {
+            listeners = listeners.clone();
+            shared = false;
+        }
+        final Object removed = listeners[pos];
+        listeners[pos] = null;
+        size--;
+        if (index != null) {
+            unindex(removed, pos);
+        }
+        while (end > 0 && listeners[end - 1] == null) {
+            end--;
+        }
+        if (end - size > end / 2) {
+            compact(false);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the garbage collected weak listeners which tried to remove themselves while the owner was locked. Must
+     * be called when the owner is not locked.
+     */
+    public void reap() {
+        if (reapPending) {
+            reapPending = false;
+            compact(false);
+        }
+    }
+
+    private int indexOf(Object listener) {
+        if (index != null) {
+            final Integer pos = index.get(listener);
+            if (pos != null) {
+                return pos;
+            }
+        }
+        // the listener may be equal, but not identical to the registered one
+        for (int i = 0; i < end; i++) {
+            if (listeners[i] != null && listener.equals(listeners[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void unindex(Object removed, int pos) {
+        final Integer first = index.get(removed);
+        if (first == null || first != pos) {
+            // extra occurrence
+            duplicates--;
+            return;
+        }
+        if (duplicates > 0) {
+            for (int i = pos + 1; i < end; i++) {
+                if (listeners[i] == removed) {
+                    index.put(removed, i);
+                    duplicates--;
+                    return;
+                }
+            }
+        }
+        index.remove(removed);
+    }
+
+    /**
+     * Removes the holes and the garbage collected weak listeners.
+     *
+     * @param copy {@code true} if the array may be iterated, so the result must be stored in a new array.
+     */
+    private void compact(boolean copy) {
+        final Object[] target = copy ? new Object[listeners.length] : listeners;
+        int newEnd = 0;
+        for (int i = 0; i < end; i++) {
+            final Object listener = listeners[i];
+            if (listener != null && !ExpressionHelperBase.isGarbageCollected(listener)) {
+                target[newEnd++] = listener;
+            }
+        }
+        if (copy) {
+            shared = false;
+        } else {
+            Arrays.fill(target, newEnd, end, null); // Let gc do its work
+        }
+        listeners = target;
+        end = newEnd;
+        size = newEnd;
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        duplicates = 0;
+        if (size <= INDEX_THRESHOLD) {
+            index = null;
+            return;
+        }
+        index = new IdentityHashMap<>(size);
+        for (int i = 0; i < end; i++) {
+            if (listeners[i] != null && index.putIfAbsent(listeners[i], i) != null) {
+                duplicates++;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.LongChangeListener;
+import io.github.parubok.swingfx.beans.value.ObservableLongValue;
+import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
+
+/**
+ * Expression helper of {@link ObservableLongValue}, which notifies {@link LongChangeListener}s in addition to
+ * {@link InvalidationListener}s and {@link ChangeListener}s. See {@link PrimitiveExpressionHelper}.
+ */
+public final class LongExpressionHelper {
+
+    private static final PrimitiveExpressionHelper.ValueType TYPE = new PrimitiveExpressionHelper.ValueType() {
+        @Override
+        long read(ObservableNumberValue observable) {
+            return ((ObservableLongValue) observable).get();
+        }
+
+        @Override
+        Number box(long bits) {
+            return bits;
+        }
+
+        @Override
+        void changed(Object listener, ObservableNumberValue observable, long oldBits, long newBits) {
+            ((LongChangeListener) listener).changed((ObservableLongValue) observable,
+                    oldBits, newBits);
+        }
+    };
+
+    private LongExpressionHelper() {
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableLongValue observable,
+            InvalidationListener listener) {
+        return PrimitiveExpressionHelper.addInvalidationListener(helper, observable, TYPE, listener);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, InvalidationListener listener) {
+        return PrimitiveExpressionHelper.removeInvalidationListener(helper, listener);
+    }
+
+    public static PrimitiveExpressionHelper addListener(PrimitiveExpressionHelper helper, ObservableLongValue observable,
+            ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper removeListener(PrimitiveExpressionHelper helper, ChangeListener<? super Number> listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, false);
+    }
+
+    public static PrimitiveExpressionHelper addPrimitiveListener(PrimitiveExpressionHelper helper,
+            ObservableLongValue observable, LongChangeListener listener) {
+        return PrimitiveExpressionHelper.addChangeListener(helper, observable, TYPE, listener, true);
+    }
+
+    public static PrimitiveExpressionHelper removePrimitiveListener(PrimitiveExpressionHelper helper, LongChangeListener listener) {
+        return PrimitiveExpressionHelper.removeChangeListener(helper, listener, true);
+    }
+
+    public static void fireValueChangedEvent(PrimitiveExpressionHelper helper) {
+        PrimitiveExpressionHelper.fireValueChangedEvent(helper);
+    }
+}
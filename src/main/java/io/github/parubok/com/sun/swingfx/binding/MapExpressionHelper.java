@@ -380,7 +380,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
+                    if (needsGrowth(invalidationSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
@@ -437,7 +437,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
+                    if (needsGrowth(changeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
@@ -497,7 +497,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     mapChangeListeners = Arrays.copyOf(mapChangeListeners, newCapacity);
                 } else if (mapChangeSize == oldCapacity) {
                     mapChangeSize = trim(mapChangeSize, mapChangeListeners);
-                    if (mapChangeSize == oldCapacity) {
+                    if (needsGrowth(mapChangeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         mapChangeListeners = Arrays.copyOf(mapChangeListeners, newCapacity);
                     }
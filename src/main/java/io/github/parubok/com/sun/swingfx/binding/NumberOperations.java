@@ -0,0 +1,582 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.com.sun.swingfx.collections.ImmutableObservableList;
+import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.binding.Binding;
+import io.github.parubok.swingfx.beans.binding.BooleanBinding;
+import io.github.parubok.swingfx.beans.binding.DoubleBinding;
+import io.github.parubok.swingfx.beans.binding.FloatBinding;
+import io.github.parubok.swingfx.beans.binding.IntegerBinding;
+import io.github.parubok.swingfx.beans.binding.LongBinding;
+import io.github.parubok.swingfx.beans.binding.NumberBinding;
+import io.github.parubok.swingfx.beans.value.ObservableDoubleValue;
+import io.github.parubok.swingfx.beans.value.ObservableFloatValue;
+import io.github.parubok.swingfx.beans.value.ObservableLongValue;
+import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arithmetic and comparison bindings of numeric values.
+ * <p>
+ * Each binding keeps its operation as a node of an expression tree. Since the operands of an operation may be
+ * operation bindings themselves, an expression like {@code a.add(b).multiply(c).greaterThan(d)} is a tree of bindings,
+ * and {@link #compile(Binding)} fuses such tree into a single binding which observes the leaf operands directly and
+ * evaluates the whole tree without boxing and without intermediate bindings.
+ * </p>
+ */
+public final class NumberOperations {
+
+    public enum Operator {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE, MIN, MAX,
+        EQUAL, NOT_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL;
+
+        boolean isComparison() {
+            return compareTo(EQUAL) >= 0;
+        }
+
+        int apply(int a, int b) {
+            switch (this) {
+                case ADD: return a + b;
+                case SUBTRACT: return a - b;
+                case MULTIPLY: return a * b;
+                case DIVIDE: return a / b;
+                case MIN: return Math.min(a, b);
+                case MAX: return Math.max(a, b);
+                default: throw new AssertionError(this);
+            }
+        }
+
+        long apply(long a, long b) {
+            switch (this) {
+                case ADD: return a + b;
+                case SUBTRACT: return a - b;
+                case MULTIPLY: return a * b;
+                case DIVIDE: return a / b;
+                case MIN: return Math.min(a, b);
+                case MAX: return Math.max(a, b);
+                default: throw new AssertionError(this);
+            }
+        }
+
+        float apply(float a, float b) {
+            switch (this) {
+                case ADD: return a + b;
+                case SUBTRACT: return a - b;
+                case MULTIPLY: return a * b;
+                case DIVIDE: return a / b;
+                case MIN: return Math.min(a, b);
+                case MAX: return Math.max(a, b);
+                default: throw new AssertionError(this);
+            }
+        }
+
+        double apply(double a, double b) {
+            switch (this) {
+                case ADD: return a + b;
+                case SUBTRACT: return a - b;
+                case MULTIPLY: return a * b;
+                case DIVIDE: return a / b;
+                case MIN: return Math.min(a, b);
+                case MAX: return Math.max(a, b);
+                default: throw new AssertionError(this);
+            }
+        }
+
+        boolean test(int a, int b, double epsilon) {
+            switch (this) {
+                case EQUAL: return Math.abs(a - b) <= epsilon;
+                case NOT_EQUAL: return Math.abs(a - b) > epsilon;
+                case GREATER_THAN: return a > b;
+                case GREATER_THAN_OR_EQUAL: return a >= b;
+                default: throw new AssertionError(this);
+            }
+        }
+
+        boolean test(long a, long b, double epsilon) {
+            switch (this) {
+                case EQUAL: return Math.abs(a - b) <= epsilon;
+                case NOT_EQUAL: return Math.abs(a - b) > epsilon;
+                case GREATER_THAN: return a > b;
+                case GREATER_THAN_OR_EQUAL: return a >= b;
+                default: throw new AssertionError(this);
+            }
+        }
+
+        boolean test(float a, float b, double epsilon) {
+            switch (this) {
+                case EQUAL: return Math.abs(a - b) <= epsilon;
+                case NOT_EQUAL: return Math.abs(a - b) > epsilon;
+                case GREATER_THAN: return a > b;
+                case GREATER_THAN_OR_EQUAL: return a >= b;
+                default: throw new AssertionError(this);
+            }
+        }
+
+        boolean test(double a, double b, double epsilon) {
+            switch (this) {
+                case EQUAL: return Math.abs(a - b) <= epsilon;
+                case NOT_EQUAL: return Math.abs(a - b) > epsilon;
+                case GREATER_THAN: return a > b;
+                case GREATER_THAN_OR_EQUAL: return a >= b;
+                default: throw new AssertionError(this);
+            }
+        }
+    }
+
+    /**
+     * Type in which an operation is performed: the widest type of the operands.
+     */
+    enum Kind {
+        INT, LONG, FLOAT, DOUBLE;
+
+        static Kind of(ObservableNumberValue op1, ObservableNumberValue op2) {
+            if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
+                return DOUBLE;
+            } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
+                return FLOAT;
+            } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
+                return LONG;
+            }
+            return INT;
+        }
+    }
+
+    /**
+     * Node of an expression tree. Each operand is either a value (leaf) or a nested operation.
+     */
+    static final class Operation {
+        final Operator operator;
+        final Kind kind;
+        final double epsilon;
+        final ObservableNumberValue value1;
+        final ObservableNumberValue value2;
+        final Operation node1;
+        final Operation node2;
+
+        Operation(Operator operator, Kind kind, double epsilon, ObservableNumberValue value1, Operation node1,
+                  ObservableNumberValue value2, Operation node2) {
+            this.operator = operator;
+            this.kind = kind;
+            this.epsilon = epsilon;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.node1 = node1;
+            this.node2 = node2;
+        }
+
+        int intValue() {
+            switch (kind) {
+                case INT: return operator.apply(intValue(node1, value1), intValue(node2, value2));
+                case LONG: return (int) longValue();
+                case FLOAT: return (int) floatValue();
+                default: return (int) doubleValue();
+            }
+        }
+
+        long longValue() {
+            switch (kind) {
+                case INT: return intValue();
+                case LONG: return operator.apply(longValue(node1, value1), longValue(node2, value2));
+                case FLOAT: return (long) floatValue();
+                default: return (long) doubleValue();
+            }
+        }
+
+        float floatValue() {
+            switch (kind) {
+                case INT: return intValue();
+                case LONG: return longValue();
+                case FLOAT: return operator.apply(floatValue(node1, value1), floatValue(node2, value2));
+                default: return (float) doubleValue();
+            }
+        }
+
+        double doubleValue() {
+            switch (kind) {
+                case INT: return intValue();
+                case LONG: return longValue();
+                case FLOAT: return floatValue();
+                default: return operator.apply(doubleValue(node1, value1), doubleValue(node2, value2));
+            }
+        }
+
+        boolean booleanValue() {
+            switch (kind) {
+                case INT: return operator.test(intValue(node1, value1), intValue(node2, value2), epsilon);
+                case LONG: return operator.test(longValue(node1, value1), longValue(node2, value2), epsilon);
+                case FLOAT: return operator.test(floatValue(node1, value1), floatValue(node2, value2), epsilon);
+                default: return operator.test(doubleValue(node1, value1), doubleValue(node2, value2), epsilon);
+            }
+        }
+
+        /**
+         * @return {@code true} if both operands are constants.
+         */
+        boolean isConstant() {
+            return NumberOperations.isConstant(value1) && NumberOperations.isConstant(value2);
+        }
+
+        /**
+         * @return Constant with the value of this operation.
+         */
+        ObservableNumberValue toConstant() {
+            switch (kind) {
+                case INT: return IntegerConstant.valueOf(intValue());
+                case LONG: return LongConstant.valueOf(longValue());
+                case FLOAT: return FloatConstant.valueOf(floatValue());
+                default: return DoubleConstant.valueOf(doubleValue());
+            }
+        }
+
+        private static int intValue(Operation node, ObservableNumberValue value) {
+            return node != null ? node.intValue() : value.intValue();
+        }
+
+        private static long longValue(Operation node, ObservableNumberValue value) {
+            return node != null ? node.longValue() : value.longValue();
+        }
+
+        private static float floatValue(Operation node, ObservableNumberValue value) {
+            return node != null ? node.floatValue() : value.floatValue();
+        }
+
+        private static double doubleValue(Operation node, ObservableNumberValue value) {
+            return node != null ? node.doubleValue() : value.doubleValue();
+        }
+    }
+
+    /**
+     * Binding which value is calculated by an {@link Operation}.
+     */
+    interface OperationBinding {
+        Operation getOperation();
+    }
+
+    private NumberOperations() {
+    }
+
+    /**
+     * Creates arithmetic binding.
+     *
+     * @param dependencies Operands to observe (i.e. the operands which are not constants).
+     */
+    public static NumberBinding numberBinding(Operator operator, ObservableNumberValue op1, ObservableNumberValue op2,
+                                              Observable... dependencies) {
+        if ((op1 == null) || (op2 == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+        assert !operator.isComparison();
+        assert (dependencies != null) && (dependencies.length > 0);
+        if (Interning.isEnabled()) {
+            final ObservableNumberValue folded1 = fold(op1);
+            final ObservableNumberValue folded2 = fold(op2);
+            final Observable[] foldedDependencies = dependencies(folded1, folded2);
+            return Interning.intern(() -> newBinding(new Operation(operator, Kind.of(folded1, folded2), 0.0,
+                    folded1, null, folded2, null), foldedDependencies), operator, folded1, folded2);
+        }
+        return newBinding(new Operation(operator, Kind.of(op1, op2), 0.0, op1, null, op2, null), dependencies);
+    }
+
+    /**
+     * Creates comparison binding.
+     *
+     * @param epsilon Tolerance for {@link Operator#EQUAL} and {@link Operator#NOT_EQUAL}.
+     * @param dependencies Operands to observe (i.e. the operands which are not constants).
+     */
+    public static BooleanBinding booleanBinding(Operator operator, ObservableNumberValue op1,
+                                                ObservableNumberValue op2, double epsilon,
+                                                Observable... dependencies) {
+        if ((op1 == null) || (op2 == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+        assert operator.isComparison();
+        assert (dependencies != null) && (dependencies.length > 0);
+        if (Interning.isEnabled()) {
+            final ObservableNumberValue folded1 = fold(op1);
+            final ObservableNumberValue folded2 = fold(op2);
+            final Observable[] foldedDependencies = dependencies(folded1, folded2);
+            return Interning.intern(() -> new ComparisonBinding(new Operation(operator, Kind.of(folded1, folded2),
+                    epsilon, folded1, null, folded2, null), foldedDependencies), operator, folded1, folded2, epsilon);
+        }
+        return new ComparisonBinding(new Operation(operator, Kind.of(op1, op2), epsilon, op1, null, op2, null),
+                dependencies);
+    }
+
+    static boolean isConstant(Object value) {
+        return (value instanceof IntegerConstant) || (value instanceof LongConstant)
+                || (value instanceof FloatConstant) || (value instanceof DoubleConstant);
+    }
+
+    /**
+     * @return Constant with the value of the operand if it is an operation binding over constants, otherwise the
+     * operand.
+     */
+    private static ObservableNumberValue fold(ObservableNumberValue operand) {
+        if (operand instanceof OperationBinding) {
+            final Operation operation = ((OperationBinding) operand).getOperation();
+            if (operation.isConstant()) {
+                return operation.toConstant();
+            }
+        }
+        return operand;
+    }
+
+    private static Observable[] dependencies(ObservableNumberValue op1, ObservableNumberValue op2) {
+        if (isConstant(op1)) {
+            return isConstant(op2) ? new Observable[0] : new Observable[] {op2};
+        }
+        return (isConstant(op2) || op1 == op2) ? new Observable[] {op1} : new Observable[] {op1, op2};
+    }
+
+    /**
+     * Fuses the tree of operation bindings with the specified root into a single binding.
+     *
+     * @param binding Root of the tree.
+     * @return New binding which observes the leaf operands of the tree, or the specified binding if it is not an
+     * operation binding or none of its operands is an operation binding.
+     */
+    @SuppressWarnings("unchecked")
+    public static <B extends Binding<?>> B compile(B binding) {
+        if (!(binding instanceof OperationBinding)) {
+            return binding;
+        }
+        final Operation root = ((OperationBinding) binding).getOperation();
+        if (!(root.value1 instanceof OperationBinding) && !(root.value2 instanceof OperationBinding)) {
+            return binding;
+        }
+        final Map<Observable, Boolean> leaves = new IdentityHashMap<>();
+        final List<Observable> dependencies = new ArrayList<>();
+        final Operation compiled = compile(root, leaves, dependencies);
+        final Observable[] dependencyArray = dependencies.toArray(new Observable[0]);
+        return (B) (root.operator.isComparison() ? new ComparisonBinding(compiled, dependencyArray)
+                : newBinding(compiled, dependencyArray));
+    }
+
+    private static Operation compile(Operation operation, Map<Observable, Boolean> leaves,
+                                     List<Observable> dependencies) {
+        ObservableNumberValue value1 = operation.value1;
+        Operation node1 = operation.node1;
+        if (value1 instanceof OperationBinding) {
+            node1 = ((OperationBinding) value1).getOperation();
+            value1 = null;
+        }
+        ObservableNumberValue value2 = operation.value2;
+        Operation node2 = operation.node2;
+        if (value2 instanceof OperationBinding) {
+            node2 = ((OperationBinding) value2).getOperation();
+            value2 = null;
+        }
+        if (node1 != null) {
+            node1 = compile(node1, leaves, dependencies);
+            if (node1.isConstant()) {
+                value1 = node1.toConstant();
+                node1 = null;
+            }
+        } else {
+            addDependency(value1, leaves, dependencies);
+        }
+        if (node2 != null) {
+            node2 = compile(node2, leaves, dependencies);
+            if (node2.isConstant()) {
+                value2 = node2.toConstant();
+                node2 = null;
+            }
+        } else {
+            addDependency(value2, leaves, dependencies);
+        }
+        return new Operation(operation.operator, operation.kind, operation.epsilon, value1, node1, value2, node2);
+    }
+
+    private static void addDependency(ObservableNumberValue value, Map<Observable, Boolean> leaves,
+                                      List<Observable> dependencies) {
+        if (!isConstant(value) && leaves.put(value, Boolean.TRUE) == null) {
+            dependencies.add(value);
+        }
+    }
+
+    private static NumberBinding newBinding(Operation operation, Observable[] dependencies) {
+        switch (operation.kind) {
+            case INT: return new IntegerOperationBinding(operation, dependencies);
+            case LONG: return new LongOperationBinding(operation, dependencies);
+            case FLOAT: return new FloatOperationBinding(operation, dependencies);
+            default: return new DoubleOperationBinding(operation, dependencies);
+        }
+    }
+
+    @ReturnsUnmodifiableCollection
+    private static ObservableList<?> dependencyList(Observable[] dependencies) {
+        if (dependencies.length == 0) {
+            return FXCollections.emptyObservableList();
+        }
+        return (dependencies.length == 1) ?
+                FXCollections.singletonObservableList(dependencies[0])
+                : new ImmutableObservableList<Observable>(dependencies);
+    }
+
+    private static final class IntegerOperationBinding extends IntegerBinding implements OperationBinding {
+        private final Operation operation;
+        private final Observable[] dependencies;
+
+        IntegerOperationBinding(Operation operation, Observable[] dependencies) {
+            this.operation = operation;
+            this.dependencies = dependencies;
+            super.bind(dependencies);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public void dispose() {
+            super.unbind(dependencies);
+        }
+
+        @Override
+        protected int computeValue() {
+            return operation.intValue();
+        }
+
+        @Override
+        @ReturnsUnmodifiableCollection
+        public ObservableList<?> getDependencies() {
+            return dependencyList(dependencies);
+        }
+    }
+
+    private static final class LongOperationBinding extends LongBinding implements OperationBinding {
+        private final Operation operation;
+        private final Observable[] dependencies;
+
+        LongOperationBinding(Operation operation, Observable[] dependencies) {
+            this.operation = operation;
+            this.dependencies = dependencies;
+            super.bind(dependencies);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public void dispose() {
+            super.unbind(dependencies);
+        }
+
+        @Override
+        protected long computeValue() {
+            return operation.longValue();
+        }
+
+        @Override
+        @ReturnsUnmodifiableCollection
+        public ObservableList<?> getDependencies() {
+            return dependencyList(dependencies);
+        }
+    }
+
+    private static final class FloatOperationBinding extends FloatBinding implements OperationBinding {
+        private final Operation operation;
+        private final Observable[] dependencies;
+
+        FloatOperationBinding(Operation operation, Observable[] dependencies) {
+            this.operation = operation;
+            this.dependencies = dependencies;
+            super.bind(dependencies);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public void dispose() {
+            super.unbind(dependencies);
+        }
+
+        @Override
+        protected float computeValue() {
+            return operation.floatValue();
+        }
+
+        @Override
+        @ReturnsUnmodifiableCollection
+        public ObservableList<?> getDependencies() {
+            return dependencyList(dependencies);
+        }
+    }
+
+    private static final class DoubleOperationBinding extends DoubleBinding implements OperationBinding {
+        private final Operation operation;
+        private final Observable[] dependencies;
+
+        DoubleOperationBinding(Operation operation, Observable[] dependencies) {
+            this.operation = operation;
+            this.dependencies = dependencies;
+            super.bind(dependencies);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public void dispose() {
+            super.unbind(dependencies);
+        }
+
+        @Override
+        protected double computeValue() {
+            return operation.doubleValue();
+        }
+
+        @Override
+        @ReturnsUnmodifiableCollection
+        public ObservableList<?> getDependencies() {
+            return dependencyList(dependencies);
+        }
+    }
+
+    private static final class ComparisonBinding extends BooleanBinding implements OperationBinding {
+        private final Operation operation;
+        private final Observable[] dependencies;
+
+        ComparisonBinding(Operation operation, Observable[] dependencies) {
+            this.operation = operation;
+            this.dependencies = dependencies;
+            super.bind(dependencies);
+        }
+
+        @Override
+        public Operation getOperation() {
+            return operation;
+        }
+
+        @Override
+        public void dispose() {
+            super.unbind(dependencies);
+        }
+
+        @Override
+        protected boolean computeValue() {
+            return operation.booleanValue();
+        }
+
+        @Override
+        @ReturnsUnmodifiableCollection
+        public ObservableList<?> getDependencies() {
+            return dependencyList(dependencies);
+        }
+    }
+}
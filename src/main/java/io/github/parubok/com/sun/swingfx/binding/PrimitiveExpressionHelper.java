@@ -0,0 +1,478 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.DoubleChangeListener;
+import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
+
+/**
+ * Counterpart of {@link ExpressionHelper} for the primitive observable values, used via {@link DoubleExpressionHelper},
+ * {@link FloatExpressionHelper}, {@link IntegerExpressionHelper} and {@link LongExpressionHelper}. Keeps the current
+ * value unboxed and, in addition to {@link InvalidationListener} and {@link ChangeListener}, notifies the primitive
+ * change listeners (e.g. {@link DoubleChangeListener}), which receive the values without boxing. The values are boxed
+ * only if there are {@link ChangeListener}s to notify.
+ * <p>
+ * Like {@link ExpressionHelper}, an observable with a single listener uses a specialized implementation. The listeners
+ * of each kind are notified in the order of registration: first the invalidation listeners, then the change listeners
+ * and then the primitive change listeners. This implementation can handle adding and removing listeners while the
+ * observers are being notified, but it is not thread-safe.
+ * </p>
+ * <p>
+ * In the glitch-free mode (see {@link Propagation}) the change listeners are notified after the invalidation wave.
+ * </p>
+ */
+public abstract class PrimitiveExpressionHelper extends ExpressionHelperBase {
+
+    /**
+     * Primitive type of the value. The value is kept as {@code long} bits, which are equal if and only if the values
+     * are equal in the sense of the change notification (e.g. {@link Double#doubleToLongBits(double)} for
+     * {@code double}).
+     */
+    abstract static class ValueType {
+        abstract long read(ObservableNumberValue observable);
+
+        abstract Number box(long bits);
+
+        /**
+         * Notifies the primitive change listener.
+         */
+        abstract void changed(Object listener, ObservableNumberValue observable, long oldBits, long newBits);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    static PrimitiveExpressionHelper addInvalidationListener(PrimitiveExpressionHelper helper,
+            ObservableNumberValue observable, ValueType type, InvalidationListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        type.read(observable); // validate observable
+        return (helper == null) ? new SingleInvalidation(observable, listener) : helper.addInvalidationListener(listener, type);
+    }
+
+    static PrimitiveExpressionHelper removeInvalidationListener(PrimitiveExpressionHelper helper, InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null) ? null : helper.removeInvalidationListener(listener);
+    }
+
+    static PrimitiveExpressionHelper addChangeListener(PrimitiveExpressionHelper helper,
+            ObservableNumberValue observable, ValueType type, Object listener, boolean primitive) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        return (helper == null) ? new SingleChange(observable, type, listener, primitive)
+                : helper.addChangeListener(listener, primitive, type);
+    }
+
+    static PrimitiveExpressionHelper removeChangeListener(PrimitiveExpressionHelper helper, Object listener,
+            boolean primitive) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null) ? null : helper.removeChangeListener(listener, primitive);
+    }
+
+    static void fireValueChangedEvent(PrimitiveExpressionHelper helper) {
+        if (helper != null) {
+            if (Diagnostics.isEnabled()) {
+                Diagnostics.fireStarted(helper.observable, helper.getListenerCount());
+                try {
+                    helper.fireValueChangedEvent();
+                } finally {
+                    Diagnostics.fireCompleted();
+                }
+            } else {
+                helper.fireValueChangedEvent();
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Common implementations
+
+    protected final ObservableNumberValue observable;
+
+    private PrimitiveExpressionHelper(ObservableNumberValue observable) {
+        this.observable = observable;
+    }
+
+    protected abstract PrimitiveExpressionHelper addInvalidationListener(InvalidationListener listener, ValueType type);
+    protected abstract PrimitiveExpressionHelper removeInvalidationListener(InvalidationListener listener);
+
+    /**
+     * @param primitive {@code true} for a primitive change listener, {@code false} for a {@link ChangeListener}.
+     */
+    protected abstract PrimitiveExpressionHelper addChangeListener(Object listener, boolean primitive, ValueType type);
+    protected abstract PrimitiveExpressionHelper removeChangeListener(Object listener, boolean primitive);
+
+    protected abstract void fireValueChangedEvent();
+
+    protected abstract int getListenerCount();
+
+    @SuppressWarnings("unchecked")
+    private static ChangeListener<? super Number> changeListener(Object listener) {
+        return (ChangeListener<? super Number>) listener;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementations
+
+    private static final class SingleInvalidation extends PrimitiveExpressionHelper {
+
+        private final InvalidationListener listener;
+
+        private SingleInvalidation(ObservableNumberValue observable, InvalidationListener listener) {
+            super(observable);
+            this.listener = listener;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper addInvalidationListener(InvalidationListener listener, ValueType type) {
+            final Generic helper = new Generic(observable, type);
+            helper.addInvalidationListener(this.listener, type);
+            return helper.addInvalidationListener(listener, type);
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeInvalidationListener(InvalidationListener listener) {
+            return listener.equals(this.listener) ? null : this;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper addChangeListener(Object listener, boolean primitive, ValueType type) {
+            final Generic helper = new Generic(observable, type);
+            helper.addInvalidationListener(this.listener, type);
+            return helper.addChangeListener(listener, primitive, type);
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeChangeListener(Object listener, boolean primitive) {
+            return this;
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
+        @Override
+        protected void fireValueChangedEvent() {
+            final boolean wave = Propagation.enter();
+            try {
+                final long start = Diagnostics.start();
+                listener.invalidated(observable);
+                Diagnostics.listenerCompleted(observable, listener, start);
+            } finally {
+                if (wave) {
+                    Propagation.exit();
+                }
+            }
+        }
+    }
+
+    private static final class SingleChange extends PrimitiveExpressionHelper implements Propagation.Notification {
+
+        private final ValueType type;
+        private final Object listener;
+        private final boolean primitive;
+        private long currentBits;
+
+        private SingleChange(ObservableNumberValue observable, ValueType type, Object listener, boolean primitive) {
+            this(observable, type, listener, primitive, type.read(observable));
+        }
+
+        private SingleChange(ObservableNumberValue observable, ValueType type, Object listener, boolean primitive,
+                long currentBits) {
+            super(observable);
+            this.type = type;
+            this.listener = listener;
+            this.primitive = primitive;
+            this.currentBits = currentBits;
+        }
+
+        private Generic toGeneric() {
+            final Generic helper = new Generic(observable, type);
+            helper.addChangeListener(listener, primitive, type);
+            helper.currentBits = currentBits;
+            return helper;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper addInvalidationListener(InvalidationListener listener, ValueType type) {
+            return toGeneric().addInvalidationListener(listener, type);
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeInvalidationListener(InvalidationListener listener) {
+            return this;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper addChangeListener(Object listener, boolean primitive, ValueType type) {
+            return toGeneric().addChangeListener(listener, primitive, type);
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeChangeListener(Object listener, boolean primitive) {
+            return ((primitive == this.primitive) && listener.equals(this.listener)) ? null : this;
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
+        @Override
+        protected void fireValueChangedEvent() {
+            if (Propagation.enter()) {
+                try {
+                    Propagation.defer(this);
+                } finally {
+                    Propagation.exit();
+                }
+            } else {
+                fireChange();
+            }
+        }
+
+        @Override
+        public Observable getObservable() {
+            return observable;
+        }
+
+        @Override
+        public void fireChange() {
+            final long oldBits = currentBits;
+            final long newBits = type.read(observable);
+            currentBits = newBits;
+            if (oldBits != newBits) {
+                final long start = Diagnostics.start();
+                if (primitive) {
+                    type.changed(listener, observable, oldBits, newBits);
+                } else {
+                    changeListener(listener).changed(observable, type.box(oldBits), type.box(newBits));
+                }
+                Diagnostics.listenerCompleted(observable, listener, start);
+            }
+        }
+    }
+
+    private static final class Generic extends PrimitiveExpressionHelper implements Propagation.Notification {
+
+        private final ValueType type;
+        private ListenerList invalidationListeners;
+        private ListenerList changeListeners;
+        private ListenerList primitiveListeners;
+        private boolean locked;
+        private long currentBits;
+
+        private Generic(ObservableNumberValue observable, ValueType type) {
+            super(observable);
+            this.type = type;
+        }
+
+        private static ListenerList add(ListenerList list, Object listener, boolean locked) {
+            if (list == null) {
+                return new ListenerList(listener);
+            }
+            list.add(listener, locked);
+            return list;
+        }
+
+        private static ListenerList reap(ListenerList list) {
+            if (list == null) {
+                return null;
+            }
+            list.reap();
+            return (list.size() == 0) ? null : list;
+        }
+
+        private static int size(ListenerList list) {
+            return (list == null) ? 0 : list.size();
+        }
+
+        private static int end(ListenerList list) {
+            return (list == null) ? 0 : list.getEnd();
+        }
+
+        private static Object[] listeners(ListenerList list) {
+            return (list == null) ? null : list.getListeners();
+        }
+
+        @Override
+        protected Generic addInvalidationListener(InvalidationListener listener, ValueType type) {
+            invalidationListeners = add(invalidationListeners, listener, locked);
+            return this;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeInvalidationListener(InvalidationListener listener) {
+            if ((invalidationListeners != null) && invalidationListeners.remove(listener, locked)) {
+                if (invalidationListeners.size() == 0) {
+                    invalidationListeners = null;
+                }
+                return collapse();
+            }
+            return this;
+        }
+
+        @Override
+        protected Generic addChangeListener(Object listener, boolean primitive, ValueType type) {
+            if ((changeListeners == null) && (primitiveListeners == null)) {
+                // start tracking the value
+                currentBits = type.read(observable);
+            }
+            if (primitive) {
+                primitiveListeners = add(primitiveListeners, listener, locked);
+            } else {
+                changeListeners = add(changeListeners, listener, locked);
+            }
+            return this;
+        }
+
+        @Override
+        protected PrimitiveExpressionHelper removeChangeListener(Object listener, boolean primitive) {
+            final ListenerList list = primitive ? primitiveListeners : changeListeners;
+            if ((list != null) && list.remove(listener, locked)) {
+                if (list.size() == 0) {
+                    if (primitive) {
+                        primitiveListeners = null;
+                    } else {
+                        changeListeners = null;
+                    }
+                }
+                return collapse();
+            }
+            return this;
+        }
+
+        /**
+         * @return The specialized implementation if a single listener is left.
+         */
+        private PrimitiveExpressionHelper collapse() {
+            final int invalidationSize = size(invalidationListeners);
+            final int changeSize = size(changeListeners);
+            final int primitiveSize = size(primitiveListeners);
+            if (invalidationSize + changeSize + primitiveSize != 1) {
+                return this;
+            }
+            if (invalidationSize == 1) {
+                return new SingleInvalidation(observable, (InvalidationListener) invalidationListeners.first());
+            }
+            return (changeSize == 1)
+                    ? new SingleChange(observable, type, changeListeners.first(), false, currentBits)
+                    : new SingleChange(observable, type, primitiveListeners.first(), true, currentBits);
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return size(invalidationListeners) + size(changeListeners) + size(primitiveListeners);
+        }
+
+        @Override
+        protected void fireValueChangedEvent() {
+            final Object[] curInvalidationList = listeners(invalidationListeners);
+            final int curInvalidationEnd = end(invalidationListeners);
+            final Object[] curChangeList = listeners(changeListeners);
+            final int curChangeEnd = end(changeListeners);
+            final Object[] curPrimitiveList = listeners(primitiveListeners);
+            final int curPrimitiveEnd = end(primitiveListeners);
+
+            final boolean wave = Propagation.enter();
+            try {
+                final boolean wasLocked = locked;
+                try {
+                    locked = true;
+                    for (int i = 0; i < curInvalidationEnd; i++) {
+                        final InvalidationListener listener = (InvalidationListener) curInvalidationList[i];
+                        if (listener != null) {
+                            final long start = Diagnostics.start();
+                            listener.invalidated(observable);
+                            Diagnostics.listenerCompleted(observable, listener, start);
+                        }
+                    }
+                } finally {
+                    locked = wasLocked;
+                    reap();
+                }
+                if ((curChangeEnd > 0) || (curPrimitiveEnd > 0)) {
+                    if (wave) {
+                        Propagation.defer(this);
+                    } else {
+                        fireChange(curChangeList, curChangeEnd, curPrimitiveList, curPrimitiveEnd);
+                    }
+                }
+            } finally {
+                if (wave) {
+                    Propagation.exit();
+                }
+            }
+        }
+
+        @Override
+        public Observable getObservable() {
+            return observable;
+        }
+
+        @Override
+        public void fireChange() {
+            fireChange(listeners(changeListeners), end(changeListeners),
+                    listeners(primitiveListeners), end(primitiveListeners));
+        }
+
+        private void fireChange(Object[] curChangeList, int curChangeEnd, Object[] curPrimitiveList,
+                int curPrimitiveEnd) {
+            if ((curChangeEnd == 0) && (curPrimitiveEnd == 0)) {
+                return;
+            }
+            final boolean wasLocked = locked;
+            try {
+                locked = true;
+                // all the listeners get the same pair of values, even if a listener changes the value again
+                final long oldBits = currentBits;
+                final long newBits = type.read(observable);
+                currentBits = newBits;
+                if (oldBits != newBits) {
+                    if (curChangeEnd > 0) {
+                        final Number oldBoxed = type.box(oldBits);
+                        final Number newBoxed = type.box(newBits);
+                        for (int i = 0; i < curChangeEnd; i++) {
+                            final ChangeListener<? super Number> listener = changeListener(curChangeList[i]);
+                            if (listener != null) {
+                                final long start = Diagnostics.start();
+                                listener.changed(observable, oldBoxed, newBoxed);
+                                Diagnostics.listenerCompleted(observable, listener, start);
+                            }
+                        }
+                    }
+                    for (int i = 0; i < curPrimitiveEnd; i++) {
+                        final Object listener = curPrimitiveList[i];
+                        if (listener != null) {
+                            final long start = Diagnostics.start();
+                            type.changed(listener, observable, oldBits, newBits);
+                            Diagnostics.listenerCompleted(observable, listener, start);
+                        }
+                    }
+                }
+            } finally {
+                locked = wasLocked;
+                reap();
+            }
+        }
+
+        /**
+         * Removes the garbage collected weak listeners after the outermost event is fired.
+         */
+        private void reap() {
+            if (!locked) {
+                invalidationListeners = reap(invalidationListeners);
+                changeListeners = reap(changeListeners);
+                primitiveListeners = reap(primitiveListeners);
+            }
+        }
+    }
+}
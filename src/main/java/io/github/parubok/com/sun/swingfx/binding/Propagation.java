@@ -0,0 +1,245 @@
+package io.github.parubok.com.sun.swingfx.binding;
+
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.binding.Binding;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Glitch-free propagation of value changes.
+ * <p>
+ * By default, an expression helper notifies the change listeners of its observable right after the invalidation
+ * listeners, in the middle of the invalidation wave started by the source change. In a diamond-shaped graph (two
+ * bindings sharing a source and feeding a third one) a change listener of the bottom binding then evaluates it while
+ * one of its dependencies is not yet invalidated, so the listener observes an intermediate state and the binding is
+ * evaluated again later in the same wave.
+ * </p>
+ * <p>
+ * When the glitch-free mode is enabled, the change notifications are deferred until the invalidation wave is
+ * complete, i.e. all the observables affected by the source change are invalid. The deferred notifications are then
+ * performed in the order of the dependency height of the observables (see {@link #height}), each observable at most
+ * once per wave. Since bindings are evaluated lazily, each binding is recomputed at most once per source change.
+ * </p>
+ * <p>
+ * The state of the current wave is kept per thread.
+ * </p>
+ * <p>
+ * If a change listener throws an exception, the remaining deferred notifications of the wave are still performed and
+ * the first exception is rethrown afterwards; the following ones are added to it as suppressed exceptions.
+ * </p>
+ */
+public final class Propagation {
+
+    /**
+     * Change notification of an expression helper which may be deferred until the end of the invalidation wave.
+     */
+    interface Notification {
+        /**
+         * @return Observable which change listeners are notified.
+         */
+        Observable getObservable();
+
+        /**
+         * Compares the current value of the observable with the last known one and notifies the change listeners.
+         */
+        void fireChange();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        final Notification notification;
+        final int height;
+        final long order;
+
+        Entry(Notification notification, int height, long order) {
+            this.notification = notification;
+            this.height = height;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            if (height != o.height) {
+                return Integer.compare(height, o.height);
+            }
+            return Long.compare(order, o.order);
+        }
+    }
+
+    private static final class Wave {
+        int depth;
+        /**
+         * Number of nested waves requested via {@link #runWave(Runnable)} on this thread.
+         */
+        int forced;
+        long order;
+        final PriorityQueue<Entry> queue = new PriorityQueue<>();
+        final Map<Notification, Boolean> queued = new IdentityHashMap<>();
+        final Map<Observable, Integer> heights = new IdentityHashMap<>();
+    }
+
+    private static volatile boolean glitchFree;
+    private static final ThreadLocal<Wave> wave = ThreadLocal.withInitial(Wave::new);
+
+    /**
+     * Number of threads running a wave requested via {@link #runWave(Runnable)}. Only allows {@link #enter()} to skip
+     * the thread-local lookup while there are no such waves; whether the current thread runs one is decided by
+     * {@link Wave#forced}.
+     */
+    private static final AtomicInteger forcedWaves = new AtomicInteger();
+
+    private Propagation() {
+    }
+
+    public static boolean isGlitchFree() {
+        return glitchFree;
+    }
+
+    public static void setGlitchFree(boolean glitchFree) {
+        Propagation.glitchFree = glitchFree;
+    }
+
+    /**
+     * Must be called by an expression helper before it notifies its invalidation listeners. If the method returns
+     * {@code true}, the helper must call {@link #exit()} after the notification and pass its change notification to
+     * {@link #defer(Notification)}.
+     *
+     * @return {@code true} if the glitch-free mode is enabled.
+     */
+    static boolean enter() {
+        if (glitchFree) {
+            wave.get().depth++;
+            return true;
+        }
+        if (forcedWaves.get() == 0) {
+            return false;
+        }
+        final Wave w = wave.get();
+        if (w.forced == 0) {
+            return false;
+        }
+        w.depth++;
+        return true;
+    }
+
+    /**
+     * Must be called after {@link #enter()} returned {@code true}. Performs the deferred notifications if the outermost
+     * invalidation is complete.
+     */
+    static void exit() {
+        final Wave w = wave.get();
+        if (--w.depth == 0 && !w.queue.isEmpty()) {
+            drain(w);
+        }
+    }
+
+    /**
+     * Runs the task as a single glitch-free wave regardless of the mode: the change notifications of all the
+     * observables invalidated by the task are deferred until the task completes.
+     */
+    static void runWave(Runnable task) {
+        final Wave w = wave.get();
+        if (w.forced++ == 0) {
+            forcedWaves.incrementAndGet();
+        }
+        w.depth++;
+        try {
+            task.run();
+        } finally {
+            if (--w.forced == 0) {
+                forcedWaves.decrementAndGet();
+            }
+            exit();
+        }
+    }
+
+    /**
+     * Schedules the change notification to be performed at the end of the current wave.
+     */
+    static void defer(Notification notification) {
+        final Wave w = wave.get();
+        if (w.queued.put(notification, Boolean.TRUE) == null) {
+            w.queue.add(new Entry(notification, height(notification.getObservable(), w.heights), w.order++));
+        }
+    }
+
+    private static void drain(Wave w) {
+        // notifications scheduled by the listeners go to the same queue
+        w.depth++;
+        Throwable first = null;
+        Entry e;
+        while ((e = w.queue.poll()) != null) {
+            w.queued.remove(e.notification);
+            try {
+                fireChange(e.notification);
+            } catch (RuntimeException | Error t) {
+                // the other observables of the wave must still be notified
+                if (first == null) {
+                    first = t;
+                } else {
+                    first.addSuppressed(t);
+                }
+            }
+        }
+        if (--w.depth == 0) {
+            w.heights.clear();
+            w.order = 0;
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        }
+        if (first != null) {
+            throw (RuntimeException) first;
+        }
+    }
+
+    private static void fireChange(Notification notification) {
+        if (Diagnostics.isEnabled()) {
+            // the change listeners run here, not within the event which deferred them
+            Diagnostics.deferredFireStarted(notification.getObservable());
+            try {
+                notification.fireChange();
+            } finally {
+                Diagnostics.fireCompleted();
+            }
+        } else {
+            notification.fireChange();
+        }
+    }
+
+    /**
+     * Height of an observable in the dependency graph: 0 for an observable which is not a {@link Binding}, otherwise
+     * 1 + maximal height of the dependencies reported by {@link Binding#getDependencies()}.
+     * <p>
+     * The height is only an approximation of the graph structure: a bound property has height 0 since the observable it
+     * is bound to is not exposed, and a binding which does not report its dependencies (the default
+     * implementation of {@link Binding#getDependencies()} returns an empty list) has height 1. Such observables, and the
+     * bindings depending on them, may therefore be notified before the observables they actually depend on. Each
+     * observable is still notified at most once per wave.
+     * </p>
+     */
+    static int height(Observable observable, Map<Observable, Integer> heights) {
+        if (!(observable instanceof Binding)) {
+            return 0;
+        }
+        final Integer known = heights.get(observable);
+        if (known != null) {
+            return known;
+        }
+        heights.put(observable, 1); // guards against cycles
+        int height = 1;
+        final List<?> dependencies = ((Binding<?>) observable).getDependencies();
+        if (dependencies != null) {
+            for (Object dependency : dependencies) {
+                if (dependency instanceof Observable) {
+                    height = Math.max(height, 1 + height((Observable) dependency, heights));
+                }
+            }
+        }
+        heights.put(observable, height);
+        return height;
+    }
+}
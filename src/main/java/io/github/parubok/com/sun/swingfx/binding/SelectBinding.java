@@ -38,6 +38,8 @@ import io.github.parubok.swingfx.beans.binding.IntegerBinding;
 import io.github.parubok.swingfx.beans.binding.LongBinding;
 import io.github.parubok.swingfx.beans.binding.ObjectBinding;
 import io.github.parubok.swingfx.beans.binding.StringBinding;
+import io.github.parubok.swingfx.beans.property.ReadOnlyObjectProperty;
+import io.github.parubok.swingfx.beans.property.adapter.ReadOnlyJavaBeanProperty;
 import io.github.parubok.swingfx.beans.value.ObservableBooleanValue;
 import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
@@ -79,7 +81,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -127,7 +129,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -178,7 +180,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -229,7 +231,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -280,7 +282,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -331,7 +333,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -382,7 +384,7 @@ public class SelectBinding {
 
         @Override
         public void dispose() {
-            helper.unregisterListener();
+            helper.dispose();
         }
 
         @Override
@@ -419,6 +421,11 @@ public class SelectBinding {
         private final String[] propertyNames;
         private final ObservableValue<?>[] properties;
         private final PropertyReference<?>[] propRefs;
+        /**
+         * JavaBean adapters of the steps which are not JavaFX-style properties. An adapter is reused as long as
+         * the bean instance of the step stays the same.
+         */
+        private final ReadOnlyObjectProperty<?>[] beanAdapters;
         private final WeakInvalidationListener observer;
 
         private ObservableList<ObservableValue<?>> dependencies;
@@ -444,6 +451,7 @@ public class SelectBinding {
             propertyNames = new String[n];
             System.arraycopy(steps, 0, propertyNames, 0, n);
             propRefs = new PropertyReference<?>[n];
+            beanAdapters = new ReadOnlyObjectProperty<?>[n];
             properties = new ObservableValue<?>[n + 1];
             properties[0] = firstProperty;
             properties[0].addListener(observer);
@@ -475,17 +483,27 @@ public class SelectBinding {
             final int n = properties.length;
             for (int i = 0; i < n - 1; i++) {
                 final Object obj = properties[i].getValue();
+                if (obj == null) {
+                    // the adapters of this and the following steps observe beans which left the chain
+                    for (int j = i; j < n - 1; j++) {
+                        disposeBeanAdapter(j);
+                    }
+                }
                 try {
                     if ((propRefs[i] == null)
                             || (!obj.getClass().equals(
                             propRefs[i].getContainingClass()))) {
-                        propRefs[i] = new PropertyReference<Object>(obj.getClass(),
-                                propertyNames[i]);
+                        propRefs[i] = PropertyReference.of(obj.getClass(), propertyNames[i]);
                     }
                     if (propRefs[i].hasProperty()) {
+                        disposeBeanAdapter(i);
                         properties[i + 1] = propRefs[i].getProperty(obj);
                     } else {
-                        properties[i + 1] = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(obj, propRefs[i].getName());
+                        if ((beanAdapters[i] == null) || (beanAdapters[i].getBean() != obj)) {
+                            disposeBeanAdapter(i);
+                            beanAdapters[i] = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(obj, propRefs[i].getName());
+                        }
+                        properties[i + 1] = beanAdapters[i];
                     }
                 } catch (NoSuchMethodException ex) {
                     Logging.getLogger().warning("Exception while evaluating select-binding " + stepsToString());
@@ -534,6 +552,23 @@ public class SelectBinding {
             updateDependencies();
         }
 
+        private void disposeBeanAdapter(int step) {
+            final ReadOnlyObjectProperty<?> adapter = beanAdapters[step];
+            if (adapter != null) {
+                beanAdapters[step] = null;
+                if (adapter instanceof ReadOnlyJavaBeanProperty) {
+                    ((ReadOnlyJavaBeanProperty<?>) adapter).dispose();
+                }
+            }
+        }
+
+        private void dispose() {
+            unregisterListener();
+            for (int i = 0; i < beanAdapters.length; i++) {
+                disposeBeanAdapter(i);
+            }
+        }
+
         private void updateDependencies() {
             if (dependencies != null) {
                 dependencies.clear();
@@ -371,7 +371,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
+                    if (needsGrowth(invalidationSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
@@ -428,7 +428,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
+                    if (needsGrowth(changeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
@@ -488,7 +488,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     setChangeListeners = Arrays.copyOf(setChangeListeners, newCapacity);
                 } else if (setChangeSize == oldCapacity) {
                     setChangeSize = trim(setChangeSize, setChangeListeners);
-                    if (setChangeSize == oldCapacity) {
+                    if (needsGrowth(setChangeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         setChangeListeners = Arrays.copyOf(setChangeListeners, newCapacity);
                     }
@@ -205,7 +205,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
+                    if (needsGrowth(invalidationSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
@@ -262,7 +262,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
+                    if (needsGrowth(changeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
@@ -25,11 +25,12 @@
 
 package io.github.parubok.com.sun.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Diagnostics;
 import io.github.parubok.com.sun.swingfx.binding.ExpressionHelperBase;
+import io.github.parubok.com.sun.swingfx.binding.ListenerList;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.collections.ListChangeListener;
 
-import java.util.Arrays;
 
 /**
  */
@@ -69,7 +70,16 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
     public static <E> void fireValueChangedEvent(ListListenerHelper<E> helper, ListChangeListener.Change<? extends E> change) {
         if (helper != null) {
             change.reset();
-            helper.fireValueChangedEvent(change);
+            if (Diagnostics.isEnabled()) {
+                Diagnostics.fireStarted(change.getList(), helper.getListenerCount());
+                try {
+                    helper.fireValueChangedEvent(change);
+                } finally {
+                    Diagnostics.fireCompleted();
+                }
+            } else {
+                helper.fireValueChangedEvent(change);
+            }
         }
     }
 
@@ -88,6 +98,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent(ListChangeListener.Change<? extends E> change);
 
+    protected abstract int getListenerCount();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -119,9 +131,16 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
+            final long start = Diagnostics.start();
             listener.invalidated(change.getList());
+            Diagnostics.listenerCompleted(change.getList(), listener, start);
         }
     }
 
@@ -153,89 +172,67 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             return (listener.equals(this.listener))? null : this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
+            final long start = Diagnostics.start();
             listener.onChanged(change);
+            Diagnostics.listenerCompleted(change.getList(), listener, start);
         }
     }
 
     private static class Generic<E> extends ListListenerHelper<E> {
 
-        private InvalidationListener[] invalidationListeners;
-        private ListChangeListener<? super E>[] changeListeners;
-        private int invalidationSize;
-        private int changeSize;
+        private ListenerList invalidationListeners;
+        private ListenerList changeListeners;
         private boolean locked;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
-            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
-            this.invalidationSize = 2;
+            this.invalidationListeners = new ListenerList(listener0, listener1);
         }
 
         private Generic(ListChangeListener<? super E> listener0, ListChangeListener<? super E> listener1) {
-            this.changeListeners = new ListChangeListener[] {listener0, listener1};
-            this.changeSize = 2;
+            this.changeListeners = new ListenerList(listener0, listener1);
         }
 
         private Generic(InvalidationListener invalidationListener, ListChangeListener<? super E> changeListener) {
-            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
-            this.invalidationSize = 1;
-            this.changeListeners = new ListChangeListener[] {changeListener};
-            this.changeSize = 1;
+            this.invalidationListeners = new ListenerList(invalidationListener);
+            this.changeListeners = new ListenerList(changeListener);
+        }
+
+        private static int size(ListenerList list) {
+            return (list == null) ? 0 : list.size();
+        }
+
+        private static int end(ListenerList list) {
+            return (list == null) ? 0 : list.getEnd();
         }
 
         @Override
         protected ListListenerHelper.Generic<E> addListener(InvalidationListener listener) {
             if (invalidationListeners == null) {
-                invalidationListeners = new InvalidationListener[] {listener};
-                invalidationSize = 1;
+                invalidationListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = invalidationListeners.length;
-                if (locked) {
-                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                    }
-                }
-                invalidationListeners[invalidationSize++] = listener;
+                invalidationListeners.add(listener, locked);
             }
             return this;
         }
 
         @Override
         protected ListListenerHelper<E> removeListener(InvalidationListener listener) {
-            if (invalidationListeners != null) {
-                for (int index = 0; index < invalidationSize; index++) {
-                    if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new ListListenerHelper.SingleChange<E>(changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new ListListenerHelper.SingleInvalidation<E>(invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (invalidationListeners != null && invalidationListeners.remove(listener, locked)) {
+                final int invalidationSize = invalidationListeners.size();
+                if (invalidationSize == 0) {
+                    invalidationListeners = null;
+                    if (size(changeListeners) == 1) {
+                        return new ListListenerHelper.SingleChange<E>(changeListener(changeListeners.first()));
                     }
+                } else if ((invalidationSize == 1) && (size(changeListeners) == 0)) {
+                    return new ListListenerHelper.SingleInvalidation<E>((InvalidationListener) invalidationListeners.first());
                 }
             }
             return this;
@@ -244,78 +241,77 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         @Override
         protected ListListenerHelper<E> addListener(ListChangeListener<? super E> listener) {
             if (changeListeners == null) {
-                changeListeners = new ListChangeListener[] {listener};
-                changeSize = 1;
+                changeListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = changeListeners.length;
-                if (locked) {
-                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                    }
-                }
-                changeListeners[changeSize++] = listener;
+                changeListeners.add(listener, locked);
             }
             return this;
         }
 
         @Override
         protected ListListenerHelper<E> removeListener(ListChangeListener<? super E> listener) {
-            if (changeListeners != null) {
-                for (int index = 0; index < changeSize; index++) {
-                    if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new ListListenerHelper.SingleInvalidation<E>(invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new ListListenerHelper.SingleChange<E>(changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final ListChangeListener<? super E>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new ListChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (changeListeners != null && changeListeners.remove(listener, locked)) {
+                final int changeSize = changeListeners.size();
+                if (changeSize == 0) {
+                    changeListeners = null;
+                    if (size(invalidationListeners) == 1) {
+                        return new ListListenerHelper.SingleInvalidation<E>((InvalidationListener) invalidationListeners.first());
                     }
+                } else if ((changeSize == 1) && (size(invalidationListeners) == 0)) {
+                    return new ListListenerHelper.SingleChange<E>(changeListener(changeListeners.first()));
                 }
             }
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        private ListChangeListener<? super E> changeListener(Object listener) {
+            return (ListChangeListener<? super E>) listener;
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return size(invalidationListeners) + size(changeListeners);
+        }
+
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
-            final InvalidationListener[] curInvalidationList = invalidationListeners;
-            final int curInvalidationSize = invalidationSize;
-            final ListChangeListener<? super E>[] curChangeList = changeListeners;
-            final int curChangeSize = changeSize;
+            final Object[] curInvalidationList = (invalidationListeners == null) ? null : invalidationListeners.getListeners();
+            final int curInvalidationEnd = end(invalidationListeners);
+            final Object[] curChangeList = (changeListeners == null) ? null : changeListeners.getListeners();
+            final int curChangeEnd = end(changeListeners);
 
+            final boolean wasLocked = locked;
             try {
                 locked = true;
-                for (int i = 0; i < curInvalidationSize; i++) {
-                    curInvalidationList[i].invalidated(change.getList());
+                for (int i = 0; i < curInvalidationEnd; i++) {
+                    final InvalidationListener listener = (InvalidationListener) curInvalidationList[i];
+                    if (listener != null) {
+                        final long start = Diagnostics.start();
+                        listener.invalidated(change.getList());
+                        Diagnostics.listenerCompleted(change.getList(), listener, start);
+                    }
                 }
-                for (int i = 0; i < curChangeSize; i++) {
-                    change.reset();
-                    curChangeList[i].onChanged(change);
+                for (int i = 0; i < curChangeEnd; i++) {
+                    final ListChangeListener<? super E> listener = changeListener(curChangeList[i]);
+                    if (listener != null) {
+                        change.reset();
+                        final long start = Diagnostics.start();
+                        listener.onChanged(change);
+                        Diagnostics.listenerCompleted(change.getList(), listener, start);
+                    }
                 }
             } finally {
-                locked = false;
+                locked = wasLocked;
+                if (!locked) {
+                    // garbage collected weak listeners which tried to remove themselves during the event
+                    if (invalidationListeners != null) {
+                        invalidationListeners.reap();
+                    }
+                    if (changeListeners != null) {
+                        changeListeners.reap();
+                    }
+                }
             }
         }
     }
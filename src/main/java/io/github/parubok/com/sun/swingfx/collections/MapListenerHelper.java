@@ -25,11 +25,12 @@
 
 package io.github.parubok.com.sun.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Diagnostics;
 import io.github.parubok.com.sun.swingfx.binding.ExpressionHelperBase;
+import io.github.parubok.com.sun.swingfx.binding.ListenerList;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.collections.MapChangeListener;
 
-import java.util.Arrays;
 
 /**
  */
@@ -68,7 +69,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
     public static <K, V> void fireValueChangedEvent(MapListenerHelper<K, V> helper, MapChangeListener.Change<? extends K, ? extends V> change) {
         if (helper != null) {
-            helper.fireValueChangedEvent(change);
+            if (Diagnostics.isEnabled()) {
+                Diagnostics.fireStarted(change.getMap(), helper.getListenerCount());
+                try {
+                    helper.fireValueChangedEvent(change);
+                } finally {
+                    Diagnostics.fireCompleted();
+                }
+            } else {
+                helper.fireValueChangedEvent(change);
+            }
         }
     }
 
@@ -87,6 +97,8 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent(MapChangeListener.Change<? extends K, ? extends V> change);
 
+    protected abstract int getListenerCount();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -118,9 +130,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(MapChangeListener.Change<? extends K, ? extends V> change) {
+            final long start = Diagnostics.start();
             listener.invalidated(change.getMap());
+            Diagnostics.listenerCompleted(change.getMap(), listener, start);
         }
     }
 
@@ -152,89 +171,67 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
             return (listener.equals(this.listener))? null : this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(MapChangeListener.Change<? extends K, ? extends V> change) {
+            final long start = Diagnostics.start();
             listener.onChanged(change);
+            Diagnostics.listenerCompleted(change.getMap(), listener, start);
         }
     }
 
     private static class Generic<K, V> extends MapListenerHelper<K, V> {
 
-        private InvalidationListener[] invalidationListeners;
-        private MapChangeListener<? super K, ? super V>[] changeListeners;
-        private int invalidationSize;
-        private int changeSize;
+        private ListenerList invalidationListeners;
+        private ListenerList changeListeners;
         private boolean locked;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
-            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
-            this.invalidationSize = 2;
+            this.invalidationListeners = new ListenerList(listener0, listener1);
         }
 
         private Generic(MapChangeListener<? super K, ? super V> listener0, MapChangeListener<? super K, ? super V> listener1) {
-            this.changeListeners = new MapChangeListener[] {listener0, listener1};
-            this.changeSize = 2;
+            this.changeListeners = new ListenerList(listener0, listener1);
         }
 
         private Generic(InvalidationListener invalidationListener, MapChangeListener<? super K, ? super V> changeListener) {
-            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
-            this.invalidationSize = 1;
-            this.changeListeners = new MapChangeListener[] {changeListener};
-            this.changeSize = 1;
+            this.invalidationListeners = new ListenerList(invalidationListener);
+            this.changeListeners = new ListenerList(changeListener);
+        }
+
+        private static int size(ListenerList list) {
+            return (list == null) ? 0 : list.size();
+        }
+
+        private static int end(ListenerList list) {
+            return (list == null) ? 0 : list.getEnd();
         }
 
         @Override
         protected MapListenerHelper.Generic<K, V> addListener(InvalidationListener listener) {
             if (invalidationListeners == null) {
-                invalidationListeners = new InvalidationListener[] {listener};
-                invalidationSize = 1;
+                invalidationListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = invalidationListeners.length;
-                if (locked) {
-                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                } else if (invalidationSize == oldCapacity) {
-                    invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
-                    }
-                }
-                invalidationListeners[invalidationSize++] = listener;
+                invalidationListeners.add(listener, locked);
             }
             return this;
         }
 
         @Override
         protected MapListenerHelper<K, V> removeListener(InvalidationListener listener) {
-            if (invalidationListeners != null) {
-                for (int index = 0; index < invalidationSize; index++) {
-                    if (listener.equals(invalidationListeners[index])) {
-                        if (invalidationSize == 1) {
-                            if (changeSize == 1) {
-                                return new MapListenerHelper.SingleChange<K, V>(changeListeners[0]);
-                            }
-                            invalidationListeners = null;
-                            invalidationSize = 0;
-                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
-                            return new MapListenerHelper.SingleInvalidation<K, V>(invalidationListeners[1-index]);
-                        } else {
-                            final int numMoved = invalidationSize - index - 1;
-                            final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
-                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
-                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
-                            }
-                            invalidationSize--;
-                            if (!locked) {
-                                invalidationListeners[invalidationSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (invalidationListeners != null && invalidationListeners.remove(listener, locked)) {
+                final int invalidationSize = invalidationListeners.size();
+                if (invalidationSize == 0) {
+                    invalidationListeners = null;
+                    if (size(changeListeners) == 1) {
+                        return new MapListenerHelper.SingleChange<K, V>(changeListener(changeListeners.first()));
                     }
+                } else if ((invalidationSize == 1) && (size(changeListeners) == 0)) {
+                    return new MapListenerHelper.SingleInvalidation<K, V>((InvalidationListener) invalidationListeners.first());
                 }
             }
             return this;
@@ -243,77 +240,76 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
         @Override
         protected MapListenerHelper<K, V> addListener(MapChangeListener<? super K, ? super V> listener) {
             if (changeListeners == null) {
-                changeListeners = new MapChangeListener[] {listener};
-                changeSize = 1;
+                changeListeners = new ListenerList(listener);
             } else {
-                final int oldCapacity = changeListeners.length;
-                if (locked) {
-                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
-                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                } else if (changeSize == oldCapacity) {
-                    changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
-                        final int newCapacity = (oldCapacity * 3)/2 + 1;
-                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
-                    }
-                }
-                changeListeners[changeSize++] = listener;
+                changeListeners.add(listener, locked);
             }
             return this;
         }
 
         @Override
         protected MapListenerHelper<K, V> removeListener(MapChangeListener<? super K, ? super V> listener) {
-            if (changeListeners != null) {
-                for (int index = 0; index < changeSize; index++) {
-                    if (listener.equals(changeListeners[index])) {
-                        if (changeSize == 1) {
-                            if (invalidationSize == 1) {
-                                return new MapListenerHelper.SingleInvalidation<K, V>(invalidationListeners[0]);
-                            }
-                            changeListeners = null;
-                            changeSize = 0;
-                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
-                            return new MapListenerHelper.SingleChange<K, V>(changeListeners[1-index]);
-                        } else {
-                            final int numMoved = changeSize - index - 1;
-                            final MapChangeListener<? super K, ? super V>[] oldListeners = changeListeners;
-                            if (locked) {
-                                changeListeners = new MapChangeListener[changeListeners.length];
-                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
-                            }
-                            if (numMoved > 0) {
-                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
-                            }
-                            changeSize--;
-                            if (!locked) {
-                                changeListeners[changeSize] = null; // Let gc do its work
-                            }
-                        }
-                        break;
+            if (changeListeners != null && changeListeners.remove(listener, locked)) {
+                final int changeSize = changeListeners.size();
+                if (changeSize == 0) {
+                    changeListeners = null;
+                    if (size(invalidationListeners) == 1) {
+                        return new MapListenerHelper.SingleInvalidation<K, V>((InvalidationListener) invalidationListeners.first());
                     }
+                } else if ((changeSize == 1) && (size(invalidationListeners) == 0)) {
+                    return new MapListenerHelper.SingleChange<K, V>(changeListener(changeListeners.first()));
                 }
             }
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        private MapChangeListener<? super K, ? super V> changeListener(Object listener) {
+            return (MapChangeListener<? super K, ? super V>) listener;
+        }
+
+        @Override
+        protected int getListenerCount() {
+            return size(invalidationListeners) + size(changeListeners);
+        }
+
         @Override
         protected void fireValueChangedEvent(MapChangeListener.Change<? extends K, ? extends V> change) {
-            final InvalidationListener[] curInvalidationList = invalidationListeners;
-            final int curInvalidationSize = invalidationSize;
-            final MapChangeListener<? super K, ? super V>[] curChangeList = changeListeners;
-            final int curChangeSize = changeSize;
+            final Object[] curInvalidationList = (invalidationListeners == null) ? null : invalidationListeners.getListeners();
+            final int curInvalidationEnd = end(invalidationListeners);
+            final Object[] curChangeList = (changeListeners == null) ? null : changeListeners.getListeners();
+            final int curChangeEnd = end(changeListeners);
 
+            final boolean wasLocked = locked;
             try {
                 locked = true;
-                for (int i = 0; i < curInvalidationSize; i++) {
-                    curInvalidationList[i].invalidated(change.getMap());
+                for (int i = 0; i < curInvalidationEnd; i++) {
+                    final InvalidationListener listener = (InvalidationListener) curInvalidationList[i];
+                    if (listener != null) {
+                        final long start = Diagnostics.start();
+                        listener.invalidated(change.getMap());
+                        Diagnostics.listenerCompleted(change.getMap(), listener, start);
+                    }
                 }
-                for (int i = 0; i < curChangeSize; i++) {
-                    curChangeList[i].onChanged(change);
+                for (int i = 0; i < curChangeEnd; i++) {
+                    final MapChangeListener<? super K, ? super V> listener = changeListener(curChangeList[i]);
+                    if (listener != null) {
+                        final long start = Diagnostics.start();
+                        listener.onChanged(change);
+                        Diagnostics.listenerCompleted(change.getMap(), listener, start);
+                    }
                 }
             } finally {
-                locked = false;
+                locked = wasLocked;
+                if (!locked) {
+                    // garbage collected weak listeners which tried to remove themselves during the event
+                    if (invalidationListeners != null) {
+                        invalidationListeners.reap();
+                    }
+                    if (changeListeners != null) {
+                        changeListeners.reap();
+                    }
+                }
             }
         }
     }
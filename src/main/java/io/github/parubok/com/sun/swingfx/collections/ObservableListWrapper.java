@@ -25,6 +25,7 @@
 
 package io.github.parubok.com.sun.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.swingfx.collections.ModifiableObservableListBase;
 import io.github.parubok.com.sun.swingfx.collections.NonIterableChange.SimplePermutationChange;
 
@@ -214,7 +215,7 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
             return;
         }
         int[] perm = getSortHelper().sort((List<? extends Comparable>)backingList);
-        fireChange(new SimplePermutationChange<E>(0, size(), perm, this));
+        firePermutation(perm);
     }
 
     @Override
@@ -223,7 +224,18 @@ public class ObservableListWrapper<E> extends ModifiableObservableListBase<E> im
             return;
         }
         int[] perm = getSortHelper().sort(backingList, comparator);
-        fireChange(new SimplePermutationChange<E>(0, size(), perm, this));
+        firePermutation(perm);
+    }
+
+    private void firePermutation(int[] perm) {
+        if (Batch.isOpen()) {
+            // merge with the other changes of the batch
+            beginChange();
+            nextPermutation(0, size(), perm);
+            endChange();
+        } else {
+            fireChange(new SimplePermutationChange<E>(0, size(), perm, this));
+        }
     }
 
     private SortHelper getSortHelper() {
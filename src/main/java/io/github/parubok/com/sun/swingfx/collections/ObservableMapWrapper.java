@@ -25,13 +25,16 @@
 
 package io.github.parubok.com.sun.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.collections.MapChangeListener;
 import io.github.parubok.swingfx.collections.ObservableMap;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -45,6 +48,7 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
 
     private MapListenerHelper<K, V> listenerHelper;
     private final Map<K, V> backingMap;
+    private Map<K, MapChangeListener.Change<K,V>> batchedChanges;
 
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
@@ -112,7 +116,35 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     }
 
     protected void callObservers(MapChangeListener.Change<K,V> change) {
-        MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
+        if (Batch.isOpen()) {
+            if (batchedChanges == null) {
+                batchedChanges = new LinkedHashMap<>();
+                Batch.defer(this, this::endBatch);
+            }
+            // the first change of the key holds the state of the entry before the batch
+            batchedChanges.putIfAbsent(change.getKey(), change);
+        } else {
+            MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
+        }
+    }
+
+    /**
+     * Reports the net change of each key modified in the batch.
+     */
+    private void endBatch() {
+        final Map<K, MapChangeListener.Change<K,V>> changes = batchedChanges;
+        batchedChanges = null;
+        for (MapChangeListener.Change<K,V> first : changes.values()) {
+            final K key = first.getKey();
+            final boolean existed = first.wasRemoved();
+            final V old = first.getValueRemoved();
+            final boolean exists = backingMap.containsKey(key);
+            final V value = exists ? backingMap.get(key) : null;
+            if (existed == exists && (!exists || Objects.equals(old, value))) {
+                continue;
+            }
+            MapListenerHelper.fireValueChangedEvent(listenerHelper, new SimpleChange(key, old, value, exists, existed));
+        }
     }
 
     @Override
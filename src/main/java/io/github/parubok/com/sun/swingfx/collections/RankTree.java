@@ -0,0 +1,311 @@
+package io.github.parubok.com.sun.swingfx.collections;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sequence of nodes with expected O(log n) insertion, removal, access by index and lookup of the index of a node.
+ * Implemented as a treap ordered by the position in the sequence, which nodes keep the sizes of their subtrees.
+ * <p>
+ * A node may belong to a single tree at a time.
+ * </p>
+ *
+ * @param <T> Type of the values of the nodes.
+ */
+public final class RankTree<T> {
+
+    public static final class Node<T> {
+        private final T value;
+        private Node<T> left;
+        private Node<T> right;
+        private Node<T> parent;
+        private int size;
+        private int priority;
+
+        public Node(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        private void updateSize() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+
+    private Node<T> root;
+    private int seed = 0x2545F491;
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return Node at the specified index.
+     */
+    public Node<T> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        Node<T> node = root;
+        while (true) {
+            final int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @return Index of the specified node of this tree.
+     */
+    public int indexOf(Node<T> node) {
+        int index = size(node.left);
+        for (Node<T> n = node; n.parent != null; n = n.parent) {
+            if (n == n.parent.right) {
+                index += size(n.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return The first node or {@code null} if the tree is empty.
+     */
+    public Node<T> first() {
+        Node<T> node = root;
+        if (node != null) {
+            while (node.left != null) {
+                node = node.left;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * @return The node which follows the specified one or {@code null} if the node is the last one.
+     */
+    public static <T> Node<T> next(Node<T> node) {
+        if (node.right != null) {
+            Node<T> n = node.right;
+            while (n.left != null) {
+                n = n.left;
+            }
+            return n;
+        }
+        Node<T> n = node;
+        while (n.parent != null && n == n.parent.right) {
+            n = n.parent;
+        }
+        return n.parent;
+    }
+
+    /**
+     * Inserts the node at the specified index.
+     */
+    public void insert(int index, Node<T> node) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        reset(node);
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node<T> parent = root;
+        while (true) {
+            final int leftSize = size(parent.left);
+            if (index <= leftSize) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index -= leftSize + 1;
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        attach(node, parent);
+    }
+
+    /**
+     * Inserts the node into the tree which nodes are ordered by the comparator. The node is inserted before the nodes
+     * which values are equal to its value.
+     *
+     * @return Index of the inserted node.
+     */
+    public int insert(Node<T> node, Comparator<? super T> comparator) {
+        reset(node);
+        if (root == null) {
+            root = node;
+            return 0;
+        }
+        int index = 0;
+        Node<T> parent = root;
+        while (true) {
+            if (comparator.compare(node.value, parent.value) <= 0) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index += size(parent.left) + 1;
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        attach(node, parent);
+        return index;
+    }
+
+    /**
+     * Removes the specified node of this tree.
+     */
+    public void remove(Node<T> node) {
+        while (node.left != null && node.right != null) {
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+        }
+        final Node<T> child = (node.left != null) ? node.left : node.right;
+        final Node<T> parent = node.parent;
+        if (child != null) {
+            child.parent = parent;
+        }
+        if (parent == null) {
+            root = child;
+        } else {
+            if (parent.left == node) {
+                parent.left = child;
+            } else {
+                parent.right = child;
+            }
+            for (Node<T> n = parent; n != null; n = n.parent) {
+                n.size--;
+            }
+        }
+        reset(node);
+    }
+
+    /**
+     * Replaces the content of the tree with the specified nodes, in O(n log n) time.
+     */
+    public void build(List<Node<T>> nodes) {
+        root = build(nodes, 0, nodes.size(), null);
+        if (root == null) {
+            return;
+        }
+        // priorities decrease from the root to the leaves, as in a treap built by random insertions
+        final int[] priorities = new int[nodes.size()];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = nextPriority();
+        }
+        Arrays.sort(priorities);
+        int p = priorities.length;
+        final ArrayDeque<Node<T>> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            final Node<T> node = queue.poll();
+            node.priority = priorities[--p];
+            if (node.left != null) {
+                queue.add(node.left);
+            }
+            if (node.right != null) {
+                queue.add(node.right);
+            }
+        }
+    }
+
+    private static <T> Node<T> build(List<Node<T>> nodes, int from, int to, Node<T> parent) {
+        if (from >= to) {
+            return null;
+        }
+        final int mid = (from + to) >>> 1;
+        final Node<T> node = nodes.get(mid);
+        node.parent = parent;
+        node.left = build(nodes, from, mid, node);
+        node.right = build(nodes, mid + 1, to, node);
+        node.updateSize();
+        return node;
+    }
+
+    private void reset(Node<T> node) {
+        node.left = null;
+        node.right = null;
+        node.parent = null;
+        node.size = 1;
+        node.priority = nextPriority();
+    }
+
+    /**
+     * Links the new leaf to its parent and restores the heap order of the priorities.
+     */
+    private void attach(Node<T> node, Node<T> parent) {
+        node.parent = parent;
+        for (Node<T> n = parent; n != null; n = n.parent) {
+            n.size++;
+        }
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+    }
+
+    private void rotateUp(Node<T> node) {
+        final Node<T> parent = node.parent;
+        final Node<T> grandParent = parent.parent;
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        parent.parent = node;
+        node.parent = grandParent;
+        if (grandParent == null) {
+            root = node;
+        } else if (grandParent.left == parent) {
+            grandParent.left = node;
+        } else {
+            grandParent.right = node;
+        }
+        parent.updateSize();
+        node.updateSize();
+    }
+
+    private int nextPriority() {
+        // xorshift
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+}
@@ -25,6 +25,7 @@
 
 package io.github.parubok.com.sun.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Diagnostics;
 import io.github.parubok.com.sun.swingfx.binding.ExpressionHelperBase;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.collections.SetChangeListener;
@@ -68,7 +69,16 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
 
     public static <E> void fireValueChangedEvent(SetListenerHelper<E> helper, SetChangeListener.Change<? extends E> change) {
         if (helper != null) {
-            helper.fireValueChangedEvent(change);
+            if (Diagnostics.isEnabled()) {
+                Diagnostics.fireStarted(change.getSet(), helper.getListenerCount());
+                try {
+                    helper.fireValueChangedEvent(change);
+                } finally {
+                    Diagnostics.fireCompleted();
+                }
+            } else {
+                helper.fireValueChangedEvent(change);
+            }
         }
     }
 
@@ -87,6 +97,8 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent(SetChangeListener.Change<? extends E> change);
 
+    protected abstract int getListenerCount();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -118,10 +130,17 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(SetChangeListener.Change<? extends E> change) {
             try {
+                final long start = Diagnostics.start();
                 listener.invalidated(change.getSet());
+                Diagnostics.listenerCompleted(change.getSet(), listener, start);
             } catch (Exception e) {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
@@ -156,10 +175,17 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             return (listener.equals(this.listener))? null : this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return 1;
+        }
+
         @Override
         protected void fireValueChangedEvent(SetChangeListener.Change<? extends E> change) {
             try {
+                final long start = Diagnostics.start();
                 listener.onChanged(change);
+                Diagnostics.listenerCompleted(change.getSet(), listener, start);
             } catch (Exception e) {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
@@ -203,7 +229,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
-                    if (invalidationSize == oldCapacity) {
+                    if (needsGrowth(invalidationSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                     }
@@ -260,7 +286,7 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
-                    if (changeSize == oldCapacity) {
+                    if (needsGrowth(changeSize, oldCapacity)) {
                         final int newCapacity = (oldCapacity * 3)/2 + 1;
                         changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                     }
@@ -305,6 +331,11 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
             return this;
         }
 
+        @Override
+        protected int getListenerCount() {
+            return invalidationSize + changeSize;
+        }
+
         @Override
         protected void fireValueChangedEvent(SetChangeListener.Change<? extends E> change) {
             final InvalidationListener[] curInvalidationList = invalidationListeners;
@@ -316,14 +347,18 @@ public abstract class SetListenerHelper<E> extends ExpressionHelperBase {
                 locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
+                        final long start = Diagnostics.start();
                         curInvalidationList[i].invalidated(change.getSet());
+                        Diagnostics.listenerCompleted(change.getSet(), curInvalidationList[i], start);
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
                 }
                 for (int i = 0; i < curChangeSize; i++) {
                     try {
+                        final long start = Diagnostics.start();
                         curChangeList[i].onChanged(change);
+                        Diagnostics.listenerCompleted(change.getSet(), curChangeList[i], start);
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
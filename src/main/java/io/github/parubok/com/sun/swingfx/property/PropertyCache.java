@@ -0,0 +1,83 @@
+package io.github.parubok.com.sun.swingfx.property;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of values (e.g. property references) per class and property name. The values are expected to reference
+ * their class strongly.
+ * <p>
+ * The values of the classes loaded by the class loader of this library (or by one of its ancestors), which cannot be
+ * unloaded before the library, are kept strongly. The values of the classes of other class loaders (e.g. of plugins)
+ * are kept weakly, i.e. while they are in use, so the cache does not prevent unloading of the classes and their class
+ * loaders.
+ * </p>
+ *
+ * @param <V> Type of the values.
+ */
+public final class PropertyCache<V> {
+    private final ClassValue<ConcurrentMap<String, V>> local = new ClassValue<ConcurrentMap<String, V>>() {
+        @Override
+        protected ConcurrentMap<String, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Guarded by itself.
+     */
+    private final Map<Class<?>, Map<String, WeakReference<V>>> foreign = new WeakHashMap<>();
+
+    /**
+     * @return The cached value or {@code null}.
+     */
+    public V get(Class<?> type, String name) {
+        if (isLocal(type)) {
+            return local.get(type).get(name);
+        }
+        synchronized (foreign) {
+            final Map<String, WeakReference<V>> values = foreign.get(type);
+            final WeakReference<V> ref = (values != null) ? values.get(name) : null;
+            return (ref != null) ? ref.get() : null;
+        }
+    }
+
+    /**
+     * Caches the value unless a value is already cached.
+     *
+     * @return The cached value.
+     */
+    public V putIfAbsent(Class<?> type, String name, V value) {
+        if (isLocal(type)) {
+            final V cached = local.get(type).putIfAbsent(name, value);
+            return (cached != null) ? cached : value;
+        }
+        synchronized (foreign) {
+            final Map<String, WeakReference<V>> values = foreign.computeIfAbsent(type, t -> new HashMap<>());
+            final WeakReference<V> ref = values.get(name);
+            final V cached = (ref != null) ? ref.get() : null;
+            if (cached != null) {
+                return cached;
+            }
+            values.put(name, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    private static boolean isLocal(Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader l = PropertyCache.class.getClassLoader(); l != null; l = l.getParent()) {
+            if (l == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
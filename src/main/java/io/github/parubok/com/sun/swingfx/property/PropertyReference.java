@@ -30,16 +30,26 @@ import java.lang.reflect.Modifier;
 
 import io.github.parubok.swingfx.beans.property.ReadOnlyProperty;
 
+import io.github.parubok.fxprop.misc.MethodAccessor;
 import io.github.parubok.fxprop.misc.MethodUtil;
 
 /**
  * A handle to a specific property defined on some {@link Bean}.
  */
 public final class PropertyReference<T> {
+    /**
+     * Resolved references per class and property name. The references of the classes of foreign class loaders are
+     * kept only while they are in use, see {@link PropertyCache}.
+     */
+    private static final PropertyCache<PropertyReference<?>> CACHE = new PropertyCache<>();
+
     private String name;
     private Method getter;
     private Method setter;
     private Method propertyGetter;
+    private MethodAccessor getterAccessor;
+    private MethodAccessor setterAccessor;
+    private MethodAccessor propertyGetterAccessor;
     private Class<?> clazz;
     private Class<?> type;
     private boolean reflected = false;
@@ -68,6 +78,34 @@ public final class PropertyReference<T> {
         this.clazz = clazz;
     }
 
+    /**
+     * Returns a shared, already reflected {@code PropertyReference} for a property of a bean class.
+     * Unlike the constructor, the reflection is performed only once per class and property name.
+     *
+     * @param clazz
+     *            The class of the {@link Bean} that contains the property
+     * @param name
+     *            The name of the property
+     * @throws NullPointerException
+     *             if {@code clazz} or {@code name} are null
+     * @throws IllegalArgumentException
+     *             if {@code name} is an empty {@code String}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyReference<T> of(Class<?> clazz, String name) {
+        if (name == null)
+            throw new NullPointerException("Name must be specified");
+        if (clazz == null)
+            throw new NullPointerException("Class must be specified");
+        PropertyReference<?> ref = CACHE.get(clazz, name);
+        if (ref == null) {
+            final PropertyReference<?> newRef = new PropertyReference<>(clazz, name);
+            newRef.reflect(); // reflect before publishing, so the instance is not modified afterwards
+            ref = CACHE.putIfAbsent(clazz, name, newRef);
+        }
+        return (PropertyReference<T>) ref;
+    }
+
     /**
      * Can be used to determine if a property can be set.
      *
@@ -144,7 +182,11 @@ public final class PropertyReference<T> {
                     "Cannot write to readonly property " + name);
         assert setter != null;
         try {
-            MethodUtil.invoke(setter, bean, new Object[] {value});
+            if (setterAccessor != null) {
+                setterAccessor.set(bean, value);
+            } else {
+                MethodUtil.invoke(setter, bean, new Object[] {value});
+            }
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
@@ -167,7 +209,8 @@ public final class PropertyReference<T> {
                     "Cannot read from unreadable property " + name);
         assert getter != null;
         try {
-            return (T)MethodUtil.invoke(getter, bean, (Object[])null);
+            return (T)(getterAccessor != null ? getterAccessor.get(bean)
+                    : MethodUtil.invoke(getter, bean, (Object[]) null));
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
@@ -190,7 +233,8 @@ public final class PropertyReference<T> {
             throw new IllegalStateException("Cannot get property " + name);
         assert propertyGetter != null;
         try {
-            return (ReadOnlyProperty<T>)MethodUtil.invoke(propertyGetter, bean, (Object[])null);
+            return (ReadOnlyProperty<T>)(propertyGetterAccessor != null ? propertyGetterAccessor.get(bean)
+                    : MethodUtil.invoke(propertyGetter, bean, (Object[]) null));
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
@@ -248,6 +292,12 @@ public final class PropertyReference<T> {
                     }
                 }
 
+                // Compile the accessors once, they are reused for every bean instance. Each one is assigned as
+                // soon as its method is found, so a later failure does not leave it unset.
+                if (getter != null) {
+                    getterAccessor = MethodAccessor.forGetter(getter);
+                }
+
                 // Now attempt to look for the setter. It is simply
                 // "set" + name with the first letter of name
                 // capitalized.
@@ -280,12 +330,17 @@ public final class PropertyReference<T> {
                     }
                 }
 
+                if (setter != null) {
+                    setterAccessor = MethodAccessor.forSetter(setter);
+                }
+
                 // Now attempt to look for the property-getter.
                 final String propertyGetterName = name + "Property";
                 try {
                     final Method m = clazz.getMethod(propertyGetterName);
                     if (Modifier.isPublic(m.getModifiers())) {
                         propertyGetter = m;
+                        propertyGetterAccessor = MethodAccessor.forGetter(m);
                     } else
                         propertyGetter = null;
                 } catch (NoSuchMethodException ex) {
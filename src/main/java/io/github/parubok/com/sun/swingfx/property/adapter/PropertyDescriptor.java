@@ -25,6 +25,7 @@
 
 package io.github.parubok.com.sun.swingfx.property.adapter;
 
+import io.github.parubok.fxprop.misc.MethodAccessor;
 import io.github.parubok.swingfx.beans.property.Property;
 import io.github.parubok.swingfx.beans.property.adapter.ReadOnlyJavaBeanProperty;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
@@ -36,8 +37,6 @@ import java.beans.VetoableChangeListener;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  */
 public class PropertyDescriptor extends ReadOnlyPropertyDescriptor {
@@ -52,15 +51,18 @@ public class PropertyDescriptor extends ReadOnlyPropertyDescriptor {
     private static final int REMOVE_VETOABLE_LISTENER_TAKES_NAME = 2;
 
     private final Method setter;
+    private final MethodAccessor setterAccessor;
     private final Method addVetoListener;
     private final Method removeVetoListener;
     private final int flags;
 
     public Method getSetter() {return setter;}
+    public MethodAccessor getSetterAccessor() {return setterAccessor;}
 
     public PropertyDescriptor(String propertyName, Class<?> beanClass, Method getter, Method setter) {
         super(propertyName, beanClass, getter);
         this.setter = setter;
+        this.setterAccessor = MethodAccessor.forSetter(setter);
 
         Method tmpAddVetoListener = null;
         Method tmpRemoveVetoListener = null;
@@ -159,7 +161,7 @@ public class PropertyDescriptor extends ReadOnlyPropertyDescriptor {
             } else if (!updating) {
                 updating = true;
                 try {
-                    MethodUtil.invoke(setter, bean, new Object[] {newValue});
+                    setterAccessor.set(bean, newValue);
                     property.fireValueChangedEvent();
                 } catch (IllegalAccessException e) {
                     // ignore
@@ -32,9 +32,6 @@ import java.lang.reflect.Method;
  */
 public class ReadOnlyJavaBeanPropertyBuilderHelper {
 
-    private static final String IS_PREFIX = "is";
-    private static final String GET_PREFIX = "get";
-
     private String propertyName;
     private Class<?> beanClass;
     private Object bean;
@@ -93,17 +90,13 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper {
             if (propertyName.isEmpty()) {
                 throw new IllegalArgumentException("Property name cannot be empty");
             }
-            final String capitalizedName = ReadOnlyPropertyDescriptor.capitalizedName(propertyName);
+            if ((getter == null) && ((getterName == null) || getterName.isEmpty())) {
+                // default getter - the descriptor can be shared
+                descriptor = ReadOnlyPropertyDescriptor.forProperty(beanClass, propertyName);
+                return descriptor;
+            }
             if (getter == null) {
-                if ((getterName != null) && !getterName.isEmpty()) {
-                    getter = beanClass.getMethod(getterName);
-                } else {
-                    try {
-                        getter = beanClass.getMethod(IS_PREFIX + capitalizedName);
-                    } catch (NoSuchMethodException e) {
-                        getter = beanClass.getMethod(GET_PREFIX + capitalizedName);
-                    }
-                }
+                getter = beanClass.getMethod(getterName);
             }
             descriptor = new ReadOnlyPropertyDescriptor(propertyName, beanClass, getter);
         }
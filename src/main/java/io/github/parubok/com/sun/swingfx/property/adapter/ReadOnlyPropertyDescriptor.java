@@ -25,6 +25,8 @@
 
 package io.github.parubok.com.sun.swingfx.property.adapter;
 
+import io.github.parubok.com.sun.swingfx.property.PropertyCache;
+import io.github.parubok.fxprop.misc.MethodAccessor;
 import io.github.parubok.swingfx.beans.WeakListener;
 import io.github.parubok.swingfx.beans.property.adapter.ReadOnlyJavaBeanProperty;
 
@@ -49,9 +51,19 @@ public class ReadOnlyPropertyDescriptor {
     private static final int ADD_LISTENER_TAKES_NAME = 1;
     private static final int REMOVE_LISTENER_TAKES_NAME = 2;
 
+    private static final String IS_PREFIX = "is";
+    private static final String GET_PREFIX = "get";
+
+    /**
+     * Descriptors with the default getter per bean class and property name. The descriptors of the classes of
+     * foreign class loaders are kept only while they are in use, see {@link PropertyCache}.
+     */
+    private static final PropertyCache<ReadOnlyPropertyDescriptor> CACHE = new PropertyCache<>();
+
     protected final String name;
     protected final Class<?> beanClass;
     private final Method getter;
+    private final MethodAccessor getterAccessor;
     private final Class<?> type;
 
     private final Method addChangeListener;
@@ -60,6 +72,7 @@ public class ReadOnlyPropertyDescriptor {
 
     public String getName() {return name;}
     public Method getGetter() {return getter;}
+    public MethodAccessor getGetterAccessor() {return getterAccessor;}
     public Class<?> getType() {return type;}
 
     public ReadOnlyPropertyDescriptor(String propertyName, Class<?> beanClass, Method getter) {
@@ -67,6 +80,7 @@ public class ReadOnlyPropertyDescriptor {
         this.name = propertyName;
         this.beanClass = beanClass;
         this.getter = getter;
+        this.getterAccessor = MethodAccessor.forGetter(getter);
         this.type = getter.getReturnType();
 
         Method tmpAddChangeListener = null;
@@ -110,6 +124,26 @@ public class ReadOnlyPropertyDescriptor {
         flags = tmpFlags;
     }
 
+    /**
+     * Returns a shared descriptor for a property with the default getter ({@code isXXX} or {@code getXXX}).
+     * The reflection is performed only once per bean class and property name.
+     */
+    public static ReadOnlyPropertyDescriptor forProperty(Class<?> beanClass, String propertyName) throws NoSuchMethodException {
+        ReadOnlyPropertyDescriptor descriptor = CACHE.get(beanClass, propertyName);
+        if (descriptor == null) {
+            final String capitalizedName = capitalizedName(propertyName);
+            Method getter;
+            try {
+                getter = beanClass.getMethod(IS_PREFIX + capitalizedName);
+            } catch (NoSuchMethodException e) {
+                getter = beanClass.getMethod(GET_PREFIX + capitalizedName);
+            }
+            final ReadOnlyPropertyDescriptor newDescriptor = new ReadOnlyPropertyDescriptor(propertyName, beanClass, getter);
+            descriptor = CACHE.putIfAbsent(beanClass, propertyName, newDescriptor);
+        }
+        return descriptor;
+    }
+
     public static String capitalizedName(String name) {
         return ((name == null) || (name.length() == 0))? name : name.substring(0, 1).toUpperCase(ENGLISH) + name.substring(1);
     }
@@ -16,6 +16,7 @@ enum ClientProps {
     PROP_ICON_SETTER,
     PROP_SELECTED_ROW_COUNT,
     PROP_SELECTED_ROWS,
+    PROP_SELECTED_ROWS_ARRAY,
     PROP_TABLE_MODEL_ROW_COUNT,
     PROP_TABLE_ROW_COUNT,
     PROP_FOREGROUND,
@@ -14,13 +14,30 @@ import static io.github.parubok.fxprop.ClientProps.PROP_SELECTED_INDEX;
  * Selected index of {@link JList}.
  */
 final class ListSelectedIndexPropertyImpl {
+    private static class ListSelectedIndexProperty extends SimpleIntegerProperty implements SelectionUpdater.Owner {
+        private final SelectionUpdater selectionUpdater = new SelectionUpdater(this, this::selectionChanged);
+
+        ListSelectedIndexProperty(JList<?> list) {
+            super(list, "selectedIndex", list.getSelectedIndex());
+        }
+
+        @Override
+        public SelectionUpdater getSelectionUpdater() {
+            return selectionUpdater;
+        }
+
+        void selectionChanged() {
+            int selectedIndex = ((JList<?>) getBean()).getSelectedIndex();
+            if (get() != selectedIndex) {
+                set(selectedIndex);
+            }
+        }
+    }
+
     private static final ListSelectionListener SELECTION_LISTENER = e -> {
         JList<?> list = (JList) e.getSource();
-        int selectedIndex = list.getSelectedIndex();
-        IntegerProperty p = (IntegerProperty) list.getClientProperty(PROP_SELECTED_INDEX);
-        if (p.get() != selectedIndex) {
-            p.set(selectedIndex);
-        }
+        ListSelectedIndexProperty p = (ListSelectedIndexProperty) list.getClientProperty(PROP_SELECTED_INDEX);
+        p.getSelectionUpdater().selectionChanged(e);
     };
 
     private static final ChangeListener<Number> FX_PROP_LISTENER = (observable, oldValue, newValue) -> {
@@ -33,9 +50,9 @@ final class ListSelectedIndexPropertyImpl {
 
     static IntegerProperty getProperty(JList<?> list) {
         Objects.requireNonNull(list, "list");
-        SimpleIntegerProperty p = (SimpleIntegerProperty) list.getClientProperty(PROP_SELECTED_INDEX);
+        ListSelectedIndexProperty p = (ListSelectedIndexProperty) list.getClientProperty(PROP_SELECTED_INDEX);
         if (p == null) {
-            p = new SimpleIntegerProperty(list, "selectedIndex", list.getSelectedIndex());
+            p = new ListSelectedIndexProperty(list);
             list.putClientProperty(PROP_SELECTED_INDEX, p);
             list.addListSelectionListener(SELECTION_LISTENER);
             p.addListener(FX_PROP_LISTENER);
@@ -14,13 +14,31 @@ import static io.github.parubok.fxprop.ClientProps.PROP_SELECTED_VALUE;
  * Selected value of {@link JList}.
  */
 final class ListSelectedValuePropertyImpl {
+    private static class ListSelectedValueProperty<E> extends SimpleObjectProperty<E> implements SelectionUpdater.Owner {
+        private final SelectionUpdater selectionUpdater = new SelectionUpdater(this, this::selectionChanged);
+
+        ListSelectedValueProperty(JList<E> list) {
+            super(list, "selectedValue", list.getSelectedValue());
+        }
+
+        @Override
+        public SelectionUpdater getSelectionUpdater() {
+            return selectionUpdater;
+        }
+
+        @SuppressWarnings("unchecked")
+        void selectionChanged() {
+            E selectedValue = ((JList<E>) getBean()).getSelectedValue();
+            if (!Objects.equals(selectedValue, get())) {
+                set(selectedValue);
+            }
+        }
+    }
+
     private static final ListSelectionListener SELECTION_LISTENER = e -> {
         JList list = (JList) e.getSource();
-        Object selectedValue = list.getSelectedValue();
-        ObjectProperty p = (ObjectProperty) list.getClientProperty(PROP_SELECTED_VALUE);
-        if (!Objects.equals(selectedValue, p.get())) {
-            p.set(selectedValue);
-        }
+        ListSelectedValueProperty p = (ListSelectedValueProperty) list.getClientProperty(PROP_SELECTED_VALUE);
+        p.getSelectionUpdater().selectionChanged(e);
     };
 
     private static final ChangeListener FX_PROP_LISTENER = (observable, oldValue, newValue) -> {
@@ -33,9 +51,9 @@ final class ListSelectedValuePropertyImpl {
 
     static <E> ObjectProperty<E> getProperty(JList<E> list) {
         Objects.requireNonNull(list, "list");
-        ObjectProperty<E> p = (ObjectProperty) list.getClientProperty(PROP_SELECTED_VALUE);
+        ListSelectedValueProperty<E> p = (ListSelectedValueProperty) list.getClientProperty(PROP_SELECTED_VALUE);
         if (p == null) {
-            p = new SimpleObjectProperty<>(list, "selectedValue", list.getSelectedValue());
+            p = new ListSelectedValueProperty<>(list);
             list.putClientProperty(PROP_SELECTED_VALUE, p);
             list.addListSelectionListener(SELECTION_LISTENER);
             p.addListener(FX_PROP_LISTENER);
@@ -16,7 +16,7 @@ final class ModelRowCountPropertyImpl {
         private final JTable table;
         private TableModel model;
         private int value;
-        private final TableModelListener modelListener = e -> modelRowCountChanged();
+        private final TableModelListener modelListener = e -> UpdateScheduler.update(this, this::modelRowCountChanged);
 
         TableModelRowCountProperty(JTable table) {
             this.table = Objects.requireNonNull(table);
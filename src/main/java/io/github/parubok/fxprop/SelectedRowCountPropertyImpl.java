@@ -12,11 +12,12 @@ import java.util.Objects;
 import static io.github.parubok.fxprop.ClientProps.PROP_SELECTED_ROW_COUNT;
 
 final class SelectedRowCountPropertyImpl {
-    private static class TableSelectedRowCountProperty extends ReadOnlyIntegerPropertyBase {
+    private static class TableSelectedRowCountProperty extends ReadOnlyIntegerPropertyBase implements SelectionUpdater.Owner {
         private final JTable table;
         private ListSelectionModel selectionModel;
         private int value;
-        private final ListSelectionListener selectionListener = e -> selectedRowCountChanged();
+        private final SelectionUpdater selectionUpdater = new SelectionUpdater(this, this::selectedRowCountChanged);
+        private final ListSelectionListener selectionListener = selectionUpdater::selectionChanged;
 
         TableSelectedRowCountProperty(JTable table) {
             this.table = table;
@@ -31,6 +32,11 @@ final class SelectedRowCountPropertyImpl {
             this.selectionModel.addListSelectionListener(this.selectionListener);
         }
 
+        @Override
+        public SelectionUpdater getSelectionUpdater() {
+            return selectionUpdater;
+        }
+
         @Override
         public int get() {
             return value;
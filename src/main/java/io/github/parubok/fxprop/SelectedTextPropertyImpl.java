@@ -33,7 +33,8 @@ final class SelectedTextPropertyImpl {
 
         @Override
         public void caretUpdate(CaretEvent e) {
-            updateProp((JTextComponent) e.getSource());
+            JTextComponent textComponent = (JTextComponent) e.getSource();
+            UpdateScheduler.update(this, () -> updateProp(textComponent));
         }
     }
 
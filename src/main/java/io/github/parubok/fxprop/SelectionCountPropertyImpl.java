@@ -16,7 +16,7 @@ final class SelectionCountPropertyImpl {
         private final JTree tree;
         private TreeSelectionModel selectionModel;
         private int value;
-        private final TreeSelectionListener selectionListener = e -> selectionCountChanged();
+        private final TreeSelectionListener selectionListener = e -> UpdateScheduler.update(this, this::selectionCountChanged);
 
         TreeSelectionCountProperty(JTree tree) {
             this.tree = tree;
@@ -0,0 +1,70 @@
+package io.github.parubok.fxprop;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defines how a selection property handles {@link javax.swing.event.ListSelectionEvent}s which are part of
+ * a series of changes, i.e. when {@link javax.swing.event.ListSelectionEvent#getValueIsAdjusting()} returns
+ * {@code true} (for example, while the user drags the mouse to select rows).
+ * <p>
+ * Events which end a series of changes are always handled immediately.
+ * </p>
+ *
+ * @see SwingPropertySupport#setSelectionUpdatePolicy(io.github.parubok.swingfx.beans.property.ReadOnlyProperty, SelectionUpdatePolicy)
+ * @since swing-fx-properties 1.26
+ */
+public final class SelectionUpdatePolicy {
+    /**
+     * The property value is updated on every selection event. This is the default policy.
+     */
+    public static final SelectionUpdatePolicy LIVE = new SelectionUpdatePolicy(-1L);
+
+    /**
+     * The property value is updated only when the series of changes ends.
+     */
+    public static final SelectionUpdatePolicy ADJUSTING_END = new SelectionUpdatePolicy(0L);
+
+    /**
+     * @param maxUpdatesPerSecond Maximal number of updates per second while the selection is adjusting. Positive.
+     * @return Policy which updates the property value at most {@code maxUpdatesPerSecond} times per second
+     * while the series of changes lasts, and once more when the series ends.
+     */
+    public static SelectionUpdatePolicy throttle(int maxUpdatesPerSecond) {
+        if (maxUpdatesPerSecond <= 0) {
+            throw new IllegalArgumentException("maxUpdatesPerSecond must be positive: " + maxUpdatesPerSecond);
+        }
+        return new SelectionUpdatePolicy(TimeUnit.SECONDS.toNanos(1) / maxUpdatesPerSecond);
+    }
+
+    /**
+     * Negative for {@link #LIVE}, zero for {@link #ADJUSTING_END}, minimal interval between updates otherwise.
+     */
+    private final long intervalNanos;
+
+    private SelectionUpdatePolicy(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+    }
+
+    boolean isLive() {
+        return intervalNanos < 0;
+    }
+
+    boolean isThrottled() {
+        return intervalNanos > 0;
+    }
+
+    long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    @Override
+    public String toString() {
+        if (isLive()) {
+            return "SelectionUpdatePolicy.LIVE";
+        }
+        if (!isThrottled()) {
+            return "SelectionUpdatePolicy.ADJUSTING_END";
+        }
+        return "SelectionUpdatePolicy.throttle(interval=" + TimeUnit.NANOSECONDS.toMillis(intervalNanos) + "ms)";
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.parubok.fxprop;
+
+import javax.swing.Timer;
+import javax.swing.event.ListSelectionEvent;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link SelectionUpdatePolicy} to the updates of a selection property.
+ */
+final class SelectionUpdater {
+    /**
+     * Implemented by the properties which support {@link SelectionUpdatePolicy}.
+     */
+    interface Owner {
+        SelectionUpdater getSelectionUpdater();
+    }
+
+    private final Object property;
+    private final Runnable update;
+    private SelectionUpdatePolicy policy = SelectionUpdatePolicy.LIVE;
+    private Timer timer;
+    private long lastUpdateTime;
+    private boolean adjusting;
+
+    /**
+     * @param property Property to update.
+     * @param update Task which reads the selection and updates the property value.
+     */
+    SelectionUpdater(Object property, Runnable update) {
+        this.property = Objects.requireNonNull(property);
+        this.update = Objects.requireNonNull(update);
+    }
+
+    SelectionUpdatePolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(SelectionUpdatePolicy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy");
+        stopTimer();
+    }
+
+    void selectionChanged(ListSelectionEvent e) {
+        selectionChanged(e.getValueIsAdjusting());
+    }
+
+    void selectionChanged(boolean adjusting) {
+        final boolean seriesStart = !this.adjusting;
+        this.adjusting = adjusting;
+        if (!adjusting || policy.isLive()) {
+            stopTimer();
+            update();
+        } else if (policy.isThrottled()) {
+            long elapsed = System.nanoTime() - lastUpdateTime;
+            if (seriesStart || elapsed >= policy.getIntervalNanos()) {
+                stopTimer();
+                update();
+            } else if (timer == null) {
+                // make sure the last adjusting change is reflected even when no more events arrive
+                int delay = (int) TimeUnit.NANOSECONDS.toMillis(policy.getIntervalNanos() - elapsed) + 1;
+                timer = new Timer(delay, e -> {
+                    timer = null;
+                    update();
+                });
+                timer.setRepeats(false);
+                timer.start();
+            }
+        }
+        // ADJUSTING_END: wait for the event which ends the series
+    }
+
+    private void stopTimer() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    private void update() {
+        lastUpdateTime = System.nanoTime();
+        UpdateScheduler.update(property, update);
+    }
+}
@@ -7,8 +7,10 @@ import io.github.parubok.swingfx.beans.property.ObjectProperty;
 import io.github.parubok.swingfx.beans.property.ReadOnlyBooleanProperty;
 import io.github.parubok.swingfx.beans.property.ReadOnlyIntegerProperty;
 import io.github.parubok.swingfx.beans.property.ReadOnlyObjectProperty;
+import io.github.parubok.swingfx.beans.property.ReadOnlyProperty;
 import io.github.parubok.swingfx.beans.property.ReadOnlyStringProperty;
 import io.github.parubok.swingfx.beans.property.StringProperty;
+import io.github.parubok.swingfx.collections.ObservableIntegerArray;
 
 import javax.swing.AbstractButton;
 import javax.swing.Action;
@@ -28,6 +30,7 @@ import javax.swing.tree.TreePath;
 import java.awt.Color;
 import java.awt.Font;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Collection of static methods which provide access to various properties of Swing components via JavaFX-style
@@ -330,6 +333,27 @@ public class SwingPropertySupport {
         return TableSelectedRowsPropertyImpl.getProperty(table);
     }
 
+    /**
+     * Primitive alternative to {@link #selectedRowsProperty(JTable)} for tables with large selections.
+     * <p>
+     * The returned array contains indexes of the selected rows in ascending order. It is updated only for the range
+     * of rows reported by the selection event, so {@link io.github.parubok.swingfx.collections.ArrayChangeListener}
+     * receives the range of the modified elements rather than the whole array. The row indexes are never boxed.
+     * </p>
+     * <p>
+     * The array is read-only: its modification methods throw {@link UnsupportedOperationException}. To change the
+     * selection, use the table selection model.
+     * </p>
+     *
+     * @param table Table. Not null.
+     * @return Observable array with indexes of the selected rows of the provided table.
+     * @see JTable#getSelectedRows()
+     * @since swing-fx-properties 1.26
+     */
+    public static ObservableIntegerArray selectedRowsArray(JTable table) {
+        return TableSelectedRowsArrayImpl.getArray(table);
+    }
+
     /**
      * @param component Component. Not null.
      * @return Property object for 'font' property of the specified component.
@@ -339,4 +363,80 @@ public class SwingPropertySupport {
     public static ObjectProperty<Font> fontProperty(JComponent component) {
         return FontPropertyImpl.getProperty(component);
     }
+
+    /**
+     * Enables or disables coalescing of property updates. The mode is disabled by default.
+     * <p>
+     * When the mode is enabled, read-only properties (and the Swing-to-property direction of the read-write
+     * properties) backed by selection models, table models and text components don't update their value on each
+     * event of the underlying Swing object. Instead, the update is postponed via
+     * {@link javax.swing.SwingUtilities#invokeLater(Runnable)} and all the updates requested during the current
+     * event dispatch cycle are performed in a single pass: each property is updated once, in the order of the first
+     * request. For example, a drag-selection of many table rows recomputes the bound expressions once per cycle
+     * instead of once per {@link javax.swing.event.ListSelectionEvent}.
+     * </p>
+     * <p>
+     * <b>Note:</b> While the mode is enabled, the property value may be stale until the end of the current event
+     * dispatch cycle. Events fired outside of the event dispatch thread are not coalesced.
+     * </p>
+     *
+     * @param enabled {@code true} to coalesce the updates, {@code false} to perform them immediately.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setCoalescingEnabled(boolean enabled) {
+        UpdateScheduler.setCoalescing(enabled);
+    }
+
+    /**
+     * @return {@code true} if the property updates are coalesced.
+     * @see #setCoalescingEnabled(boolean)
+     * @since swing-fx-properties 1.26
+     */
+    public static boolean isCoalescingEnabled() {
+        return UpdateScheduler.isCoalescing();
+    }
+
+    /**
+     * Sets the policy of handling of the selection events which are part of a series of changes (see
+     * {@link javax.swing.event.ListSelectionEvent#getValueIsAdjusting()}). By default, the property value is updated
+     * on every event ({@link SelectionUpdatePolicy#LIVE}).
+     * <p>
+     * The policy is supported by the following properties:
+     * </p>
+     * <ul>
+     *     <li>{@link #selectedRowCountProperty(JTable)}</li>
+     *     <li>{@link #selectedRowsProperty(JTable)}</li>
+     *     <li>{@link #selectedIndexProperty(JList)}</li>
+     *     <li>{@link #selectedValueProperty(JList)}</li>
+     * </ul>
+     *
+     * @param property Property obtained from one of the methods listed above. Not null.
+     * @param policy Policy. Not null.
+     * @throws IllegalArgumentException If the property doesn't support the policy.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setSelectionUpdatePolicy(ReadOnlyProperty<?> property, SelectionUpdatePolicy policy) {
+        Objects.requireNonNull(property, "property");
+        Objects.requireNonNull(policy, "policy");
+        getSelectionUpdater(property).setPolicy(policy);
+    }
+
+    /**
+     * @param property Property obtained from one of the methods listed in
+     * {@link #setSelectionUpdatePolicy(ReadOnlyProperty, SelectionUpdatePolicy)}. Not null.
+     * @return Current policy of the property.
+     * @throws IllegalArgumentException If the property doesn't support the policy.
+     * @since swing-fx-properties 1.26
+     */
+    public static SelectionUpdatePolicy getSelectionUpdatePolicy(ReadOnlyProperty<?> property) {
+        Objects.requireNonNull(property, "property");
+        return getSelectionUpdater(property).getPolicy();
+    }
+
+    private static SelectionUpdater getSelectionUpdater(ReadOnlyProperty<?> property) {
+        if (!(property instanceof SelectionUpdater.Owner)) {
+            throw new IllegalArgumentException("Property doesn't support selection update policy: " + property);
+        }
+        return ((SelectionUpdater.Owner) property).getSelectionUpdater();
+    }
 }
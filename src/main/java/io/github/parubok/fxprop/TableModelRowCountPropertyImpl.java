@@ -1,53 +1,60 @@
 package io.github.parubok.fxprop;
 
-import io.github.parubok.fxprop.misc.Logging;
 import io.github.parubok.swingfx.beans.property.ReadOnlyIntegerProperty;
 import io.github.parubok.swingfx.beans.property.ReadOnlyIntegerPropertyBase;
 
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
 import javax.swing.table.TableModel;
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
 
 final class TableModelRowCountPropertyImpl {
 
     /**
-     * Weekly keep property instance per model instance.
+     * Weakly keep property instance per model instance. The property is strongly reachable from the model (as its
+     * listener), so the value is a weak reference to let the entry be cleared together with the model.
+     * Guarded by itself since models may be created (and the property requested) on any thread.
      */
-    private static final WeakHashMap<TableModel, TableModelRowCountProperty> props = new WeakHashMap<>();
+    private static final Map<TableModel, WeakReference<TableModelRowCountProperty>> props = new WeakHashMap<>();
 
-    private static final TableModelListener MODEL_LISTENER = new TableModelListener() {
-        @Override
-        public void tableChanged(TableModelEvent e) {
-            if (e.getType() != TableModelEvent.UPDATE) {
-                TableModel model = (TableModel) e.getSource();
-                TableModelRowCountProperty p = props.get(model);
-                if (p != null) {
-                    p.modelRowCountPossiblyChanged();
-                } else {
-                    // should not happen normally
-                    Logging.getLogger().warning("Weak reference to table model was cleared.");
-                }
-            }
-        }
-    };
-
-    private static class TableModelRowCountProperty extends ReadOnlyIntegerPropertyBase {
+    /**
+     * Listens to its own model, so no registry lookup is performed on model events.
+     * <p>
+     * The value is recomputed lazily: a structural event only invalidates the property, and the following events are
+     * ignored until the value is requested again. So a burst of insert events (e.g. a bulk load which fires an event
+     * per row) invalidates the dependent bindings once instead of recomputing them for each row.
+     * </p>
+     * <p>
+     * The model events usually arrive on the EDT, while the value may be requested on any thread, so the state is
+     * guarded by the property instance.
+     * </p>
+     */
+    private static class TableModelRowCountProperty extends ReadOnlyIntegerPropertyBase implements TableModelListener {
         private final TableModel model;
+        /**
+         * Guarded by this.
+         */
         private int value;
+        /**
+         * Guarded by this.
+         */
+        private boolean valid = true;
 
         TableModelRowCountProperty(TableModel model) {
             this.model = Objects.requireNonNull(model);
             this.value = model.getRowCount();
-
-            // make sure we have exactly one listener registered:
-            this.model.removeTableModelListener(MODEL_LISTENER);
-            this.model.addTableModelListener(MODEL_LISTENER);
+            this.model.addTableModelListener(this);
         }
 
         @Override
-        public int get() {
+        public synchronized int get() {
+            if (!valid) {
+                value = model.getRowCount();
+                valid = true;
+            }
             return value;
         }
 
@@ -61,22 +68,39 @@ final class TableModelRowCountPropertyImpl {
             return "rowCount";
         }
 
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            final boolean wasValid;
+            synchronized (this) {
+                wasValid = valid;
+            }
+            if (e.getType() != TableModelEvent.UPDATE && wasValid) {
+                UpdateScheduler.update(this, this::modelRowCountPossiblyChanged);
+            }
+        }
+
         void modelRowCountPossiblyChanged() {
-            int c = model.getRowCount();
-            if (this.value != c) {
-                this.value = c;
-                fireValueChangedEvent();
+            synchronized (this) {
+                if (!valid || value == model.getRowCount()) {
+                    return;
+                }
+                valid = false;
             }
+            // the listeners are notified outside of the lock
+            fireValueChangedEvent();
         }
     }
 
     static ReadOnlyIntegerProperty getProperty(TableModel tableModel) {
         Objects.requireNonNull(tableModel, "tableModel");
-        TableModelRowCountProperty p = props.get(tableModel);
-        if (p == null) {
-            p = new TableModelRowCountProperty(tableModel);
-            props.put(tableModel, p);
+        synchronized (props) {
+            WeakReference<TableModelRowCountProperty> ref = props.get(tableModel);
+            TableModelRowCountProperty p = ref != null ? ref.get() : null;
+            if (p == null) {
+                p = new TableModelRowCountProperty(tableModel);
+                props.put(tableModel, new WeakReference<>(p));
+            }
+            return p;
         }
-        return p;
     }
 }
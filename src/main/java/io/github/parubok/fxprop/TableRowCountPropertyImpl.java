@@ -29,7 +29,7 @@ final class TableRowCountPropertyImpl {
             super();
             this.table = Objects.requireNonNull(table);
             this.value = table.getRowCount();
-            this.rowSorterListener = e -> rowCountPossiblyChanged();
+            this.rowSorterListener = e -> UpdateScheduler.update(this, this::rowCountPossiblyChanged);
             this.tableModelListener = e -> {
                 if (e.getType() != TableModelEvent.UPDATE) {
                     // in Java 11, the JTable's row sorter is not yet updated at this moment,
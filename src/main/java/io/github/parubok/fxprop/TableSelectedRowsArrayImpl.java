@@ -0,0 +1,295 @@
+package io.github.parubok.fxprop;
+
+import io.github.parubok.swingfx.collections.ObservableArrayBase;
+import io.github.parubok.swingfx.collections.ObservableIntegerArray;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.github.parubok.fxprop.ClientProps.PROP_SELECTED_ROWS_ARRAY;
+
+final class TableSelectedRowsArrayImpl {
+    /**
+     * Sorted indexes of the selected rows. Updated only for the range of rows reported by
+     * {@link ListSelectionEvent#getFirstIndex()} and {@link ListSelectionEvent#getLastIndex()}, so no boxing and no
+     * copying of the whole selection is performed on a change.
+     */
+    private static final class TableSelectedRowsArray extends ObservableArrayBase<ObservableIntegerArray>
+            implements ObservableIntegerArray {
+        private static final int[] INITIAL = new int[0];
+
+        private final JTable table;
+        private ListSelectionModel selectionModel;
+        private final ListSelectionListener selectionListener = this::selectionChanged;
+        private final Runnable update = this::update;
+
+        private int[] array = INITIAL;
+        private int size;
+
+        /**
+         * Range of row indexes (inclusive) which selection state may differ from the array content.
+         */
+        private int dirtyFirst = Integer.MAX_VALUE;
+        private int dirtyLast = -1;
+
+        TableSelectedRowsArray(JTable table) {
+            this.table = table;
+        }
+
+        void updateSelectionModel() {
+            if (this.selectionModel != null) {
+                this.selectionModel.removeListSelectionListener(this.selectionListener);
+            }
+            this.selectionModel = table.getSelectionModel();
+            this.selectionModel.addListSelectionListener(this.selectionListener);
+            markDirty(0, Math.max(size == 0 ? -1 : array[size - 1], this.selectionModel.getMaxSelectionIndex()));
+        }
+
+        private void selectionChanged(ListSelectionEvent e) {
+            markDirty(e.getFirstIndex(), e.getLastIndex());
+            UpdateScheduler.update(this, update);
+        }
+
+        private void markDirty(int first, int last) {
+            dirtyFirst = Math.min(dirtyFirst, first);
+            dirtyLast = Math.max(dirtyLast, last);
+        }
+
+        private void update() {
+            final int first = Math.max(0, dirtyFirst);
+            final int last = dirtyLast;
+            dirtyFirst = Integer.MAX_VALUE;
+            dirtyLast = -1;
+            if (first > last) {
+                return;
+            }
+            // segment of the array with the rows from the dirty range:
+            final int from = indexAfter(first - 1);
+            final int to = indexAfter(last);
+            // rows from the dirty range which are selected now:
+            final int lo = Math.max(first, selectionModel.getMinSelectionIndex());
+            final int hi = Math.min(last, selectionModel.getMaxSelectionIndex());
+            int count = 0;
+            if (lo >= 0) {
+                for (int row = lo; row <= hi; row++) {
+                    if (selectionModel.isSelectedIndex(row)) {
+                        count++;
+                    }
+                }
+            }
+            if (count == to - from) {
+                // the size is unchanged - overwrite the segment and report only the modified part of it
+                int changedFrom = -1;
+                int changedTo = -1;
+                int i = from;
+                for (int row = Math.max(lo, 0); row <= hi; row++) {
+                    if (selectionModel.isSelectedIndex(row)) {
+                        if (array[i] != row) {
+                            array[i] = row;
+                            if (changedFrom == -1) {
+                                changedFrom = i;
+                            }
+                            changedTo = i + 1;
+                        }
+                        i++;
+                    }
+                }
+                if (changedFrom != -1) {
+                    fireChange(false, changedFrom, changedTo);
+                }
+            } else {
+                final int newSize = size - (to - from) + count;
+                if (newSize > array.length) {
+                    array = Arrays.copyOf(array, Math.max(newSize, array.length + (array.length >> 1)));
+                }
+                System.arraycopy(array, to, array, from + count, size - to);
+                size = newSize;
+                int i = from;
+                for (int row = lo; i < from + count; row++) {
+                    if (selectionModel.isSelectedIndex(row)) {
+                        array[i++] = row;
+                    }
+                }
+                fireChange(true, from, newSize);
+            }
+        }
+
+        /**
+         * @return Position of the first element which is greater than the specified row index.
+         */
+        private int indexAfter(int row) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (array[mid] <= row) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int get(int index) {
+            rangeCheck(index + 1);
+            return array[index];
+        }
+
+        @Override
+        public int[] toArray(int[] dest) {
+            if ((dest == null) || (size > dest.length)) {
+                dest = new int[size];
+            }
+            System.arraycopy(array, 0, dest, 0, size);
+            return dest;
+        }
+
+        @Override
+        public int[] toArray(int srcIndex, int[] dest, int length) {
+            rangeCheck(srcIndex + length);
+            if ((dest == null) || (length > dest.length)) {
+                dest = new int[length];
+            }
+            System.arraycopy(array, srcIndex, dest, 0, length);
+            return dest;
+        }
+
+        @Override
+        public void copyTo(int srcIndex, int[] dest, int destIndex, int length) {
+            rangeCheck(srcIndex + length);
+            System.arraycopy(array, srcIndex, dest, destIndex, length);
+        }
+
+        @Override
+        public void copyTo(int srcIndex, ObservableIntegerArray dest, int destIndex, int length) {
+            rangeCheck(srcIndex + length);
+            dest.set(destIndex, array, srcIndex, length);
+        }
+
+        @Override
+        public void ensureCapacity(int capacity) {
+            if (array.length < capacity) {
+                array = Arrays.copyOf(array, capacity);
+            }
+        }
+
+        @Override
+        public void trimToSize() {
+            if (array.length != size) {
+                array = Arrays.copyOf(array, size);
+            }
+        }
+
+        @Override
+        public void addAll(int... elements) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(ObservableIntegerArray src) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(int[] src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(ObservableIntegerArray src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAll(int... elements) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAll(int[] src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAll(ObservableIntegerArray src) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAll(ObservableIntegerArray src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void set(int destIndex, int[] src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void set(int destIndex, ObservableIntegerArray src, int srcIndex, int length) {
+            throw readOnly();
+        }
+
+        @Override
+        public void set(int index, int value) {
+            throw readOnly();
+        }
+
+        @Override
+        public void resize(int size) {
+            throw readOnly();
+        }
+
+        @Override
+        public void clear() {
+            throw readOnly();
+        }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Selected rows array is read-only - change the table selection instead");
+        }
+
+        private void rangeCheck(int size) {
+            if (size > this.size) {
+                throw new ArrayIndexOutOfBoundsException(this.size);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(Arrays.copyOf(array, size));
+        }
+    }
+
+    private static final PropertyChangeListener TABLE_SELECTION_MODEL_PROPERTY_LISTENER = e -> {
+        JTable table = (JTable) e.getSource();
+        TableSelectedRowsArray a = (TableSelectedRowsArray) table.getClientProperty(PROP_SELECTED_ROWS_ARRAY);
+        a.updateSelectionModel();
+        UpdateScheduler.update(a, a.update);
+    };
+
+    static ObservableIntegerArray getArray(JTable table) {
+        Objects.requireNonNull(table, "table");
+        TableSelectedRowsArray a = (TableSelectedRowsArray) table.getClientProperty(PROP_SELECTED_ROWS_ARRAY);
+        if (a == null) {
+            a = new TableSelectedRowsArray(table);
+            table.putClientProperty(PROP_SELECTED_ROWS_ARRAY, a);
+            a.updateSelectionModel();
+            a.update();
+            table.addPropertyChangeListener("selectionModel", TABLE_SELECTION_MODEL_PROPERTY_LISTENER);
+        }
+        return a;
+    }
+}
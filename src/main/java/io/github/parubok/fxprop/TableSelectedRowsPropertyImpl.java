@@ -4,13 +4,15 @@ import io.github.parubok.com.sun.swingfx.collections.ObservableListWrapper;
 import io.github.parubok.swingfx.beans.property.ListProperty;
 import io.github.parubok.swingfx.beans.property.SimpleListProperty;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.collections.ObservableList;
 
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
 import javax.swing.event.ListSelectionListener;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -18,13 +20,209 @@ import java.util.Objects;
 import static io.github.parubok.fxprop.ClientProps.PROP_SELECTED_ROWS;
 
 final class TableSelectedRowsPropertyImpl {
-    private static class TableSelectedRowsProperty extends SimpleListProperty<Integer> {
+    /**
+     * List of the selected rows which can be updated for a range of rows with minimal sub-changes.
+     */
+    private static final class SelectedRowsList extends ObservableListWrapper<Integer> {
+        private final List<Integer> rows;
+        /**
+         * Number of the positions {@code i} where {@code rows[i - 1] >= rows[i]} (or an element is null), updated on
+         * each modification. The list is sorted (and has no duplicates) if the number is 0.
+         */
+        private int descents;
+
+        SelectedRowsList(ArrayList<Integer> rows) {
+            super(rows);
+            this.rows = rows;
+            this.descents = countDescents();
+        }
+
+        @Override
+        protected void doAdd(int index, Integer element) {
+            descents -= descent(index);
+            super.doAdd(index, element);
+            descents += descent(index) + descent(index + 1);
+        }
+
+        @Override
+        protected Integer doSet(int index, Integer element) {
+            descents -= descent(index) + descent(index + 1);
+            final Integer removed = super.doSet(index, element);
+            descents += descent(index) + descent(index + 1);
+            return removed;
+        }
+
+        @Override
+        protected Integer doRemove(int index) {
+            descents -= descent(index) + descent(index + 1);
+            final Integer removed = super.doRemove(index);
+            descents += descent(index);
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            descents = 0;
+        }
+
+        @Override
+        public void sort() {
+            super.sort();
+            descents = countDescents();
+        }
+
+        @Override
+        public void sort(Comparator<? super Integer> comparator) {
+            super.sort(comparator);
+            descents = countDescents();
+        }
+
+        /**
+         * @return 1 if the elements at the positions {@code i - 1} and {@code i} are out of order, 0 otherwise.
+         */
+        private int descent(int i) {
+            if (i <= 0 || i >= rows.size()) {
+                return 0;
+            }
+            final Integer prev = rows.get(i - 1);
+            final Integer next = rows.get(i);
+            return (prev == null || next == null || prev >= next) ? 1 : 0;
+        }
+
+        private int countDescents() {
+            int count = 0;
+            for (int i = 1; i < rows.size(); i++) {
+                count += descent(i);
+            }
+            return count;
+        }
+
+        /**
+         * Makes the list content for rows in the range [first, last] match the selection model. Each added or removed
+         * run of rows is reported as a separate sub-change.
+         *
+         * @return {@code false} if the list is not sorted, so the content for the range can't be located.
+         */
+        boolean syncRange(ListSelectionModel selectionModel, int first, int last) {
+            if (descents != 0) {
+                return false;
+            }
+            // segment of the list with the rows from the range:
+            final int from = indexAfter(first - 1);
+            final int to = indexAfter(last);
+            // rows from the range which are selected now:
+            final int lo = Math.max(first, selectionModel.getMinSelectionIndex());
+            final int hi = Math.min(last, selectionModel.getMaxSelectionIndex());
+            final List<Integer> segment = new ArrayList<>();
+            boolean changed = false;
+            int oldIndex = from;
+            if (lo >= 0) {
+                for (int row = lo; row <= hi; row++) {
+                    if (selectionModel.isSelectedIndex(row)) {
+                        while (oldIndex < to && rows.get(oldIndex) < row) {
+                            oldIndex++;
+                            changed = true;
+                        }
+                        if (oldIndex < to && rows.get(oldIndex) == row) {
+                            segment.add(rows.get(oldIndex++)); // reuse the boxed value
+                        } else {
+                            segment.add(row);
+                            changed = true;
+                        }
+                    }
+                }
+            }
+            if (!changed && oldIndex == to) {
+                return true;
+            }
+            beginChange();
+            try {
+                fireSegmentChanges(from, to, segment);
+                // the segment is sorted and fits between its neighbours, so the list stays sorted
+                rows.subList(from, to).clear();
+                rows.addAll(from, segment);
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        /**
+         * Reports the changes required to replace the sorted segment [from, to) of the list with the sorted new segment.
+         */
+        private void fireSegmentChanges(int from, int to, List<Integer> segment) {
+            int pos = from; // position in the list after the already reported changes
+            int oldIndex = from;
+            int newIndex = 0;
+            while (oldIndex < to || newIndex < segment.size()) {
+                int removeStart = oldIndex;
+                while (oldIndex < to
+                        && (newIndex == segment.size() || rows.get(oldIndex) < segment.get(newIndex))) {
+                    oldIndex++;
+                }
+                if (oldIndex > removeStart) {
+                    nextRemove(pos, new ArrayList<>(rows.subList(removeStart, oldIndex)));
+                }
+                int addStart = newIndex;
+                while (newIndex < segment.size()
+                        && (oldIndex == to || segment.get(newIndex) < rows.get(oldIndex))) {
+                    newIndex++;
+                }
+                if (newIndex > addStart) {
+                    nextAdd(pos, pos + newIndex - addStart);
+                    pos += newIndex - addStart;
+                }
+                while (oldIndex < to && newIndex < segment.size()
+                        && rows.get(oldIndex).intValue() == segment.get(newIndex).intValue()) {
+                    oldIndex++;
+                    newIndex++;
+                    pos++;
+                }
+            }
+        }
+
+        /**
+         * @return Position of the first element which is greater than the specified row index.
+         */
+        private int indexAfter(int row) {
+            int low = 0;
+            int high = rows.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (rows.get(mid) <= row) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static class TableSelectedRowsProperty extends SimpleListProperty<Integer> implements SelectionUpdater.Owner {
         boolean adjustingTableSelection;
+        boolean updatingFromTable;
         private ListSelectionModel selectionModel;
-        private final ListSelectionListener selectionListener = e -> selectedRowsChanged();
+        private final SelectionUpdater selectionUpdater = new SelectionUpdater(this, this::selectedRowsChanged);
+        private final ListSelectionListener selectionListener = e -> {
+            markDirty(e.getFirstIndex(), e.getLastIndex());
+            selectionUpdater.selectionChanged(e);
+        };
+
+        /**
+         * Range of row indexes (inclusive) which selection state may differ from the property value.
+         */
+        private int dirtyFirst = Integer.MAX_VALUE;
+        private int dirtyLast = -1;
 
         TableSelectedRowsProperty(JTable table) {
-            super(table, "selectedRows", new ObservableListWrapper<>(getSelectedRows(table)));
+            super(table, "selectedRows", new SelectedRowsList(getSelectedRows(table)));
+        }
+
+        @Override
+        public SelectionUpdater getSelectionUpdater() {
+            return selectionUpdater;
         }
 
         void updateSelectionModel() {
@@ -35,16 +233,36 @@ final class TableSelectedRowsPropertyImpl {
             this.selectionModel.addListSelectionListener(this.selectionListener);
         }
 
+        private void markDirty(int first, int last) {
+            dirtyFirst = Math.min(dirtyFirst, first);
+            dirtyLast = Math.max(dirtyLast, last);
+        }
+
         void selectedRowsChanged() {
-            if (!adjustingTableSelection) {
+            final int first = Math.max(0, dirtyFirst);
+            final int last = dirtyLast;
+            dirtyFirst = Integer.MAX_VALUE;
+            dirtyLast = -1;
+            if (adjustingTableSelection || first > last) {
+                return;
+            }
+            updatingFromTable = true;
+            try {
+                ObservableList<Integer> value = get();
+                if (value instanceof SelectedRowsList
+                        && ((SelectedRowsList) value).syncRange(selectionModel, first, last)) {
+                    return;
+                }
                 List<Integer> tableValue = getSelectedRows((JTable) getBean());
-                if (nonEqualUnordered(tableValue, get())) {
+                if (nonEqualUnordered(tableValue, value)) {
                     if (tableValue.isEmpty()) {
-                        get().clear();
+                        value.clear();
                     } else {
-                        get().setAll(tableValue);
+                        value.setAll(tableValue);
                     }
                 }
+            } finally {
+                updatingFromTable = false;
             }
         }
     }
@@ -64,6 +282,7 @@ final class TableSelectedRowsPropertyImpl {
         JTable table = (JTable) e.getSource();
         TableSelectedRowsProperty p = (TableSelectedRowsProperty) table.getClientProperty(PROP_SELECTED_ROWS);
         p.updateSelectionModel();
+        p.markDirty(0, Integer.MAX_VALUE);
         p.selectedRowsChanged();
     };
 
@@ -73,29 +292,35 @@ final class TableSelectedRowsPropertyImpl {
 
     private static final ChangeListener<List<Integer>> FX_PROP_LISTENER = (observable, oldValue, newValue) -> {
         TableSelectedRowsProperty p = (TableSelectedRowsProperty) observable;
+        if (p.updatingFromTable) {
+            return; // the value already reflects the table selection
+        }
         JTable table = (JTable) p.getBean();
-        List<Integer> tableValue = getSelectedRows(table);
         List<Integer> propValue = p.get();
-        if (nonEqualUnordered(tableValue, propValue)) {
+        int[] rows = new int[propValue.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = propValue.get(i);
+        }
+        Arrays.sort(rows); // values may be unsorted
+        int count = removeDuplicates(rows);
+        ListSelectionModel selectionModel = table.getSelectionModel();
+        if (!isSelected(selectionModel, rows, count)) {
             p.adjustingTableSelection = true;
             try {
-                table.clearSelection();
-                if (!propValue.isEmpty()) {
-                    int min = Collections.min(propValue);
-                    boolean contInterval = true; // values in the interval may be unsorted
-                    for (int i = 1; i < propValue.size(); i++) {
-                        if (!propValue.contains(min + i)) {
-                            contInterval = false;
-                            break;
+                // listeners which wait for the end of the series get a single event
+                selectionModel.setValueIsAdjusting(true);
+                try {
+                    table.clearSelection();
+                    // add maximal runs of consecutive rows, e.g. 1, 3, 4, 5, 7 -> [1], [3-5], [7]
+                    int runStart = 0;
+                    for (int i = 1; i <= count; i++) {
+                        if (i == count || rows[i] != rows[i - 1] + 1) {
+                            table.addRowSelectionInterval(rows[runStart], rows[i - 1]);
+                            runStart = i;
                         }
                     }
-                    if (contInterval) {
-                        // e.g. 3, 4, 5 (or 5, 3, 4)
-                        table.addRowSelectionInterval(min, min + propValue.size() - 1);
-                    } else {
-                        // e.g. 1, 3, 7
-                        propValue.forEach(index -> table.addRowSelectionInterval(index, index));
-                    }
+                } finally {
+                    selectionModel.setValueIsAdjusting(false);
                 }
             } finally {
                 p.adjustingTableSelection = false;
@@ -103,6 +328,46 @@ final class TableSelectedRowsPropertyImpl {
         }
     };
 
+    /**
+     * @param rows Sorted array.
+     * @return Number of distinct values which are moved to the beginning of the array.
+     */
+    private static int removeDuplicates(int[] rows) {
+        if (rows.length == 0) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 1; i < rows.length; i++) {
+            if (rows[i] != rows[count - 1]) {
+                rows[count++] = rows[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return {@code true} if exactly the specified rows are selected in the selection model.
+     */
+    private static boolean isSelected(ListSelectionModel selectionModel, int[] rows, int count) {
+        if (count == 0) {
+            return selectionModel.isSelectionEmpty();
+        }
+        if (selectionModel.getMinSelectionIndex() != rows[0]
+                || selectionModel.getMaxSelectionIndex() != rows[count - 1]) {
+            return false;
+        }
+        int i = 0;
+        for (int row = rows[0]; row <= rows[count - 1]; row++) {
+            if (selectionModel.isSelectedIndex(row)) {
+                if (i == count || rows[i] != row) {
+                    return false;
+                }
+                i++;
+            }
+        }
+        return i == count;
+    }
+
     static ListProperty<Integer> getProperty(JTable table) {
         Objects.requireNonNull(table, "table");
         TableSelectedRowsProperty p = (TableSelectedRowsProperty) table.getClientProperty(PROP_SELECTED_ROWS);
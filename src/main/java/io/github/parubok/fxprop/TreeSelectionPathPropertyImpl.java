@@ -17,7 +17,7 @@ final class TreeSelectionPathPropertyImpl {
         private final JTree tree;
         private TreeSelectionModel selectionModel;
         private TreePath value;
-        private final TreeSelectionListener selectionListener = e -> selectionPathChanged();
+        private final TreeSelectionListener selectionListener = e -> UpdateScheduler.update(this, this::selectionPathChanged);
 
         TreeSelectionPathProperty(JTree tree) {
             this.tree = tree;
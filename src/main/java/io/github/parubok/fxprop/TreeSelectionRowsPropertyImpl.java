@@ -37,7 +37,7 @@ final class TreeSelectionRowsPropertyImpl {
         private final JTree tree;
         private TreeSelectionModel selectionModel;
         private List<Integer> value;
-        private final TreeSelectionListener selectionListener = e -> selectionRowsChanged();
+        private final TreeSelectionListener selectionListener = e -> UpdateScheduler.update(this, this::selectionRowsChanged);
 
         TreeSelectionRowsProperty(JTree tree) {
             this.tree = tree;
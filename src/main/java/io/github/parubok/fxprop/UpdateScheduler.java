@@ -0,0 +1,88 @@
+package io.github.parubok.fxprop;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runs updates of property values from the state of the underlying Swing objects.
+ * <p>
+ * By default, an update runs immediately. When coalescing is enabled, updates requested on the event dispatch thread
+ * are collected and run in a single {@link SwingUtilities#invokeLater(Runnable)} pass: each property is updated at
+ * most once per pass, in the order in which the properties requested their first update.
+ * </p>
+ *
+ * @see SwingPropertySupport#setCoalescingEnabled(boolean)
+ */
+final class UpdateScheduler {
+    private static volatile boolean coalescing;
+
+    /**
+     * Properties with a pending update. The properties are compared by identity, since e.g. list properties are equal
+     * when their contents are equal. Accessed only on EDT.
+     */
+    private static final Map<Object, Boolean> pendingProperties = new IdentityHashMap<>();
+    /**
+     * Pending updates in the order of the first request of their properties. Accessed only on EDT.
+     */
+    private static final List<Runnable> pending = new ArrayList<>();
+    private static boolean flushScheduled;
+
+    private UpdateScheduler() {
+    }
+
+    static boolean isCoalescing() {
+        return coalescing;
+    }
+
+    static void setCoalescing(boolean coalescing) {
+        UpdateScheduler.coalescing = coalescing;
+    }
+
+    /**
+     * @param property Property to update. Serves as a key (compared by identity) to drop duplicate updates. Not null.
+     * @param update Task which reads the Swing state and updates the property value. The task must be idempotent,
+     * since only the first of several pending tasks of the same property is executed.
+     */
+    static void update(Object property, Runnable update) {
+        Objects.requireNonNull(property, "property");
+        if (coalescing && SwingUtilities.isEventDispatchThread()) {
+            if (pendingProperties.put(property, Boolean.TRUE) == null) {
+                pending.add(update);
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    SwingUtilities.invokeLater(UpdateScheduler::flush);
+                }
+            }
+        } else {
+            update.run();
+        }
+    }
+
+    private static void flush() {
+        flushScheduled = false;
+        // updates requested while running the current ones go to the next pass:
+        List<Runnable> updates = new ArrayList<>(pending);
+        pending.clear();
+        pendingProperties.clear();
+        RuntimeException error = null;
+        for (Runnable update : updates) {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                // do not lose updates of other properties
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+}
@@ -35,7 +35,7 @@ final class ValidInputPropertyImpl {
         }
 
         void onDocChange() {
-            updateProp((JTextComponent) getBean());
+            UpdateScheduler.update(this, () -> updateProp((JTextComponent) getBean()));
         }
 
         @Override
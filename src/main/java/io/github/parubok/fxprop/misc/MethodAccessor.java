@@ -0,0 +1,217 @@
+package io.github.parubok.fxprop.misc;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compiled accessor for a getter (no arguments) or a setter (single argument) method.
+ * <p>
+ * The accessor is created once (e.g. per property descriptor) and can be invoked for any number of bean instances.
+ * Where possible, the method is linked via {@link LambdaMetafactory}, so an invocation is as cheap as a regular
+ * interface call. When the method cannot be linked this way (e.g. the declaring class is not visible from this
+ * library's class loader), a {@link MethodHandle} is used and, as the last resort, {@link MethodUtil#invoke}.
+ * </p>
+ * <p>
+ * Exceptions thrown by the target method are wrapped in {@link InvocationTargetException}, just like
+ * {@link Method#invoke(Object, Object...)} does, while errors are rethrown as is. A bean or an argument of a wrong
+ * type is passed to {@link MethodUtil#invoke}, so it results in the same exception as of
+ * {@link Method#invoke(Object, Object...)} (e.g. {@link IllegalArgumentException}), and an argument which needs a
+ * widening conversion is accepted.
+ * </p>
+ */
+public final class MethodAccessor {
+    private final Method method;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final MethodHandle handle;
+    /**
+     * Type of the argument of the setter, boxed if primitive.
+     */
+    private final Class<?> argumentType;
+
+    private MethodAccessor(Method method, Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                           MethodHandle handle) {
+        this.method = method;
+        this.getter = getter;
+        this.setter = setter;
+        this.handle = handle;
+        this.argumentType = method.getParameterCount() == 1
+                ? MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType() : null;
+    }
+
+    /**
+     * @param method Public instance method with no arguments. Not null.
+     * @return Accessor to invoke the method via {@link #get(Object)}.
+     */
+    public static MethodAccessor forGetter(Method method) {
+        Objects.requireNonNull(method, "method");
+        if (method.getParameterCount() != 0) {
+            throw new IllegalArgumentException("Getter must have no parameters: " + method);
+        }
+        MethodHandle target = unreflect(method);
+        if (target == null) {
+            return new MethodAccessor(method, null, null, null);
+        }
+        Function<Object, Object> getter = null;
+        if (isVisible(method)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "apply",
+                        MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+                        target, target.type().wrap());
+                getter = (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // fall back to method handle
+            }
+        }
+        return new MethodAccessor(method, getter, null, target.asType(MethodType.genericMethodType(1)));
+    }
+
+    /**
+     * @param method Public instance method with a single argument. Not null.
+     * @return Accessor to invoke the method via {@link #set(Object, Object)}.
+     */
+    public static MethodAccessor forSetter(Method method) {
+        Objects.requireNonNull(method, "method");
+        if (method.getParameterCount() != 1) {
+            throw new IllegalArgumentException("Setter must have a single parameter: " + method);
+        }
+        MethodHandle target = unreflect(method);
+        if (target == null) {
+            return new MethodAccessor(method, null, null, null);
+        }
+        BiConsumer<Object, Object> setter = null;
+        if (isVisible(method)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        target, target.type().wrap().changeReturnType(void.class));
+                setter = (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // fall back to method handle
+            }
+        }
+        MethodHandle handle = target.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return new MethodAccessor(method, null, setter, handle);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lambda class generated by {@link LambdaMetafactory} is defined in the class loader of this class, so it must be
+     * able to resolve the types of the target method.
+     */
+    private static boolean isVisible(Method method) {
+        ClassLoader loader = MethodAccessor.class.getClassLoader();
+        if (!isVisible(method.getDeclaringClass(), loader) || !isVisible(method.getReturnType(), loader)) {
+            return false;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!isVisible(type, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader loader) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} if the compiled accessor may be invoked for the bean, i.e. a failure of the invocation
+     * comes from the target method.
+     */
+    private boolean isReceiver(Object bean) {
+        return method.getDeclaringClass().isInstance(bean);
+    }
+
+    private boolean isArgument(Object value) {
+        return value == null ? !method.getParameterTypes()[0].isPrimitive() : argumentType.isInstance(value);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the getter method.
+     *
+     * @param bean Object to invoke the method on.
+     * @return Value returned by the method (boxed if the method returns a primitive).
+     */
+    public Object get(Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (!isReceiver(bean)) {
+            return MethodUtil.invoke(method, bean, (Object[]) null);
+        }
+        if (getter != null) {
+            try {
+                return getter.apply(bean);
+            } catch (Exception e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        if (handle != null) {
+            try {
+                return handle.invokeExact(bean);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        return MethodUtil.invoke(method, bean, (Object[]) null);
+    }
+
+    /**
+     * Invokes the setter method.
+     *
+     * @param bean Object to invoke the method on.
+     * @param value Argument of the method (boxed if the method accepts a primitive).
+     */
+    public void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+        if (!isReceiver(bean) || !isArgument(value)) {
+            MethodUtil.invoke(method, bean, new Object[] {value});
+        } else if (setter != null) {
+            try {
+                setter.accept(bean, value);
+            } catch (Exception e) {
+                throw new InvocationTargetException(e);
+            }
+        } else if (handle != null) {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        } else {
+            MethodUtil.invoke(method, bean, new Object[] {value});
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.com.sun.swingfx.binding.Diagnostics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diagnostics of the events fired by the observables of this library (properties, bindings and observable
+ * collections): the number of listeners and the rate of events of each observable, the listeners which took the
+ * longest time, and the longest chains of nested events. Helps to find the listener or the binding which blocks the
+ * event dispatch thread.
+ * <p>
+ * The collection is disabled by default. When disabled, its overhead is a single volatile read per event and per
+ * listener call. The observables and the listeners are identified by the class name and the identity hash code (and
+ * the name of the property if it has one), and are not prevented from being garbage collected.
+ * </p>
+ * <p>
+ * The diagnostics may be accessed via JMX after {@link #register()} is called.
+ * </p>
+ *
+ * @since swing-fx-properties 1.26
+ */
+public final class BindingDiagnostics implements BindingDiagnosticsMXBean {
+    /**
+     * Name of the MXBean registered by {@link #register()}.
+     */
+    public static final String OBJECT_NAME = "io.github.parubok.swingfx:type=BindingDiagnostics";
+
+    private static final BindingDiagnostics INSTANCE = new BindingDiagnostics();
+
+    private BindingDiagnostics() {
+    }
+
+    public static BindingDiagnostics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the instance in the platform MBean server under {@link #OBJECT_NAME}, unless it is already
+     * registered.
+     *
+     * @throws IllegalStateException If the registration failed.
+     */
+    public static void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            synchronized (BindingDiagnostics.class) {
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(INSTANCE, name);
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Diagnostics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        Diagnostics.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+        Diagnostics.reset();
+    }
+
+    @Override
+    public Map<String, Integer> getListenerCounts() {
+        return Diagnostics.getListenerCounts();
+    }
+
+    @Override
+    public Map<String, Double> getFiresPerSecond() {
+        return Diagnostics.getFiresPerSecond();
+    }
+
+    @Override
+    public List<String> getSlowestListeners() {
+        return Diagnostics.getSlowestListeners();
+    }
+
+    @Override
+    public List<String> getLongestPropagationChains() {
+        return Diagnostics.getLongestChains();
+    }
+}
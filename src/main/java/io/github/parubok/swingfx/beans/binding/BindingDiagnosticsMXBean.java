@@ -0,0 +1,47 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of {@link BindingDiagnostics}.
+ *
+ * @since swing-fx-properties 1.26
+ */
+public interface BindingDiagnosticsMXBean {
+    /**
+     * @return {@code true} if the statistics are collected.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the collection of the statistics. The already collected statistics are kept.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Clears the collected statistics.
+     */
+    void reset();
+
+    /**
+     * @return Number of listeners of each observable which fired an event, as of its last event.
+     */
+    Map<String, Integer> getListenerCounts();
+
+    /**
+     * @return Number of events per second of each observable which fired an event.
+     */
+    Map<String, Double> getFiresPerSecond();
+
+    /**
+     * @return The listeners with the longest single call (wall time), longest first.
+     */
+    List<String> getSlowestListeners();
+
+    /**
+     * @return The longest chains of nested events (e.g. a property invalidates a binding which invalidates another
+     * binding), longest first.
+     */
+    List<String> getLongestPropagationChains();
+}
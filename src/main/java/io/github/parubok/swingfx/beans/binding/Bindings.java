@@ -25,14 +25,20 @@
 
 package io.github.parubok.swingfx.beans.binding;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.com.sun.swingfx.binding.BidirectionalBinding;
 import io.github.parubok.com.sun.swingfx.binding.BidirectionalContentBinding;
 import io.github.parubok.com.sun.swingfx.binding.ContentBinding;
 import io.github.parubok.com.sun.swingfx.binding.DoubleConstant;
 import io.github.parubok.com.sun.swingfx.binding.FloatConstant;
 import io.github.parubok.com.sun.swingfx.binding.IntegerConstant;
+import io.github.parubok.com.sun.swingfx.binding.Interning;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
 import io.github.parubok.com.sun.swingfx.binding.LongConstant;
+import io.github.parubok.com.sun.swingfx.binding.NumberOperations;
+import io.github.parubok.com.sun.swingfx.binding.NumberOperations.Operator;
 import io.github.parubok.com.sun.swingfx.binding.ObjectConstant;
+import io.github.parubok.com.sun.swingfx.binding.Propagation;
 import io.github.parubok.com.sun.swingfx.binding.SelectBinding;
 import io.github.parubok.com.sun.swingfx.binding.StringConstant;
 import io.github.parubok.com.sun.swingfx.binding.StringFormatter;
@@ -113,6 +119,174 @@ public final class Bindings {
     private Bindings() {
     }
 
+    // =================================================================================================================
+    // Propagation mode
+
+    /**
+     * Enables or disables the glitch-free propagation of changes. The mode is disabled by default.
+     * <p>
+     * By default, the change listeners of an observable are notified as soon as the observable is invalidated, i.e.
+     * in the middle of the invalidation wave started by a source change. In a diamond-shaped dependency graph (e.g.
+     * two bindings which share a source and feed a third binding) a change listener of the bottom binding may then
+     * see a value computed from partially updated dependencies, and the binding is recomputed again once the rest
+     * of the dependencies are invalidated.
+     * </p>
+     * <p>
+     * When the mode is enabled, the change listeners are notified only after all the observables affected by the
+     * source change are invalidated. The notifications are performed in the order of the dependency height (bindings
+     * which depend on other bindings are notified later, as reported by {@link Binding#getDependencies()}), and each
+     * observable is notified at most once per source change. Since bindings are evaluated lazily, each binding is
+     * then recomputed at most once per source change and the listeners never observe intermediate states.
+     * </p>
+     * <p>
+     * <b>Note:</b> The mode affects the value change listeners ({@link io.github.parubok.swingfx.beans.value.ChangeListener}
+     * and its primitive specializations). Invalidation listeners and the change listeners of observable collections
+     * are notified immediately.
+     * </p>
+     *
+     * @param enabled {@code true} to enable the mode.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setGlitchFreePropagation(boolean enabled) {
+        Propagation.setGlitchFree(enabled);
+    }
+
+    /**
+     * @return {@code true} if the glitch-free propagation of changes is enabled.
+     * @see #setGlitchFreePropagation(boolean)
+     * @since swing-fx-properties 1.26
+     */
+    public static boolean isGlitchFreePropagation() {
+        return Propagation.isGlitchFree();
+    }
+
+    /**
+     * Enables or disables interning of the bindings created by the arithmetic and comparison methods of this class
+     * (and of {@link NumberExpressionBase}) and by the {@code isEmpty}/{@code isNotEmpty} methods.
+     * <p>
+     * When interning is enabled, such a method returns the existing binding if a binding of the same operation over
+     * the same operands was created before and is not yet garbage collected. The operands are compared by identity,
+     * except the primitive constants which are compared by value, so e.g. all the calls of
+     * {@code Bindings.greaterThan(count, 0)} with the same {@code count} return the same binding. In addition, the
+     * arithmetic operations over constants only are folded into constants.
+     * </p>
+     * <p>
+     * <b>Note:</b> An interned binding may be shared by unrelated code, so it must not be disposed.
+     * Disabling the mode clears the registry of the interned bindings.
+     * </p>
+     *
+     * @param enabled {@code true} to enable the interning.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setInterning(boolean enabled) {
+        Interning.setEnabled(enabled);
+    }
+
+    /**
+     * @return {@code true} if the interning of bindings is enabled.
+     * @see #setInterning(boolean)
+     * @since swing-fx-properties 1.26
+     */
+    public static boolean isInterning() {
+        return Interning.isEnabled();
+    }
+
+    /**
+     * Enables or disables the lazy mode of bindings. A binding which starts observing its dependencies (see e.g.
+     * {@link DoubleBinding#bind(Observable...)}) while the mode is enabled, does not register its listener on the
+     * dependencies until a listener is added to the binding. When the last listener is removed, the binding
+     * unregisters from the dependencies and becomes invalid. So the bindings which are not observed (e.g. the bindings
+     * of a view which is not shown) do not receive invalidations of their dependencies.
+     * <p>
+     * A lazy binding without listeners recomputes its value on each request, since nothing would invalidate a cached
+     * value. The exception are {@link ListBinding}, {@link SetBinding} and {@link MapBinding}, which observe the
+     * collection they return: the first request of their value registers them on the dependencies, and they stay
+     * registered until a listener is added and then the last listener is removed, or until they are disposed.
+     * </p>
+     * <p>
+     * The mode affects the bindings created after the call, including the ones created by the methods of this class.
+     * </p>
+     *
+     * @param enabled {@code true} to enable the lazy mode.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setLazyBindings(boolean enabled) {
+        LazyDependencies.setEnabled(enabled);
+    }
+
+    /**
+     * @return {@code true} if the lazy mode of bindings is enabled.
+     * @see #setLazyBindings(boolean)
+     * @since swing-fx-properties 1.26
+     */
+    public static boolean isLazyBindings() {
+        return LazyDependencies.isEnabled();
+    }
+
+    /**
+     * Runs the specified task as a batch of changes. Inside the batch, the property implementations based on
+     * {@link io.github.parubok.swingfx.beans.property.ObjectPropertyBase} and its siblings, and the observable lists
+     * and maps created by {@link FXCollections} defer the notification of their listeners until the outermost batch
+     * is closed. Each observable is then notified at most once, with the net change: e.g. a property which was set
+     * several times notifies its change listeners once, with the value before the batch as the old value, and a list
+     * reports all its modifications as a single {@link io.github.parubok.swingfx.collections.ListChangeListener.Change}.
+     * <p>
+     * The batch only affects the current thread. Batches may be nested. Inside the batch, the modified properties and
+     * collections return their new values, while the dependent bindings are invalidated when the batch is closed.
+     * </p>
+     * <p>
+     * Example - loading a record into a form without recomputing the dependent bindings for each field:
+     * <pre>
+     * Bindings.batch(() -&gt; {
+     *     firstName.set(person.getFirstName());
+     *     lastName.set(person.getLastName());
+     *     phones.setAll(person.getPhones());
+     * });
+     * </pre>
+     * <p>
+     * <b>Note:</b> Observable sets are not batched.
+     * </p>
+     *
+     * @param body Task to run. Not null.
+     * @since swing-fx-properties 1.26
+     */
+    public static void batch(Runnable body) {
+        Batch.run(body);
+    }
+
+    /**
+     * Fuses a tree of arithmetic bindings (e.g. {@code a.add(b).multiply(c)}) created by this class or by
+     * {@link NumberExpressionBase} into a single binding. The returned binding observes the leaf operands of the tree
+     * directly and evaluates the whole expression without boxing, so the intermediate bindings are not needed to keep
+     * it up to date. The specified binding and the intermediate bindings are not affected: they keep observing their
+     * operands while they are referenced, so they may still be used, and are garbage collected when not referenced.
+     *
+     * @param binding Root of the expression tree. Not null.
+     * @return New binding with the same value, or the specified binding if it is not an arithmetic binding over
+     * other arithmetic bindings.
+     * @since swing-fx-properties 1.26
+     */
+    public static NumberBinding compile(NumberBinding binding) {
+        return NumberOperations.compile(Objects.requireNonNull(binding, "binding"));
+    }
+
+    /**
+     * Fuses a tree of arithmetic and comparison bindings (e.g. {@code a.add(b).multiply(c).greaterThan(d)}) created by
+     * this class or by {@link NumberExpressionBase} into a single binding. The returned binding observes the leaf
+     * operands of the tree directly and evaluates the whole expression without boxing, so the intermediate bindings
+     * are not needed to keep it up to date. The specified binding and the intermediate bindings are not affected: they
+     * keep observing their operands while they are referenced, so they may still be used, and are garbage collected
+     * when not referenced.
+     *
+     * @param binding Root of the expression tree. Not null.
+     * @return New binding with the same value, or the specified binding if it is not a comparison of arithmetic
+     * bindings.
+     * @since swing-fx-properties 1.26
+     */
+    public static BooleanBinding compile(BooleanBinding binding) {
+        return NumberOperations.compile(Objects.requireNonNull(binding, "binding"));
+    }
+
     // =================================================================================================================
     // Helper functions to create custom bindings
 
@@ -1235,108 +1409,7 @@ public final class Bindings {
     // Sum
 
     private static NumberBinding add(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return op1.doubleValue() + op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return op1.floatValue() + op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return op1.longValue() + op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return op1.intValue() + op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.numberBinding(Operator.ADD, op1, op2, dependencies);
     }
 
     /**
@@ -1496,108 +1569,7 @@ public final class Bindings {
     // Diff
 
     private static NumberBinding subtract(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return op1.doubleValue() - op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return op1.floatValue() - op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return op1.longValue() - op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return op1.intValue() - op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.numberBinding(Operator.SUBTRACT, op1, op2, dependencies);
     }
 
     /**
@@ -1757,143 +1729,42 @@ public final class Bindings {
     // Multiply
 
     private static NumberBinding multiply(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
+        return NumberOperations.numberBinding(Operator.MULTIPLY, op1, op2, dependencies);
+    }
 
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
+    /**
+     * Creates a new {@link NumberBinding} that calculates
+     * the product of the values of two instances of
+     * {@link ObservableNumberValue}.
+     *
+     * @param op1
+     *            the first operand
+     * @param op2
+     *            the second operand
+     * @return the new {@code NumberBinding}
+     * @throws NullPointerException
+     *             if one of the operands is {@code null}
+     */
+    public static NumberBinding multiply(final ObservableNumberValue op1, final ObservableNumberValue op2) {
+        return Bindings.multiply(op1, op2, op1, op2);
+    }
 
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return op1.doubleValue() * op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return op1.floatValue() * op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return op1.longValue() * op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return op1.intValue() * op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
-    }
-
-    /**
-     * Creates a new {@link NumberBinding} that calculates
-     * the product of the values of two instances of
-     * {@link ObservableNumberValue}.
-     *
-     * @param op1
-     *            the first operand
-     * @param op2
-     *            the second operand
-     * @return the new {@code NumberBinding}
-     * @throws NullPointerException
-     *             if one of the operands is {@code null}
-     */
-    public static NumberBinding multiply(final ObservableNumberValue op1, final ObservableNumberValue op2) {
-        return Bindings.multiply(op1, op2, op1, op2);
-    }
-
-    /**
-     * Creates a new {@link DoubleBinding} that calculates
-     * the product of the value of a
-     * {@link ObservableNumberValue} and a constant value.
-     *
-     * @param op1
-     *            the {@code ObservableNumberValue}
-     * @param op2
-     *            the constant value
-     * @return the new {@code DoubleBinding}
-     * @throws NullPointerException
-     *             if the {@code ObservableNumberValue} is {@code null}
-     */
-    public static DoubleBinding multiply(final ObservableNumberValue op1, double op2) {
-        return (DoubleBinding) Bindings.multiply(op1, DoubleConstant.valueOf(op2), op1);
-    }
+    /**
+     * Creates a new {@link DoubleBinding} that calculates
+     * the product of the value of a
+     * {@link ObservableNumberValue} and a constant value.
+     *
+     * @param op1
+     *            the {@code ObservableNumberValue}
+     * @param op2
+     *            the constant value
+     * @return the new {@code DoubleBinding}
+     * @throws NullPointerException
+     *             if the {@code ObservableNumberValue} is {@code null}
+     */
+    public static DoubleBinding multiply(final ObservableNumberValue op1, double op2) {
+        return (DoubleBinding) Bindings.multiply(op1, DoubleConstant.valueOf(op2), op1);
+    }
 
     /**
      * Creates a new {@link DoubleBinding} that calculates
@@ -2018,108 +1889,7 @@ public final class Bindings {
     // Divide
 
     private static NumberBinding divide(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return op1.doubleValue() / op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return op1.floatValue() / op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return op1.longValue() / op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return op1.intValue() / op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.numberBinding(Operator.DIVIDE, op1, op2, dependencies);
     }
 
     /**
@@ -2279,108 +2049,7 @@ public final class Bindings {
     // Equals
 
     private static BooleanBinding equal(final ObservableNumberValue op1, final ObservableNumberValue op2, final double epsilon, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.doubleValue() - op2.doubleValue()) <= epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.floatValue() - op2.floatValue()) <= epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.longValue() - op2.longValue()) <= epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.intValue() - op2.intValue()) <= epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.booleanBinding(Operator.EQUAL, op1, op2, epsilon, dependencies);
     }
 
     /**
@@ -2718,108 +2387,7 @@ public final class Bindings {
     // Not Equal
 
     private static BooleanBinding notEqual(final ObservableNumberValue op1, final ObservableNumberValue op2, final double epsilon, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.doubleValue() - op2.doubleValue()) > epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.floatValue() - op2.floatValue()) > epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.longValue() - op2.longValue()) > epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return Math.abs(op1.intValue() - op2.intValue()) > epsilon;
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.booleanBinding(Operator.NOT_EQUAL, op1, op2, epsilon, dependencies);
     }
 
     /**
@@ -3153,112 +2721,11 @@ public final class Bindings {
         return notEqual(IntegerConstant.valueOf(op1), op2, 0.0, op2);
     }
 
-    // =================================================================================================================
-    // Greater Than
-
-    private static BooleanBinding greaterThan(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.doubleValue() > op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.floatValue() > op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.longValue() > op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.intValue() > op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+    // =================================================================================================================
+    // Greater Than
+
+    private static BooleanBinding greaterThan(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
+        return NumberOperations.booleanBinding(Operator.GREATER_THAN, op1, op2, 0.0, dependencies);
     }
 
     /**
@@ -3580,108 +3047,7 @@ public final class Bindings {
     // Greater Than or Equal
 
     private static BooleanBinding greaterThanOrEqual(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.doubleValue() >= op2.doubleValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.floatValue() >= op2.floatValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.longValue() >= op2.longValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new BooleanBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected boolean computeValue() {
-                    return op1.intValue() >= op2.intValue();
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.booleanBinding(Operator.GREATER_THAN_OR_EQUAL, op1, op2, 0.0, dependencies);
     }
 
     /**
@@ -4004,108 +3370,7 @@ public final class Bindings {
     // Minimum
 
     private static NumberBinding min(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return Math.min(op1.doubleValue(), op2.doubleValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return Math.min(op1.floatValue(), op2.floatValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return Math.min(op1.longValue(), op2.longValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return Math.min(op1.intValue(), op2.intValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.numberBinding(Operator.MIN, op1, op2, dependencies);
     }
 
     /**
@@ -4265,108 +3530,7 @@ public final class Bindings {
     // Maximum
 
     private static NumberBinding max(final ObservableNumberValue op1, final ObservableNumberValue op2, final Observable... dependencies) {
-        if ((op1 == null) || (op2 == null)) {
-            throw new NullPointerException("Operands cannot be null.");
-        }
-        assert (dependencies != null) && (dependencies.length > 0);
-
-        if ((op1 instanceof ObservableDoubleValue) || (op2 instanceof ObservableDoubleValue)) {
-            return new DoubleBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected double computeValue() {
-                    return Math.max(op1.doubleValue(), op2.doubleValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableFloatValue) || (op2 instanceof ObservableFloatValue)) {
-            return new FloatBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected float computeValue() {
-                    return Math.max(op1.floatValue(), op2.floatValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else if ((op1 instanceof ObservableLongValue) || (op2 instanceof ObservableLongValue)) {
-            return new LongBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected long computeValue() {
-                    return Math.max(op1.longValue(), op2.longValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        } else {
-            return new IntegerBinding() {
-                {
-                    super.bind(dependencies);
-                }
-
-                @Override
-                public void dispose() {
-                    super.unbind(dependencies);
-                }
-
-                @Override
-                protected int computeValue() {
-                    return Math.max(op1.intValue(), op2.intValue());
-                }
-
-                @Override
-                @ReturnsUnmodifiableCollection
-                public ObservableList<?> getDependencies() {
-                    return (dependencies.length == 1)?
-                            FXCollections.singletonObservableList(dependencies[0])
-                            : new ImmutableObservableList<Observable>(dependencies);
-                }
-            };
-        }
+        return NumberOperations.numberBinding(Operator.MAX, op1, op2, dependencies);
     }
 
     /**
@@ -5656,7 +4820,7 @@ public final class Bindings {
             throw new NullPointerException("Operand cannot be null");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -5676,7 +4840,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isEmpty", op);
     }
 
     /**
@@ -5698,7 +4862,7 @@ public final class Bindings {
             throw new NullPointerException("Operand cannot be null");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -5718,7 +4882,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isNotEmpty", op);
     }
 
     // Object
@@ -6030,7 +5194,7 @@ public final class Bindings {
             throw new NullPointerException("List cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -6050,7 +5214,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isEmpty", op);
     }
 
     /**
@@ -6070,7 +5234,7 @@ public final class Bindings {
             throw new NullPointerException("List cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -6090,7 +5254,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isNotEmpty", op);
     }
 
     /**
@@ -7034,7 +6198,7 @@ public final class Bindings {
             throw new NullPointerException("Set cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -7054,7 +6218,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isEmpty", op);
     }
 
     /**
@@ -7074,7 +6238,7 @@ public final class Bindings {
             throw new NullPointerException("List cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -7094,7 +6258,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isNotEmpty", op);
     }
 
     // Array
@@ -7411,7 +6575,7 @@ public final class Bindings {
             throw new NullPointerException("Map cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -7431,7 +6595,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isEmpty", op);
     }
 
     /**
@@ -7452,7 +6616,7 @@ public final class Bindings {
             throw new NullPointerException("Map cannot be null.");
         }
 
-        return new BooleanBinding() {
+        return Interning.intern(() -> new BooleanBinding() {
             {
                 super.bind(op);
             }
@@ -7472,7 +6636,7 @@ public final class Bindings {
             public ObservableList<?> getDependencies() {
                 return FXCollections.singletonObservableList(op);
             }
-        };
+        }, "isNotEmpty", op);
     }
 
     /**
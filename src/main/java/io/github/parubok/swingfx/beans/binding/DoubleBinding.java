@@ -28,13 +28,16 @@ package io.github.parubok.swingfx.beans.binding;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.Observable;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.DoubleChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
 import io.github.parubok.swingfx.collections.FXCollections;
 import io.github.parubok.swingfx.collections.ObservableList;
 import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
 
 import io.github.parubok.com.sun.swingfx.binding.BindingHelperObserver;
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
+import io.github.parubok.com.sun.swingfx.binding.DoubleExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 
 /**
  * Base class that provides most of the functionality needed to implement a
@@ -116,26 +119,43 @@ public abstract class DoubleBinding extends DoubleExpression implements
     private double value;
     private boolean valid;
     private BindingHelperObserver observer;
-    private ExpressionHelper<Number> helper = null;
+    private LazyDependencies lazyDependencies;
+    private PrimitiveExpressionHelper helper = null;
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        attachLazyDependencies();
+        helper = DoubleExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        helper = DoubleExpressionHelper.removePrimitiveListener(helper, listener);
+        detachLazyDependencies();
     }
 
     /**
@@ -147,6 +167,13 @@ public abstract class DoubleBinding extends DoubleExpression implements
      */
     protected final void bind(Observable... dependencies) {
         if ((dependencies != null) && (dependencies.length > 0)) {
+            if ((observer == null) && (lazyDependencies == null) && LazyDependencies.isEnabled()) {
+                lazyDependencies = new LazyDependencies(this);
+            }
+            if (lazyDependencies != null) {
+                lazyDependencies.add(dependencies);
+                return;
+            }
             if (observer == null) {
                 observer = new BindingHelperObserver(this);
             }
@@ -163,6 +190,10 @@ public abstract class DoubleBinding extends DoubleExpression implements
      *            the dependencies to stop observing
      */
     protected final void unbind(Observable... dependencies) {
+        if (lazyDependencies != null) {
+            lazyDependencies.remove(dependencies);
+            return;
+        }
         if (observer != null) {
             for (final Observable dep : dependencies) {
                 dep.removeListener(observer);
@@ -171,6 +202,26 @@ public abstract class DoubleBinding extends DoubleExpression implements
         }
     }
 
+    /**
+     * Starts observing the dependencies of a lazy binding. Must be called before a listener is registered, so the
+     * value computed by the helper for a change listener is cached and later invalidated.
+     */
+    private void attachLazyDependencies() {
+        if (lazyDependencies != null) {
+            lazyDependencies.attach();
+        }
+    }
+
+    /**
+     * Stops observing the dependencies of a lazy binding when its last listener is removed.
+     */
+    private void detachLazyDependencies() {
+        if ((lazyDependencies != null) && (helper == null)) {
+            lazyDependencies.detach();
+            valid = false;
+        }
+    }
+
     /**
      * A default implementation of {@code dispose()} that is empty.
      */
@@ -194,13 +245,19 @@ public abstract class DoubleBinding extends DoubleExpression implements
      * Returns the result of {@link #computeValue()}. The method
      * {@code computeValue()} is only called if the binding is invalid. The
      * result is cached and returned if the binding did not become invalid since
-     * the last call of {@code get()}.
+     * the last call of {@code get()}. A lazy binding (see
+     * {@link Bindings#setLazyBindings(boolean)}) without listeners does not
+     * observe its dependencies, so it does not cache the result.
      *
      * @return the current value
      */
     @Override
     public final double get() {
         if (!valid) {
+            if ((lazyDependencies != null) && !lazyDependencies.isAttached()) {
+                // nothing would invalidate the cached value of a lazy binding without listeners
+                return computeValue();
+            }
             value = computeValue();
             valid = true;
         }
@@ -220,7 +277,7 @@ public abstract class DoubleBinding extends DoubleExpression implements
         if (valid) {
             valid = false;
             onInvalidating();
-            ExpressionHelper.fireValueChangedEvent(helper);
+            DoubleExpressionHelper.fireValueChangedEvent(helper);
         }
     }
 
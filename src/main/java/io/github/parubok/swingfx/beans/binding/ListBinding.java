@@ -26,6 +26,7 @@
 package io.github.parubok.swingfx.beans.binding;
 
 import io.github.parubok.com.sun.swingfx.binding.BindingHelperObserver;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
 import io.github.parubok.com.sun.swingfx.binding.ListExpressionHelper;
 import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
 import io.github.parubok.swingfx.beans.property.ReadOnlyBooleanProperty;
@@ -77,6 +78,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
     private ObservableList<E> value;
     private boolean valid = false;
     private BindingHelperObserver observer;
+    private LazyDependencies lazyDependencies;
     private ListExpressionHelper<E> helper = null;
 
     private SizeProperty size0;
@@ -144,31 +146,37 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
     @Override
     public void addListener(InvalidationListener listener) {
         helper = ListExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
         helper = ListExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ChangeListener<? super ObservableList<E>> listener) {
         helper = ListExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(ChangeListener<? super ObservableList<E>> listener) {
         helper = ListExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ListChangeListener<? super E> listener) {
         helper = ListExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(ListChangeListener<? super E> listener) {
         helper = ListExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     /**
@@ -180,6 +188,13 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
      */
     protected final void bind(Observable... dependencies) {
         if ((dependencies != null) && (dependencies.length > 0)) {
+            if ((observer == null) && (lazyDependencies == null) && LazyDependencies.isEnabled()) {
+                lazyDependencies = new LazyDependencies(this);
+            }
+            if (lazyDependencies != null) {
+                lazyDependencies.add(dependencies);
+                return;
+            }
             if (observer == null) {
                 observer = new BindingHelperObserver(this);
             }
@@ -198,6 +213,10 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
      *            the dependencies to stop observing
      */
     protected final void unbind(Observable... dependencies) {
+        if (lazyDependencies != null) {
+            lazyDependencies.remove(dependencies);
+            return;
+        }
         if (observer != null) {
             for (final Observable dep : dependencies) {
                 if (dep != null) {
@@ -208,6 +227,25 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
         }
     }
 
+    private void attachLazyDependencies() {
+        if (lazyDependencies != null) {
+            lazyDependencies.attach();
+        }
+    }
+
+    /**
+     * Stops observing the dependencies of a lazy binding when its last listener is removed.
+     */
+    private void detachLazyDependencies() {
+        if ((lazyDependencies != null) && (helper == null)) {
+            lazyDependencies.detach();
+            if (valid && (value != null)) {
+                value.removeListener(listChangeListener);
+            }
+            valid = false;
+        }
+    }
+
     /**
      * A default implementation of {@code dispose()} that is empty.
      */
@@ -238,6 +276,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
     @Override
     public final ObservableList<E> get() {
         if (!valid) {
+            attachLazyDependencies();
             value = computeValue();
             valid = true;
             if (value != null) {
@@ -26,6 +26,7 @@
 package io.github.parubok.swingfx.beans.binding;
 
 import io.github.parubok.com.sun.swingfx.binding.BindingHelperObserver;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
 import io.github.parubok.com.sun.swingfx.binding.MapExpressionHelper;
 import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
 import io.github.parubok.swingfx.beans.property.ReadOnlyBooleanProperty;
@@ -80,6 +81,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
     private ObservableMap<K, V> value;
     private boolean valid = false;
     private BindingHelperObserver observer;
+    private LazyDependencies lazyDependencies;
     private MapExpressionHelper<K, V> helper = null;
 
     private SizeProperty size0;
@@ -147,31 +149,37 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
     @Override
     public void addListener(InvalidationListener listener) {
         helper = MapExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
         helper = MapExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ChangeListener<? super ObservableMap<K, V>> listener) {
         helper = MapExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(ChangeListener<? super ObservableMap<K, V>> listener) {
         helper = MapExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(MapChangeListener<? super K, ? super V> listener) {
         helper = MapExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(MapChangeListener<? super K, ? super V> listener) {
         helper = MapExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     /**
@@ -183,6 +191,13 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
      */
     protected final void bind(Observable... dependencies) {
         if ((dependencies != null) && (dependencies.length > 0)) {
+            if ((observer == null) && (lazyDependencies == null) && LazyDependencies.isEnabled()) {
+                lazyDependencies = new LazyDependencies(this);
+            }
+            if (lazyDependencies != null) {
+                lazyDependencies.add(dependencies);
+                return;
+            }
             if (observer == null) {
                 observer = new BindingHelperObserver(this);
             }
@@ -201,6 +216,10 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
      *            the dependencies to stop observing
      */
     protected final void unbind(Observable... dependencies) {
+        if (lazyDependencies != null) {
+            lazyDependencies.remove(dependencies);
+            return;
+        }
         if (observer != null) {
             for (final Observable dep : dependencies) {
                 if (dep != null) {
@@ -211,6 +230,25 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
         }
     }
 
+    private void attachLazyDependencies() {
+        if (lazyDependencies != null) {
+            lazyDependencies.attach();
+        }
+    }
+
+    /**
+     * Stops observing the dependencies of a lazy binding when its last listener is removed.
+     */
+    private void detachLazyDependencies() {
+        if ((lazyDependencies != null) && (helper == null)) {
+            lazyDependencies.detach();
+            if (valid && (value != null)) {
+                value.removeListener(mapChangeListener);
+            }
+            valid = false;
+        }
+    }
+
     /**
      * A default implementation of {@code dispose()} that is empty.
      */
@@ -241,6 +279,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
     @Override
     public final ObservableMap<K, V> get() {
         if (!valid) {
+            attachLazyDependencies();
             value = computeValue();
             valid = true;
             if (value != null) {
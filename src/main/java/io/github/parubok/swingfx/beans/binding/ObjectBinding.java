@@ -33,6 +33,7 @@ import io.github.parubok.swingfx.collections.ObservableList;
 import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
 
 import io.github.parubok.com.sun.swingfx.binding.BindingHelperObserver;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
 import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
 
 /**
@@ -65,26 +66,31 @@ public abstract class ObjectBinding<T> extends ObjectExpression<T> implements
     private T value;
     private boolean valid = false;
     private BindingHelperObserver observer;
+    private LazyDependencies lazyDependencies;
     private ExpressionHelper<T> helper = null;
 
     @Override
     public void addListener(InvalidationListener listener) {
+        attachLazyDependencies();
         helper = ExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
         helper = ExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ChangeListener<? super T> listener) {
+        attachLazyDependencies();
         helper = ExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super T> listener) {
         helper = ExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     /**
@@ -96,6 +102,13 @@ public abstract class ObjectBinding<T> extends ObjectExpression<T> implements
      */
     protected final void bind(Observable... dependencies) {
         if ((dependencies != null) && (dependencies.length > 0)) {
+            if ((observer == null) && (lazyDependencies == null) && LazyDependencies.isEnabled()) {
+                lazyDependencies = new LazyDependencies(this);
+            }
+            if (lazyDependencies != null) {
+                lazyDependencies.add(dependencies);
+                return;
+            }
             if (observer == null) {
                 observer = new BindingHelperObserver(this);
             }
@@ -112,6 +125,10 @@ public abstract class ObjectBinding<T> extends ObjectExpression<T> implements
      *            the dependencies to stop observing
      */
     protected final void unbind(Observable... dependencies) {
+        if (lazyDependencies != null) {
+            lazyDependencies.remove(dependencies);
+            return;
+        }
         if (observer != null) {
             for (final Observable dep : dependencies) {
                 dep.removeListener(observer);
@@ -120,6 +137,26 @@ public abstract class ObjectBinding<T> extends ObjectExpression<T> implements
         }
     }
 
+    /**
+     * Starts observing the dependencies of a lazy binding. Must be called before a listener is registered, so the
+     * value computed by the helper for a change listener is cached and later invalidated.
+     */
+    private void attachLazyDependencies() {
+        if (lazyDependencies != null) {
+            lazyDependencies.attach();
+        }
+    }
+
+    /**
+     * Stops observing the dependencies of a lazy binding when its last listener is removed.
+     */
+    private void detachLazyDependencies() {
+        if ((lazyDependencies != null) && (helper == null)) {
+            lazyDependencies.detach();
+            valid = false;
+        }
+    }
+
     /**
      * A default implementation of {@code dispose()} that is empty.
      */
@@ -143,13 +180,19 @@ public abstract class ObjectBinding<T> extends ObjectExpression<T> implements
      * Returns the result of {@link #computeValue()}. The method
      * {@code computeValue()} is only called if the binding is invalid. The
      * result is cached and returned if the binding did not become invalid since
-     * the last call of {@code get()}.
+     * the last call of {@code get()}. A lazy binding (see
+     * {@link Bindings#setLazyBindings(boolean)}) without listeners does not
+     * observe its dependencies, so it does not cache the result.
      *
      * @return the current value
      */
     @Override
     public final T get() {
         if (!valid) {
+            if ((lazyDependencies != null) && !lazyDependencies.isAttached()) {
+                // nothing would invalidate the cached value of a lazy binding without listeners
+                return computeValue();
+            }
             value = computeValue();
             valid = true;
         }
@@ -26,6 +26,7 @@
 package io.github.parubok.swingfx.beans.binding;
 
 import io.github.parubok.com.sun.swingfx.binding.BindingHelperObserver;
+import io.github.parubok.com.sun.swingfx.binding.LazyDependencies;
 import io.github.parubok.com.sun.swingfx.binding.SetExpressionHelper;
 import io.github.parubok.com.sun.swingfx.collections.annotations.ReturnsUnmodifiableCollection;
 import io.github.parubok.swingfx.beans.property.ReadOnlyBooleanProperty;
@@ -78,6 +79,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
     private ObservableSet<E> value;
     private boolean valid = false;
     private BindingHelperObserver observer;
+    private LazyDependencies lazyDependencies;
     private SetExpressionHelper<E> helper = null;
 
     private SizeProperty size0;
@@ -145,31 +147,37 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
     @Override
     public void addListener(InvalidationListener listener) {
         helper = SetExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
         helper = SetExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(ChangeListener<? super ObservableSet<E>> listener) {
         helper = SetExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(ChangeListener<? super ObservableSet<E>> listener) {
         helper = SetExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     @Override
     public void addListener(SetChangeListener<? super E> listener) {
         helper = SetExpressionHelper.addListener(helper, this, listener);
+        attachLazyDependencies();
     }
 
     @Override
     public void removeListener(SetChangeListener<? super E> listener) {
         helper = SetExpressionHelper.removeListener(helper, listener);
+        detachLazyDependencies();
     }
 
     /**
@@ -181,6 +189,13 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
      */
     protected final void bind(Observable... dependencies) {
         if ((dependencies != null) && (dependencies.length > 0)) {
+            if ((observer == null) && (lazyDependencies == null) && LazyDependencies.isEnabled()) {
+                lazyDependencies = new LazyDependencies(this);
+            }
+            if (lazyDependencies != null) {
+                lazyDependencies.add(dependencies);
+                return;
+            }
             if (observer == null) {
                 observer = new BindingHelperObserver(this);
             }
@@ -199,6 +214,10 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
      *            the dependencies to stop observing
      */
     protected final void unbind(Observable... dependencies) {
+        if (lazyDependencies != null) {
+            lazyDependencies.remove(dependencies);
+            return;
+        }
         if (observer != null) {
             for (final Observable dep : dependencies) {
                 if (dep != null) {
@@ -209,6 +228,25 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
         }
     }
 
+    private void attachLazyDependencies() {
+        if (lazyDependencies != null) {
+            lazyDependencies.attach();
+        }
+    }
+
+    /**
+     * Stops observing the dependencies of a lazy binding when its last listener is removed.
+     */
+    private void detachLazyDependencies() {
+        if ((lazyDependencies != null) && (helper == null)) {
+            lazyDependencies.detach();
+            if (valid && (value != null)) {
+                value.removeListener(setChangeListener);
+            }
+            valid = false;
+        }
+    }
+
     /**
      * A default implementation of {@code dispose()} that is empty.
      */
@@ -239,6 +277,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
     @Override
     public final ObservableSet<E> get() {
         if (!valid) {
+            attachLazyDependencies();
             value = computeValue();
             valid = true;
             if (value != null) {
@@ -25,6 +25,7 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.Observable;
 import io.github.parubok.swingfx.beans.binding.BooleanBinding;
@@ -107,7 +108,11 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
         if (valid) {
             valid = false;
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
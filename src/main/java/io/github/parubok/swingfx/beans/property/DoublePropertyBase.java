@@ -25,13 +25,16 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.Observable;
 import io.github.parubok.swingfx.beans.binding.DoubleBinding;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.DoubleChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.DoubleExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 import java.lang.ref.WeakReference;
 import io.github.parubok.swingfx.beans.value.ObservableDoubleValue;
 import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
@@ -55,7 +58,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
     private ObservableDoubleValue observable = null;
     private InvalidationListener listener = null;
     private boolean valid = true;
-    private ExpressionHelper<Number> helper = null;
+    private PrimitiveExpressionHelper helper = null;
 
     /**
      * The constructor of the {@code DoublePropertyBase}.
@@ -75,42 +78,57 @@ public abstract class DoublePropertyBase extends DoubleProperty {
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
+    }
+
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        helper = DoubleExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        helper = DoubleExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
      * Sends notifications to all attached
-     * {@link InvalidationListener InvalidationListeners} and
-     * {@link ChangeListener ChangeListeners}.
+     * {@link InvalidationListener InvalidationListeners},
+     * {@link ChangeListener ChangeListeners} and
+     * {@link DoubleChangeListener DoubleChangeListeners}.
      *
      * This method is called when the value is changed, either manually by
      * calling {@link #set(double)} or in case of a bound property, if the
      * binding becomes invalid.
      */
     protected void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleExpressionHelper.fireValueChangedEvent(helper);
     }
 
     private void markInvalid() {
         if (valid) {
             valid = false;
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
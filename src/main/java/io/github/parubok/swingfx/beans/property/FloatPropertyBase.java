@@ -25,13 +25,16 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.Observable;
 import io.github.parubok.swingfx.beans.binding.FloatBinding;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.FloatChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.FloatExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 import java.lang.ref.WeakReference;
 import io.github.parubok.swingfx.beans.value.ObservableFloatValue;
 import io.github.parubok.swingfx.beans.value.ObservableNumberValue;
@@ -55,7 +58,7 @@ public abstract class FloatPropertyBase extends FloatProperty {
     private ObservableFloatValue observable = null;;
     private InvalidationListener listener = null;
     private boolean valid = true;
-    private ExpressionHelper<Number> helper = null;
+    private PrimitiveExpressionHelper helper = null;
 
     /**
      * The constructor of the {@code FloatPropertyBase}.
@@ -75,22 +78,32 @@ public abstract class FloatPropertyBase extends FloatProperty {
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = FloatExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = FloatExpressionHelper.removeListener(helper, listener);
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = FloatExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = FloatExpressionHelper.removeListener(helper, listener);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        helper = FloatExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        helper = FloatExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -103,14 +116,18 @@ public abstract class FloatPropertyBase extends FloatProperty {
      * binding becomes invalid.
      */
     protected void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        FloatExpressionHelper.fireValueChangedEvent(helper);
     }
 
     private void markInvalid() {
         if (valid) {
             valid = false;
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
@@ -25,6 +25,7 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.com.sun.swingfx.binding.ListExpressionHelper;
 import java.lang.ref.WeakReference;
 import io.github.parubok.swingfx.beans.InvalidationListener;
@@ -217,7 +218,11 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
             valid = false;
             invalidateProperties();
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
@@ -25,6 +25,7 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.com.sun.swingfx.binding.MapExpressionHelper;
 import java.lang.ref.WeakReference;
 
@@ -221,7 +222,11 @@ public abstract class MapPropertyBase<K, V> extends MapProperty<K, V> {
             valid = false;
             invalidateProperties();
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
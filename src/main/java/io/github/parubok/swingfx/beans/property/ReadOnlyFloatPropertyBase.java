@@ -27,8 +27,10 @@ package io.github.parubok.swingfx.beans.property;
 
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.FloatChangeListener;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.FloatExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 
 /**
  * Base class for all readonly properties wrapping a {@code float}. This class provides a default
@@ -39,26 +41,36 @@ import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
  */
 public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
 
-    ExpressionHelper<Number> helper;
+    PrimitiveExpressionHelper helper;
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = FloatExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = FloatExpressionHelper.removeListener(helper, listener);
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = FloatExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = FloatExpressionHelper.removeListener(helper, listener);
+    }
+
+    @Override
+    public void addFloatChangeListener(FloatChangeListener listener) {
+        helper = FloatExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeFloatChangeListener(FloatChangeListener listener) {
+        helper = FloatExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -69,7 +81,7 @@ public abstract class ReadOnlyFloatPropertyBase extends ReadOnlyFloatProperty {
      * This method needs to be called, if the value of this property changes.
      */
     protected void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        FloatExpressionHelper.fireValueChangedEvent(helper);
     }
 
 }
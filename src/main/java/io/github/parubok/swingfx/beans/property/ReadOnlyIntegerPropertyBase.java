@@ -27,8 +27,10 @@ package io.github.parubok.swingfx.beans.property;
 
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.IntegerChangeListener;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.IntegerExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 
 /**
  * Base class for all readonly properties wrapping an {@code int}. This class provides a default
@@ -39,26 +41,36 @@ import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
  */
 public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerProperty {
 
-    ExpressionHelper<Number> helper;
+    PrimitiveExpressionHelper helper;
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = IntegerExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = IntegerExpressionHelper.removeListener(helper, listener);
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = IntegerExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = IntegerExpressionHelper.removeListener(helper, listener);
+    }
+
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        helper = IntegerExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        helper = IntegerExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -69,7 +81,7 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
      * This method needs to be called, if the value of this property changes.
      */
     protected void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerExpressionHelper.fireValueChangedEvent(helper);
     }
 
 }
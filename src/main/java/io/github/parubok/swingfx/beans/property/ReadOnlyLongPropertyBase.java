@@ -27,8 +27,10 @@ package io.github.parubok.swingfx.beans.property;
 
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.LongChangeListener;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.LongExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 
 /**
  * Base class for all readonly properties wrapping a {@code long}. This class provides a default
@@ -39,26 +41,36 @@ import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
  */
 public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
 
-    ExpressionHelper<Number> helper;
+    PrimitiveExpressionHelper helper;
 
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = LongExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = LongExpressionHelper.removeListener(helper, listener);
     }
 
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = LongExpressionHelper.addListener(helper, this, listener);
     }
 
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = LongExpressionHelper.removeListener(helper, listener);
+    }
+
+    @Override
+    public void addLongChangeListener(LongChangeListener listener) {
+        helper = LongExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    @Override
+    public void removeLongChangeListener(LongChangeListener listener) {
+        helper = LongExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -69,7 +81,7 @@ public abstract class ReadOnlyLongPropertyBase extends ReadOnlyLongProperty {
      * This method needs to be called, if the value of this property changes.
      */
     protected void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        LongExpressionHelper.fireValueChangedEvent(helper);
     }
 
 }
@@ -25,6 +25,7 @@
 
 package io.github.parubok.swingfx.beans.property;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.com.sun.swingfx.binding.SetExpressionHelper;
 import java.lang.ref.WeakReference;
 import io.github.parubok.swingfx.beans.InvalidationListener;
@@ -219,7 +220,11 @@ public abstract class SetPropertyBase<E> extends SetProperty<E> {
             valid = false;
             invalidateProperties();
             invalidated();
-            fireValueChangedEvent();
+            if (Batch.isOpen()) {
+                Batch.defer(this, this::fireValueChangedEvent);
+            } else {
+                fireValueChangedEvent();
+            }
         }
     }
 
@@ -40,8 +40,6 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code JavaBeanBooleanProperty} provides an adapter between a regular
  * Java Bean property of type {@code boolean} or {@code Boolean} and a JavaFX
@@ -91,7 +89,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
     public boolean get() {
         return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
             try {
-                return (Boolean)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (Boolean)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -115,7 +113,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
 
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
-                MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[] {value});
+                descriptor.getSetterAccessor().set(getBean(), value);
                 ExpressionHelper.fireValueChangedEvent(helper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
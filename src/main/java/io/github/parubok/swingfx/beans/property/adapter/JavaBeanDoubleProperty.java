@@ -25,12 +25,14 @@
 
 package io.github.parubok.swingfx.beans.property.adapter;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.DoubleExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 import io.github.parubok.com.sun.swingfx.property.adapter.Disposer;
 import io.github.parubok.com.sun.swingfx.property.adapter.PropertyDescriptor;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.property.DoubleProperty;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.DoubleChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
 
 import java.lang.reflect.InvocationTargetException;
@@ -40,8 +42,6 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code JavaBeanDoubleProperty} provides an adapter between a regular
  * Java Bean property of type {@code double} or {@code Double} and a JavaFX
@@ -69,7 +69,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
     private final PropertyDescriptor.Listener<Number> listener;
 
     private ObservableValue<? extends Number> observable = null;
-    private ExpressionHelper<Number> helper = null;
+    private PrimitiveExpressionHelper helper = null;
 
     private final AccessControlContext acc = AccessController.getContext();
 
@@ -91,8 +91,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
     public double get() {
         return AccessController.doPrivileged((PrivilegedAction<Double>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).doubleValue();
+                return ((Number)descriptor.getGetterAccessor().get(getBean())).doubleValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -116,8 +115,8 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
 
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
-                MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[] {value});
-                ExpressionHelper.fireValueChangedEvent(helper);
+                descriptor.getSetterAccessor().set(getBean(), value);
+                DoubleExpressionHelper.fireValueChangedEvent(helper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -184,7 +183,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
      */
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     /**
@@ -192,7 +191,23 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
      */
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        helper = DoubleExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        helper = DoubleExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -200,7 +215,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
      */
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = DoubleExpressionHelper.addListener(helper, this, listener);
     }
 
     /**
@@ -208,7 +223,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
      */
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = DoubleExpressionHelper.removeListener(helper, listener);
     }
 
     /**
@@ -216,7 +231,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
      */
     @Override
     public void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleExpressionHelper.fireValueChangedEvent(helper);
     }
 
     /**
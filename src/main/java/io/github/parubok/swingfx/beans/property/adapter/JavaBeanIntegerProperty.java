@@ -25,12 +25,14 @@
 
 package io.github.parubok.swingfx.beans.property.adapter;
 
-import io.github.parubok.com.sun.swingfx.binding.ExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.IntegerExpressionHelper;
+import io.github.parubok.com.sun.swingfx.binding.PrimitiveExpressionHelper;
 import io.github.parubok.com.sun.swingfx.property.adapter.Disposer;
 import io.github.parubok.com.sun.swingfx.property.adapter.PropertyDescriptor;
 import io.github.parubok.swingfx.beans.InvalidationListener;
 import io.github.parubok.swingfx.beans.property.IntegerProperty;
 import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.beans.value.IntegerChangeListener;
 import io.github.parubok.swingfx.beans.value.ObservableValue;
 
 import java.lang.reflect.InvocationTargetException;
@@ -40,8 +42,6 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code JavaBeanIntegerProperty} provides an adapter between a regular
  * Java Bean property of type {@code int} or {@code Integer} and a JavaFX
@@ -69,7 +69,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
     private final PropertyDescriptor.Listener<Number> listener;
 
     private ObservableValue<? extends Number> observable = null;
-    private ExpressionHelper<Number> helper = null;
+    private PrimitiveExpressionHelper helper = null;
 
     private final AccessControlContext acc = AccessController.getContext();
 
@@ -91,8 +91,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
     public int get() {
         return AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).intValue();
+                return ((Number)descriptor.getGetterAccessor().get(getBean())).intValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -115,8 +114,8 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
         }
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
-                MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[] {value});
-                ExpressionHelper.fireValueChangedEvent(helper);
+                descriptor.getSetterAccessor().set(getBean(), value);
+                IntegerExpressionHelper.fireValueChangedEvent(helper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -183,7 +182,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
      */
     @Override
     public void addListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = IntegerExpressionHelper.addListener(helper, this, listener);
     }
 
     /**
@@ -191,7 +190,23 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
      */
     @Override
     public void removeListener(ChangeListener<? super Number> listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = IntegerExpressionHelper.removeListener(helper, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        helper = IntegerExpressionHelper.addPrimitiveListener(helper, this, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        helper = IntegerExpressionHelper.removePrimitiveListener(helper, listener);
     }
 
     /**
@@ -199,7 +214,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
      */
     @Override
     public void addListener(InvalidationListener listener) {
-        helper = ExpressionHelper.addListener(helper, this, listener);
+        helper = IntegerExpressionHelper.addListener(helper, this, listener);
     }
 
     /**
@@ -207,7 +222,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
      */
     @Override
     public void removeListener(InvalidationListener listener) {
-        helper = ExpressionHelper.removeListener(helper, listener);
+        helper = IntegerExpressionHelper.removeListener(helper, listener);
     }
 
     /**
@@ -215,7 +230,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
      */
     @Override
     public void fireValueChangedEvent() {
-        ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerExpressionHelper.fireValueChangedEvent(helper);
     }
 
     /**
@@ -40,8 +40,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code JavaBeanObjectProperty} provides an adapter between a regular
  * Java Bean property of type {@code T} and a JavaFX
@@ -94,7 +92,7 @@ public final class JavaBeanObjectProperty<T> extends ObjectProperty<T> implement
     public T get() {
         return AccessController.doPrivileged((PrivilegedAction<T>) () -> {
             try {
-                return (T)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (T)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -118,7 +116,7 @@ public final class JavaBeanObjectProperty<T> extends ObjectProperty<T> implement
 
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
-                MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[] {value});
+                descriptor.getSetterAccessor().set(getBean(), value);
                 ExpressionHelper.fireValueChangedEvent(helper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
@@ -40,8 +40,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code JavaBeanStringProperty} provides an adapter between a regular
  * Java Bean property of type {@code String} and a JavaFX
@@ -91,7 +89,7 @@ public final class JavaBeanStringProperty extends StringProperty implements Java
     public String get() {
         return AccessController.doPrivileged((PrivilegedAction<String>) () -> {
             try {
-                return (String)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (String)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -114,7 +112,7 @@ public final class JavaBeanStringProperty extends StringProperty implements Java
         }
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
-                MethodUtil.invoke(descriptor.getSetter(), getBean(), new Object[] {value});
+                descriptor.getSetterAccessor().set(getBean(), value);
                 ExpressionHelper.fireValueChangedEvent(helper);
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
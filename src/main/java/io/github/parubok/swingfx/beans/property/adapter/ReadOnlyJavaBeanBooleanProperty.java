@@ -36,7 +36,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
 import io.github.parubok.swingfx.beans.property.ReadOnlyBooleanProperty;
 
 /**
@@ -81,7 +80,7 @@ public final class ReadOnlyJavaBeanBooleanProperty extends ReadOnlyBooleanProper
     public boolean get() {
         return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
             try {
-                return (Boolean)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (Boolean)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
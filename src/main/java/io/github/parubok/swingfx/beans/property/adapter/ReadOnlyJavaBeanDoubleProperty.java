@@ -37,8 +37,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code ReadOnlyJavaBeanDoubleProperty} provides an adapter between a regular
  * read only Java Bean property of type {@code double} or {@code Double} and a JavaFX
@@ -81,8 +79,7 @@ public final class ReadOnlyJavaBeanDoubleProperty extends ReadOnlyDoubleProperty
     public double get() {
         return AccessController.doPrivileged((PrivilegedAction<Double>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).doubleValue();
+                return ((Number)descriptor.getGetterAccessor().get(getBean())).doubleValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
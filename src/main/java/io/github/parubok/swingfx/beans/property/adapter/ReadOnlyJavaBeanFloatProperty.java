@@ -37,8 +37,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code ReadOnlyJavaBeanFloatProperty} provides an adapter between a regular
  * read only Java Bean property of type {@code float} or {@code Float} and a JavaFX
@@ -81,8 +79,7 @@ public final class ReadOnlyJavaBeanFloatProperty extends ReadOnlyFloatPropertyBa
     public float get() {
         return AccessController.doPrivileged((PrivilegedAction<Float>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).floatValue();
+                return ((Number)descriptor.getGetterAccessor().get(getBean())).floatValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -37,8 +37,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code ReadOnlyJavaBeanIntegerProperty} provides an adapter between a regular
  * read only Java Bean property of type {@code int} or {@code Integer} and a JavaFX
@@ -81,8 +79,7 @@ public final class ReadOnlyJavaBeanIntegerProperty extends ReadOnlyIntegerProper
     public int get() {
         return AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).intValue();
+                return ((Number)descriptor.getGetterAccessor().get(getBean())).intValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -37,8 +37,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code ReadOnlyJavaBeanObjectProperty} provides an adapter between a regular
  * read only Java Bean property of {@code T} and a JavaFX
@@ -83,7 +81,7 @@ public final class ReadOnlyJavaBeanObjectProperty<T> extends ReadOnlyObjectPrope
     public T get() {
         return AccessController.doPrivileged((PrivilegedAction<T>) () -> {
             try {
-                return (T)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (T)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -37,8 +37,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import io.github.parubok.fxprop.misc.MethodUtil;
-
 /**
  * A {@code ReadOnlyJavaBeanStringProperty} provides an adapter between a regular
  * read only Java Bean property of type {@code String} and a JavaFX
@@ -81,7 +79,7 @@ public final class ReadOnlyJavaBeanStringProperty extends ReadOnlyStringProperty
     public String get() {
         return AccessController.doPrivileged((PrivilegedAction<String>) () -> {
             try {
-                return (String)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (String)descriptor.getGetterAccessor().get(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -0,0 +1,62 @@
+package io.github.parubok.swingfx.beans.value;
+
+import java.util.Objects;
+
+/**
+ * Adapts a primitive change listener to {@link ChangeListener} for the implementations of the observable values which
+ * don't support primitive listeners directly. Instances are equal if they wrap the same listener, so a new adapter
+ * can be used to remove the registered one.
+ */
+abstract class BoxingChangeListener implements ChangeListener<Number> {
+    private final Object listener;
+
+    private BoxingChangeListener(Object listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    static ChangeListener<Number> ofDouble(DoubleChangeListener listener) {
+        return new BoxingChangeListener(listener) {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                listener.changed((ObservableDoubleValue) observable, oldValue.doubleValue(), newValue.doubleValue());
+            }
+        };
+    }
+
+    static ChangeListener<Number> ofFloat(FloatChangeListener listener) {
+        return new BoxingChangeListener(listener) {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                listener.changed((ObservableFloatValue) observable, oldValue.floatValue(), newValue.floatValue());
+            }
+        };
+    }
+
+    static ChangeListener<Number> ofInteger(IntegerChangeListener listener) {
+        return new BoxingChangeListener(listener) {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                listener.changed((ObservableIntegerValue) observable, oldValue.intValue(), newValue.intValue());
+            }
+        };
+    }
+
+    static ChangeListener<Number> ofLong(LongChangeListener listener) {
+        return new BoxingChangeListener(listener) {
+            @Override
+            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                listener.changed((ObservableLongValue) observable, oldValue.longValue(), newValue.longValue());
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BoxingChangeListener && listener.equals(((BoxingChangeListener) obj).listener);
+    }
+
+    @Override
+    public int hashCode() {
+        return listener.hashCode();
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.parubok.swingfx.beans.value;
+
+/**
+ * Primitive specialization of {@link ChangeListener} for {@link ObservableDoubleValue}. The old and the new values are
+ * passed unboxed, so notification of the listener doesn't allocate.
+ *
+ * @see ObservableDoubleValue#addDoubleChangeListener(DoubleChangeListener)
+ * @since swing-fx-properties 1.26
+ */
+@FunctionalInterface
+public interface DoubleChangeListener {
+    /**
+     * Called when the value of an {@link ObservableDoubleValue} changes.
+     *
+     * @param observable
+     *            The {@code ObservableDoubleValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableDoubleValue observable, double oldValue, double newValue);
+}
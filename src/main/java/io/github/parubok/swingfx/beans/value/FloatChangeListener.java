@@ -0,0 +1,23 @@
+package io.github.parubok.swingfx.beans.value;
+
+/**
+ * Primitive specialization of {@link ChangeListener} for {@link ObservableFloatValue}. The old and the new values are
+ * passed unboxed, so notification of the listener doesn't allocate.
+ *
+ * @see ObservableFloatValue#addFloatChangeListener(FloatChangeListener)
+ * @since swing-fx-properties 1.26
+ */
+@FunctionalInterface
+public interface FloatChangeListener {
+    /**
+     * Called when the value of an {@link ObservableFloatValue} changes.
+     *
+     * @param observable
+     *            The {@code ObservableFloatValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableFloatValue observable, float oldValue, float newValue);
+}
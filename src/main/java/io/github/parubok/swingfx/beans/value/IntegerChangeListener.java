@@ -0,0 +1,23 @@
+package io.github.parubok.swingfx.beans.value;
+
+/**
+ * Primitive specialization of {@link ChangeListener} for {@link ObservableIntegerValue}. The old and the new values are
+ * passed unboxed, so notification of the listener doesn't allocate.
+ *
+ * @see ObservableIntegerValue#addIntegerChangeListener(IntegerChangeListener)
+ * @since swing-fx-properties 1.26
+ */
+@FunctionalInterface
+public interface IntegerChangeListener {
+    /**
+     * Called when the value of an {@link ObservableIntegerValue} changes.
+     *
+     * @param observable
+     *            The {@code ObservableIntegerValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableIntegerValue observable, int oldValue, int newValue);
+}
@@ -0,0 +1,23 @@
+package io.github.parubok.swingfx.beans.value;
+
+/**
+ * Primitive specialization of {@link ChangeListener} for {@link ObservableLongValue}. The old and the new values are
+ * passed unboxed, so notification of the listener doesn't allocate.
+ *
+ * @see ObservableLongValue#addLongChangeListener(LongChangeListener)
+ * @since swing-fx-properties 1.26
+ */
+@FunctionalInterface
+public interface LongChangeListener {
+    /**
+     * Called when the value of an {@link ObservableLongValue} changes.
+     *
+     * @param observable
+     *            The {@code ObservableLongValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableLongValue observable, long oldValue, long newValue);
+}
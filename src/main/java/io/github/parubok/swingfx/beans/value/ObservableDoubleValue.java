@@ -42,4 +42,32 @@ public interface ObservableDoubleValue extends ObservableNumberValue {
      * @return The current value
      */
     double get();
+
+    /**
+     * Adds a {@link DoubleChangeListener} which will be notified whenever the value of the {@code ObservableDoubleValue}
+     * changes. Unlike {@link #addListener(ChangeListener)}, the values are passed to the listener unboxed.
+     * <p>
+     * The default implementation registers a boxing adapter via {@link #addListener(ChangeListener)}. The
+     * implementations provided by this library override it to notify the listener without allocation.
+     * </p>
+     *
+     * @param listener The listener to register. Not null.
+     * @see #removeDoubleChangeListener(DoubleChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void addDoubleChangeListener(DoubleChangeListener listener) {
+        addListener(BoxingChangeListener.ofDouble(listener));
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the
+     * {@code ObservableDoubleValue} changes.
+     *
+     * @param listener The listener to remove. Not null.
+     * @see #addDoubleChangeListener(DoubleChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void removeDoubleChangeListener(DoubleChangeListener listener) {
+        removeListener(BoxingChangeListener.ofDouble(listener));
+    }
 }
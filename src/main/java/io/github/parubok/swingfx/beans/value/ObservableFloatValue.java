@@ -42,4 +42,32 @@ public interface ObservableFloatValue extends ObservableNumberValue {
      * @return The current value
      */
     float get();
+
+    /**
+     * Adds a {@link FloatChangeListener} which will be notified whenever the value of the {@code ObservableFloatValue}
+     * changes. Unlike {@link #addListener(ChangeListener)}, the values are passed to the listener unboxed.
+     * <p>
+     * The default implementation registers a boxing adapter via {@link #addListener(ChangeListener)}. The
+     * implementations provided by this library override it to notify the listener without allocation.
+     * </p>
+     *
+     * @param listener The listener to register. Not null.
+     * @see #removeFloatChangeListener(FloatChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void addFloatChangeListener(FloatChangeListener listener) {
+        addListener(BoxingChangeListener.ofFloat(listener));
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the
+     * {@code ObservableFloatValue} changes.
+     *
+     * @param listener The listener to remove. Not null.
+     * @see #addFloatChangeListener(FloatChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void removeFloatChangeListener(FloatChangeListener listener) {
+        removeListener(BoxingChangeListener.ofFloat(listener));
+    }
 }
@@ -42,4 +42,32 @@ public interface ObservableIntegerValue extends ObservableNumberValue {
      * @return The current value
      */
     int get();
+
+    /**
+     * Adds a {@link IntegerChangeListener} which will be notified whenever the value of the {@code ObservableIntegerValue}
+     * changes. Unlike {@link #addListener(ChangeListener)}, the values are passed to the listener unboxed.
+     * <p>
+     * The default implementation registers a boxing adapter via {@link #addListener(ChangeListener)}. The
+     * implementations provided by this library override it to notify the listener without allocation.
+     * </p>
+     *
+     * @param listener The listener to register. Not null.
+     * @see #removeIntegerChangeListener(IntegerChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void addIntegerChangeListener(IntegerChangeListener listener) {
+        addListener(BoxingChangeListener.ofInteger(listener));
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the
+     * {@code ObservableIntegerValue} changes.
+     *
+     * @param listener The listener to remove. Not null.
+     * @see #addIntegerChangeListener(IntegerChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void removeIntegerChangeListener(IntegerChangeListener listener) {
+        removeListener(BoxingChangeListener.ofInteger(listener));
+    }
 }
@@ -42,4 +42,32 @@ public interface ObservableLongValue extends ObservableNumberValue {
      * @return The current value
      */
     long get();
+
+    /**
+     * Adds a {@link LongChangeListener} which will be notified whenever the value of the {@code ObservableLongValue}
+     * changes. Unlike {@link #addListener(ChangeListener)}, the values are passed to the listener unboxed.
+     * <p>
+     * The default implementation registers a boxing adapter via {@link #addListener(ChangeListener)}. The
+     * implementations provided by this library override it to notify the listener without allocation.
+     * </p>
+     *
+     * @param listener The listener to register. Not null.
+     * @see #removeLongChangeListener(LongChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void addLongChangeListener(LongChangeListener listener) {
+        addListener(BoxingChangeListener.ofLong(listener));
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified whenever the value of the
+     * {@code ObservableLongValue} changes.
+     *
+     * @param listener The listener to remove. Not null.
+     * @see #addLongChangeListener(LongChangeListener)
+     * @since swing-fx-properties 1.26
+     */
+    default void removeLongChangeListener(LongChangeListener listener) {
+        removeListener(BoxingChangeListener.ofLong(listener));
+    }
 }
@@ -82,6 +82,34 @@ public class FXCollections {
     /** Not to be instantiated. */
     private FXCollections() { }
 
+    /**
+     * Enables or disables the recycling of list changes. In the recycling mode, the observable lists of this library
+     * reuse the {@link ListChangeListener.Change} object and the internal data of a change which consists of a single
+     * add, remove, replace or update (e.g. the change made by {@link java.util.List#set(int, Object)}) once all the
+     * listeners have returned, so frequent updates do not allocate them anew.
+     * <p>
+     * <b>Note:</b> In the recycling mode, such {@link ListChangeListener.Change} and the list returned by its
+     * {@link ListChangeListener.Change#getRemoved()} method may be accessed only during the notification. A listener
+     * which needs the data later must copy it; an access to a retained change between the notifications throws
+     * {@link IllegalStateException}, and during a later notification it returns the data of the later change.
+     * </p>
+     *
+     * @param enabled {@code true} to enable the recycling mode.
+     * @since swing-fx-properties 1.26
+     */
+    public static void setChangeRecycling(boolean enabled) {
+        ListChangeBuilder.setRecycling(enabled);
+    }
+
+    /**
+     * @return {@code true} if the recycling of list changes is enabled.
+     * @see #setChangeRecycling(boolean)
+     * @since swing-fx-properties 1.26
+     */
+    public static boolean isChangeRecycling() {
+        return ListChangeBuilder.isRecycling();
+    }
+
     /**
      * Constructs an ObservableList that is backed by the specified list.
      * Mutation operations on the ObservableList instance will be reported
@@ -26,6 +26,7 @@
 package io.github.parubok.swingfx.collections;
 
 import io.github.parubok.com.sun.swingfx.collections.ChangeHelper;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,11 +40,67 @@ import io.github.parubok.swingfx.collections.ListChangeListener.Change;
 final class ListChangeBuilder<E> {
 
     private static final int[] EMPTY_PERM = new int[0];
+
+    private static volatile boolean recycling;
+
     private final ObservableListBase<E> list;
     private int changeLock;
     private List<SubChange<E>> addRemoveChanges;
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
+    /**
+     * Sub-change of the last single change notification, to be reused in the recycling mode.
+     */
+    private SubChange<E> spare;
+    /**
+     * Change of the last single change notification, to be reused in the recycling mode.
+     */
+    private SingleChange<E> spareChange;
+
+    static boolean isRecycling() {
+        return recycling;
+    }
+
+    static void setRecycling(boolean recycling) {
+        ListChangeBuilder.recycling = recycling;
+    }
+
+    /**
+     * Creates a sub-change, reusing the spare one if available.
+     *
+     * @param withRemoved {@code true} if the sub-change needs a (empty) list of the removed elements.
+     */
+    private SubChange<E> newSubChange(int from, int to, boolean withRemoved, boolean updated) {
+        final SubChange<E> c = spare;
+        if (c == null) {
+            return new SubChange<E>(from, to, withRemoved ? new ArrayList<E>() : null, EMPTY_PERM, updated);
+        }
+        spare = null;
+        c.from = from;
+        c.to = to;
+        c.perm = EMPTY_PERM;
+        c.updated = updated;
+        if (withRemoved) {
+            if (c.storage == null) {
+                c.storage = new ArrayList<E>();
+            }
+            c.removed = c.storage;
+        } else {
+            c.removed = null;
+        }
+        return c;
+    }
+
+    /**
+     * Keeps the sub-change for reuse after its notification completed.
+     */
+    private void recycle(SubChange<E> c) {
+        if (c.storage != null) {
+            c.storage.clear();
+        }
+        c.removed = null;
+        spare = c;
+    }
 
     private void checkAddRemoveList() {
         if (addRemoveChanges == null) {
@@ -86,7 +143,7 @@ final class ListChangeBuilder<E> {
             } else if (idx < updateChanges.size() && (change = updateChanges.get(idx)).from == pos + 1) {
                 change.from = pos;
             } else {
-                updateChanges.add(idx, new SubChange<E>(pos, pos + 1, null, EMPTY_PERM, true));
+                updateChanges.add(idx, newSubChange(pos, pos + 1, false, true));
             }
         } // If found, no need to do another update
     }
@@ -105,9 +162,9 @@ final class ListChangeBuilder<E> {
                 change.to--;
                 change.removed.add(0, removed);
             } else {
-                ArrayList<E> removedList = new ArrayList<E>();
-                removedList.add(removed);
-                addRemoveChanges.add(idx, new SubChange<E>(pos, pos, removedList, EMPTY_PERM, false));
+                final SubChange<E> newChange = newSubChange(pos, pos, true, false);
+                newChange.removed.add(removed);
+                addRemoveChanges.add(idx, newChange);
             }
         } else {
             SubChange<E> change = addRemoveChanges.get(idx);
@@ -135,7 +192,7 @@ final class ListChangeBuilder<E> {
                 change.to = to;
                 --idx;
             } else {
-                addRemoveChanges.add(idx, new SubChange<E>(from, to, new ArrayList<E>(), EMPTY_PERM, false));
+                addRemoveChanges.add(idx, newSubChange(from, to, true, false));
             }
         } else {
             SubChange<E> change = addRemoveChanges.get(idx);
@@ -179,6 +236,10 @@ final class ListChangeBuilder<E> {
         List<E> removed;
         int[] perm;
         boolean updated;
+        /**
+         * List created for {@link #removed} by this builder, which may be reused.
+         */
+        ArrayList<E> storage;
 
         public SubChange(int from, int to, List<E> removed, int[] perm, boolean updated) {
             this.from = from;
@@ -186,6 +247,9 @@ final class ListChangeBuilder<E> {
             this.removed = removed;
             this.perm = perm;
             this.updated = updated;
+            if (removed instanceof ArrayList) {
+                this.storage = (ArrayList<E>) removed;
+            }
         }
     }
 
@@ -479,10 +543,10 @@ final class ListChangeBuilder<E> {
                     (addRemoveChanges != null ? addRemoveChanges.size() : 0) + (permutationChange != null ? 1 : 0);
             if (totalSize == 1) {
                 if (addRemoveNotEmpty) {
-                    list.fireChange(new SingleChange<E>(finalizeSubChange(addRemoveChanges.get(0)), list));
+                    fireSingleChange(addRemoveChanges.get(0));
                     addRemoveChanges.clear();
                 } else if (updateNotEmpty) {
-                    list.fireChange(new SingleChange<E>(finalizeSubChange(updateChanges.get(0)), list));
+                    fireSingleChange(updateChanges.get(0));
                     updateChanges.clear();
                 } else {
                     list.fireChange(new SingleChange<E>(finalizeSubChange(permutationChange), list));
@@ -529,6 +593,44 @@ final class ListChangeBuilder<E> {
         }
     }
 
+    /**
+     * In the recycling mode, the sub-change, its list of the removed elements and the notified {@link Change} (with
+     * its view of the removed elements) are reused by the next change once the listeners have returned. Between the
+     * notifications the change is released, so a listener which retains it gets an exception instead of the data of
+     * another change. A change fired by a listener during the notification gets its own objects.
+     */
+    private void fireSingleChange(SubChange<E> c) {
+        if (!recycling || c.removed != null && c.removed != c.storage) {
+            list.fireChange(new SingleChange<E>(finalizeSubChange(c), list));
+            return;
+        }
+        SingleChange<E> change = spareChange;
+        if (change == null) {
+            change = new SingleChange<E>(c, list, true);
+        } else {
+            spareChange = null;
+            change.reuse(c);
+        }
+        try {
+            list.fireChange(change);
+        } finally {
+            change.release();
+            if (spareChange == null) {
+                spareChange = change;
+            }
+        }
+        if (spare == null) {
+            recycle(c);
+        }
+    }
+
+    /**
+     * @return {@code true} if no change block is open.
+     */
+    boolean isIdle() {
+        return changeLock == 0;
+    }
+
     public void beginChange() {
         changeLock++;
     }
@@ -561,12 +663,37 @@ final class ListChangeBuilder<E> {
     }
 
     private static class SingleChange<E> extends Change<E> {
-        private final SubChange<E> change;
+        private SubChange<E> change;
+        private final boolean recycled;
         private boolean onChange;
+        private boolean released;
+        private RemovedView removedView;
 
         public SingleChange(SubChange<E> change, ObservableListBase<E> list) {
+            this(change, list, false);
+        }
+
+        /**
+         * @param recycled {@code true} if the sub-change is reused after the notification, so the change may not be
+         * accessed after {@link #release()}.
+         */
+        SingleChange(SubChange<E> change, ObservableListBase<E> list, boolean recycled) {
             super(list);
             this.change = change;
+            this.recycled = recycled;
+        }
+
+        void release() {
+            released = true;
+        }
+
+        /**
+         * Prepares a released recycled change for the notification of the specified sub-change.
+         */
+        void reuse(SubChange<E> change) {
+            this.change = change;
+            onChange = false;
+            released = false;
         }
 
         @Override
@@ -598,6 +725,15 @@ final class ListChangeBuilder<E> {
         @Override
         public List<E> getRemoved() {
             checkState();
+            if (recycled) {
+                if (change.removed == null) {
+                    return Collections.<E>emptyList();
+                }
+                if (removedView == null) {
+                    removedView = new RemovedView();
+                }
+                return removedView;
+            }
             return change.removed;
         }
 
@@ -614,11 +750,39 @@ final class ListChangeBuilder<E> {
         }
 
         private void checkState() {
+            checkReleased();
             if (!onChange) {
                 throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
             }
         }
 
+        private void checkReleased() {
+            if (released) {
+                throw new IllegalStateException("Recycled Change may not be accessed after the notification - copy the data instead of retaining the Change.");
+            }
+        }
+
+        /**
+         * Unmodifiable view of the removed elements of a recycled change. Reused together with the change.
+         */
+        private final class RemovedView extends AbstractList<E> {
+            @Override
+            public E get(int index) {
+                return removed().get(index);
+            }
+
+            @Override
+            public int size() {
+                return removed().size();
+            }
+
+            private List<E> removed() {
+                checkReleased();
+                // a retained view may be accessed during the notification of a later change
+                return (change.removed == null) ? Collections.<E>emptyList() : change.removed;
+            }
+        }
+
         @Override
         public String toString() {
             String ret;
@@ -149,15 +149,21 @@ public abstract class ModifiableObservableListBase<E> extends ObservableListBase
     @Override
     public void add(int index, E element) {
         doAdd(index, element);
+        ++modCount;
+        if (fireSingleElementChange(index, index + 1, null, false)) {
+            return;
+        }
         beginChange();
         nextAdd(index, index + 1);
-        ++modCount;
         endChange();
     }
 
     @Override
     public E set(int index, E element) {
         E old = doSet(index, element);
+        if (fireSingleElementChange(index, index + 1, old, true)) {
+            return old;
+        }
         beginChange();
         nextSet(index, old);
         endChange();
@@ -177,9 +183,12 @@ public abstract class ModifiableObservableListBase<E> extends ObservableListBase
     @Override
     public E remove(int index) {
         E old = doRemove(index);
+        ++modCount;
+        if (fireSingleElementChange(index, index, old, true)) {
+            return old;
+        }
         beginChange();
         nextRemove(index, old);
-        ++modCount;
         endChange();
         return old;
     }
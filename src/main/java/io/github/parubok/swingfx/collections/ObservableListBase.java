@@ -25,6 +25,7 @@
 
 package io.github.parubok.swingfx.collections;
 
+import io.github.parubok.com.sun.swingfx.binding.Batch;
 import io.github.parubok.com.sun.swingfx.collections.ListListenerHelper;
 import java.util.AbstractList;
 import java.util.Arrays;
@@ -92,6 +93,7 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
 
     private ListListenerHelper<E> listenerHelper;
     private final ListChangeBuilder<E> changeBuilder = new ListChangeBuilder<E>(this);
+    private boolean batched;
 
     /**
      * Adds a new update operation to the change.
@@ -185,10 +187,17 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
      * Must be called before any of the {@code next*} methods is called.
      * For every {@code beginChange()}, there must be a corresponding {@link #endChange() } call.
      * <p>{@code beginChange()} calls can be nested in a {@code beginChange()}/{@code endChange()} block.
+     * <p>If a batch is open (see {@code Bindings.batch(Runnable)}), the block is kept open until the batch is
+     * closed, so all the changes of the list made in the batch are reported as a single {@code Change}.
      *
      * @see #endChange()
      */
     protected final void beginChange() {
+        if (!batched && Batch.isOpen()) {
+            batched = true;
+            changeBuilder.beginChange();
+            Batch.defer(this, this::endBatch);
+        }
         changeBuilder.beginChange();
     }
 
@@ -205,6 +214,11 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
         changeBuilder.endChange();
     }
 
+    private void endBatch() {
+        batched = false;
+        changeBuilder.endChange();
+    }
+
     @Override
     public final void addListener(InvalidationListener listener) {
         listenerHelper = ListListenerHelper.addListener(listenerHelper, listener);
@@ -233,6 +247,28 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
         ListListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Reports a change of a single element directly via {@link #fireChange(ListChangeListener.Change)}, if no change
+     * block and no batch is open and the change recycling is disabled (see
+     * {@link FXCollections#setChangeRecycling(boolean)}). Otherwise the change must be reported via the change block.
+     *
+     * @param from the index of the added (or set) element, or of the removed element.
+     * @param to {@code from + 1} if an element was added or set, {@code from} if an element was removed.
+     * @param removed the removed (or replaced) element.
+     * @param wasRemoved {@code true} if an element was removed or replaced.
+     * @return {@code true} if the change was reported.
+     */
+    final boolean fireSingleElementChange(int from, int to, E removed, boolean wasRemoved) {
+        if (!changeBuilder.isIdle() || Batch.isOpen() || ListChangeBuilder.isRecycling()) {
+            // the builder merges the changes, or reuses its change objects in the recycling mode
+            return false;
+        }
+        if (hasListeners()) {
+            fireChange(new SingleElementChange<E>(this, from, to, removed, wasRemoved));
+        }
+        return true;
+    }
+
     /**
      * Returns true if there are some listeners registered for this list.
      */
@@ -0,0 +1,88 @@
+package io.github.parubok.swingfx.collections;
+
+import io.github.parubok.com.sun.swingfx.collections.ChangeHelper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Change of a single element made by {@code add(int, E)}, {@code set(int, E)} or {@code remove(int)}, reported
+ * without {@link ListChangeBuilder}.
+ */
+final class SingleElementChange<E> extends ListChangeListener.Change<E> {
+    private static final int[] EMPTY_PERM = new int[0];
+
+    private final int from;
+    private final int to;
+    private final E removedElement;
+    private final boolean wasRemoved;
+    private List<E> removed;
+    private boolean onChange;
+
+    /**
+     * @param wasRemoved {@code true} if {@code removedElement} was removed (or replaced) by the change.
+     */
+    SingleElementChange(ObservableList<E> list, int from, int to, E removedElement, boolean wasRemoved) {
+        super(list);
+        this.from = from;
+        this.to = to;
+        this.removedElement = removedElement;
+        this.wasRemoved = wasRemoved;
+    }
+
+    @Override
+    public boolean next() {
+        if (onChange) {
+            return false;
+        }
+        onChange = true;
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        onChange = false;
+    }
+
+    @Override
+    public int getFrom() {
+        checkState();
+        return from;
+    }
+
+    @Override
+    public int getTo() {
+        checkState();
+        return to;
+    }
+
+    @Override
+    public List<E> getRemoved() {
+        checkState();
+        return removedList();
+    }
+
+    private List<E> removedList() {
+        if (removed == null) {
+            removed = wasRemoved ? Collections.singletonList(removedElement) : Collections.<E>emptyList();
+        }
+        return removed;
+    }
+
+    @Override
+    protected int[] getPermutation() {
+        checkState();
+        return EMPTY_PERM;
+    }
+
+    private void checkState() {
+        if (!onChange) {
+            throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "{ " + ChangeHelper.addRemoveChangeToString(from, to, getList(), removedList()) + " }";
+    }
+}
@@ -26,11 +26,13 @@
 package io.github.parubok.swingfx.collections.transformation;
 
 import io.github.parubok.com.sun.swingfx.collections.NonIterableChange.SimplePermutationChange;
+import io.github.parubok.com.sun.swingfx.collections.RankTree;
 import io.github.parubok.com.sun.swingfx.collections.SortHelper;
 import io.github.parubok.com.sun.swingfx.collections.SourceAdapterChange;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -47,16 +49,57 @@ import io.github.parubok.swingfx.collections.ObservableList;
  *
  * Note: invalid SortedList (as a result of broken comparison) doesn't send any notification to listeners on becoming
  * valid again.
+ * <p>
+ * A large sorted list keeps its order in trees with subtree sizes, so a single element is inserted, removed or
+ * updated in O(log n) time (and {@link #get(int)} and {@link #getSourceIndex(int)} take O(log n) time as well).
+ * </p>
+ * <p>
+ * A large list is sorted in parallel (e.g. when its comparator is set), so the comparator must be safe to call from
+ * several threads at once.
+ * </p>
+ * <p>
+ * When the new comparator is the reverse of the current one (see {@link Comparator#reversed()}), the list is
+ * reordered in O(n) time instead of being sorted again. See also {@link #setComparators(List)}.
+ * </p>
  *
  * @see TransformationList
  * @since JavaFX 8.0
  */
 public final class SortedList<E> extends TransformationList<E, E> {
+    /**
+     * Size of the sorted list from which the order is kept in the trees instead of the arrays.
+     */
+    static final int TREE_THRESHOLD = 4096;
+    /**
+     * Size of the list from which the elements are sorted in parallel.
+     */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    /**
+     * An update of at most {@code 1 / TREE_UPDATE_RATIO} of the elements is applied to the trees by moving the updated
+     * elements, a wider update sorts the whole list again.
+     */
+    static final int TREE_UPDATE_RATIO = 8;
 
     private Comparator<Element<E>> elementComparator;
+    /**
+     * The sort keys of the current comparator, empty for unordered list.
+     */
+    private List<Comparator<? super E>> comparators = Collections.emptyList();
+    /**
+     * The sort keys passed to {@link #setComparators(List)}, while their combined comparator is being set.
+     */
+    private List<Comparator<? super E>> pendingComparators;
     private Element<E>[] sorted;
     private int[] perm;
     private int size;
+    /**
+     * The elements in the sorted order, or {@code null} if the order is kept in {@link #sorted} and {@link #perm}.
+     */
+    private RankTree<Element<E>> sortedTree;
+    /**
+     * The elements in the order of the source list, if {@link #sortedTree} is used.
+     */
+    private RankTree<Element<E>> sourceTree;
 
     private final SortHelper helper = new SortHelper();
 
@@ -101,13 +144,20 @@ public final class SortedList<E> extends TransformationList<E, E> {
             beginChange();
             while (c.next()) {
                 if (c.wasPermutated()) {
+                    useArrays();
                     updatePermutationIndexes(c);
                 } else if (c.wasUpdated()) {
-                    update(c);
+                    if (sortedTree != null && (c.getTo() - c.getFrom()) * TREE_UPDATE_RATIO <= size) {
+                        updateTree(c);
+                    } else {
+                        useArrays();
+                        update(c);
+                    }
                 } else {
                     addRemove(c);
                 }
             }
+            chooseStorage();
             endChange();
         } else {
             updateUnsorted(c);
@@ -128,8 +178,15 @@ public final class SortedList<E> extends TransformationList<E, E> {
                 @Override
                 protected void invalidated() {
                     Comparator<? super E> current = get();
+                    final List<Comparator<? super E>> oldComparators = comparators;
+                    final Comparator<Element<E>> oldElementComparator = elementComparator;
+                    if (pendingComparators != null) {
+                        comparators = pendingComparators;
+                    } else {
+                        comparators = current != null ? Collections.singletonList(current) : Collections.emptyList();
+                    }
                     elementComparator = current != null ? new ElementComparator<>(current) : null;
-                    doSortWithPermutationChange();
+                    doSortWithPermutationChange(oldComparators, oldElementComparator);
                 }
 
                 @Override
@@ -155,6 +212,54 @@ public final class SortedList<E> extends TransformationList<E, E> {
         comparatorProperty().set(comparator);
     }
 
+    /**
+     * Sets the comparator which orders the elements by several keys: by the first comparator of the list, the elements
+     * which are equal by it by the second one, and so on. Empty list makes this list unordered.
+     * <p>
+     * The list is reordered with a single permutation change, and only as much as needed: when the new keys start
+     * with some of the current keys (e.g. a key is appended, or the direction of the last key is toggled), only the
+     * runs of the elements which are equal by the common keys are sorted. When each new key is the reverse of the
+     * respective current key, the order is reversed in O(n) time.
+     * </p>
+     *
+     * @param comparators The comparators of the sort keys, from the primary one.
+     * @see #getComparators()
+     * @since swing-fx-properties 1.26
+     */
+    public final void setComparators(List<? extends Comparator<? super E>> comparators) {
+        final List<Comparator<? super E>> keys = Collections.unmodifiableList(new ArrayList<>(comparators));
+        pendingComparators = keys;
+        try {
+            comparatorProperty().set(combine(keys, keys.size()));
+        } finally {
+            pendingComparators = null;
+        }
+    }
+
+    /**
+     * @return The comparators of the sort keys, as passed to {@link #setComparators(List)}, or the single
+     * comparator of this list. Empty list if this list is unordered.
+     * @since swing-fx-properties 1.26
+     */
+    public final List<Comparator<? super E>> getComparators() {
+        return comparators;
+    }
+
+    /**
+     * @return Comparator by the first {@code count} keys or {@code null} if {@code count} is 0.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> combine(List<Comparator<? super E>> keys, int count) {
+        if (count == 0) {
+            return null;
+        }
+        Comparator<E> result = (Comparator<E>) keys.get(0);
+        for (int i = 1; i < count; i++) {
+            result = result.thenComparing(keys.get(i));
+        }
+        return result;
+    }
+
     /**
      * Returns the element at the specified position in this list.
      *
@@ -167,6 +272,9 @@ public final class SortedList<E> extends TransformationList<E, E> {
         if (index >= size) {
             throw new IndexOutOfBoundsException();
         }
+        if (sortedTree != null) {
+            return sortedTree.get(index).getValue().e;
+        }
         return sorted[index].e;
     }
 
@@ -180,12 +288,27 @@ public final class SortedList<E> extends TransformationList<E, E> {
         return size;
     }
 
-    private void doSortWithPermutationChange() {
+    /**
+     * @param oldComparators The keys of the current order.
+     * @param oldElementComparator Comparator of the current order or {@code null} if the list is unordered.
+     */
+    private void doSortWithPermutationChange(List<Comparator<? super E>> oldComparators,
+                                             Comparator<Element<E>> oldElementComparator) {
+        useArrays();
         if (elementComparator != null) {
-            int[] perm = helper.sort(sorted, 0, size, elementComparator);
+            final int common = commonPrefix(oldComparators, comparators);
+            final int[] perm;
+            if (oldElementComparator != null && isReversal(oldComparators, comparators)) {
+                perm = reverseElements(oldElementComparator);
+            } else if (oldElementComparator != null && common > 0) {
+                perm = refineElements(new ElementComparator<>(combine(comparators, common)));
+            } else {
+                perm = sortElements();
+            }
             for (int i = 0; i < size; i++) {
                 this.perm[sorted[i].index] = i;
             }
+            chooseStorage();
             fireChange(new SimplePermutationChange<>(0, size, perm, this));
         } else {
             int[] perm = new int[size];
@@ -219,11 +342,172 @@ public final class SortedList<E> extends TransformationList<E, E> {
         }
     }
 
+    private static <E> int commonPrefix(List<Comparator<? super E>> keys1, List<Comparator<? super E>> keys2) {
+        int i = 0;
+        while (i < keys1.size() && i < keys2.size() && keys1.get(i).equals(keys2.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return {@code true} if each of the new keys is the reverse of the respective old key, so the new order is the
+     * reverse of the old one.
+     */
+    private static <E> boolean isReversal(List<Comparator<? super E>> oldKeys, List<Comparator<? super E>> newKeys) {
+        if (oldKeys.isEmpty() || oldKeys.size() != newKeys.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldKeys.size(); i++) {
+            final Comparator<? super E> oldKey = oldKeys.get(i);
+            final Comparator<? super E> newKey = newKeys.get(i);
+            if (!newKey.equals(oldKey.reversed()) && !oldKey.equals(newKey.reversed())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reverses the order of {@link #sorted}, which is sorted by the specified comparator, in O(n) time. The runs of the
+     * equal elements keep their order, so the result is the same as of the stable sort by the reversed comparator.
+     *
+     * @return The permutation of the view indexes.
+     */
+    private int[] reverseElements(Comparator<Element<E>> oldElementComparator) {
+        final Element<E>[] old = Arrays.copyOf(sorted, size);
+        final int[] result = new int[size];
+        int dest = 0;
+        int end = size;
+        while (end > 0) {
+            int start = end - 1;
+            while (start > 0 && oldElementComparator.compare(old[start - 1], old[start]) == 0) {
+                start--;
+            }
+            for (int i = start; i < end; i++) {
+                sorted[dest] = old[i];
+                result[i] = dest++;
+            }
+            end = start;
+        }
+        return result;
+    }
+
+    /**
+     * Sorts (stable) each run of {@link #sorted} which elements are equal by the specified comparator, i.e. by the keys
+     * common to the current and the new order.
+     *
+     * @return The permutation of the view indexes.
+     */
+    private int[] refineElements(Comparator<Element<E>> runComparator) {
+        final int[] result = new int[size];
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            while (end < size && runComparator.compare(sorted[end - 1], sorted[end]) == 0) {
+                end++;
+            }
+            if (end - start == 1) {
+                result[start] = start;
+            } else {
+                final Element<E>[] run = Arrays.copyOfRange(sorted, start, end);
+                final int[] runPerm = helper.sort(run, 0, run.length, elementComparator);
+                System.arraycopy(run, 0, sorted, start, run.length);
+                for (int i = 0; i < runPerm.length; i++) {
+                    result[start + i] = start + runPerm[i];
+                }
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * Sorts {@link #sorted} (stable).
+     *
+     * @return The permutation of the view indexes.
+     */
+    private int[] sortElements() {
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            return helper.sort(sorted, 0, size, elementComparator);
+        }
+        // stable as well, so the result is the same as of the merge sort of SortHelper
+        Arrays.parallelSort(sorted, 0, size, elementComparator);
+        final int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            // perm still maps the source index to the view index before the sorting
+            result[perm[sorted[i].index]] = i;
+        }
+        return result;
+    }
+
     @Override
     public int getSourceIndex(int index) {
+        if (sortedTree != null) {
+            return sourceTree.indexOf(sortedTree.get(index).getValue().sourceNode);
+        }
         return sorted[index].index;
     }
 
+    /**
+     * Moves the order to the trees if the list is large, or back to the arrays if it is small or unsorted.
+     */
+    private void chooseStorage() {
+        if (elementComparator != null && size >= TREE_THRESHOLD) {
+            useTree();
+        } else if (elementComparator == null || size < TREE_THRESHOLD / 2) {
+            useArrays();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void useTree() {
+        if (sortedTree != null) {
+            return;
+        }
+        final List<RankTree.Node<Element<E>>> sortedNodes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final Element<E> element = sorted[i];
+            element.sortedNode = new RankTree.Node<>(element);
+            element.sourceNode = new RankTree.Node<>(element);
+            sortedNodes.add(element.sortedNode);
+        }
+        final List<RankTree.Node<Element<E>>> sourceNodes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            sourceNodes.add(sorted[perm[i]].sourceNode);
+        }
+        sortedTree = new RankTree<>();
+        sortedTree.build(sortedNodes);
+        sourceTree = new RankTree<>();
+        sourceTree.build(sourceNodes);
+        // the arrays are restored by useArrays()
+        sorted = (Element<E>[]) new Element[0];
+        perm = new int[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void useArrays() {
+        if (sortedTree == null) {
+            return;
+        }
+        sorted = (Element<E>[]) new Element[size * 3/2 + 1];
+        perm = new int[sorted.length];
+        int i = 0;
+        for (RankTree.Node<Element<E>> node = sourceTree.first(); node != null; node = RankTree.next(node)) {
+            node.getValue().index = i++;
+        }
+        i = 0;
+        for (RankTree.Node<Element<E>> node = sortedTree.first(); node != null; node = RankTree.next(node)) {
+            final Element<E> element = node.getValue();
+            sorted[i] = element;
+            perm[element.index] = i++;
+            element.sortedNode = null;
+            element.sourceNode = null;
+        }
+        sortedTree = null;
+        sourceTree = null;
+    }
+
     private void updatePermutationIndexes(Change<? extends E> change) {
         for (int i = 0; i < size; ++i) {
             int p = change.getPermutation(sorted[i].index);
@@ -277,7 +561,16 @@ public final class SortedList<E> extends TransformationList<E, E> {
         }
 
         private E e;
+        /**
+         * Index in the source list. Not maintained while the trees are used.
+         */
         private int index;
+        private RankTree.Node<Element<E>> sortedNode;
+        private RankTree.Node<Element<E>> sourceNode;
+        /**
+         * Set while the permutation of an update in the trees is computed.
+         */
+        private boolean moved;
     }
 
     private static class ElementComparator<E> implements Comparator<Element<E>> {
@@ -328,6 +621,16 @@ public final class SortedList<E> extends TransformationList<E, E> {
     }
 
     private void insertToMapping(E e, int idx) {
+        if (sortedTree != null) {
+            final Element<E> element = new Element<>(e, -1);
+            element.sortedNode = new RankTree.Node<>(element);
+            element.sourceNode = new RankTree.Node<>(element);
+            sourceTree.insert(idx, element.sourceNode);
+            final int pos = sortedTree.insert(element.sortedNode, elementComparator);
+            ++size;
+            nextAdd(pos, pos + 1);
+            return;
+        }
         int pos = findPosition(e);
         if (pos < 0) {
             pos = ~pos;
@@ -348,13 +651,23 @@ public final class SortedList<E> extends TransformationList<E, E> {
         size = to;
         for (int i = 0; i < to; ++i) {
             sorted[i] = new Element<E>(list.get(i), i);
+            this.perm[i] = i;
         }
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
+        int[] perm = sortElements();
         System.arraycopy(perm, 0, this.perm, 0, size);
         nextAdd(0, size);
     }
 
     private void removeFromMapping(int idx, E e) {
+        if (sortedTree != null) {
+            final Element<E> element = sourceTree.get(idx).getValue();
+            final int pos = sortedTree.indexOf(element.sortedNode);
+            sourceTree.remove(element.sourceNode);
+            sortedTree.remove(element.sortedNode);
+            --size;
+            nextRemove(pos, e);
+            return;
+        }
         int pos = perm[idx];
         System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
         System.arraycopy(perm, idx + 1, perm, idx, size - idx - 1);
@@ -375,7 +688,7 @@ public final class SortedList<E> extends TransformationList<E, E> {
     }
 
     private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
+        int[] perm = sortElements();
         for (int i = 0; i < size; i++) {
             this.perm[sorted[i].index] = i;
         }
@@ -385,8 +698,91 @@ public final class SortedList<E> extends TransformationList<E, E> {
         }
     }
 
+    /**
+     * Applies an update of a few elements to the trees: the updated elements which are out of order are removed and
+     * inserted again, in O(log n) time each.
+     */
+    private void updateTree(Change<? extends E> c) {
+        final int from = c.getFrom();
+        final int count = c.getTo() - from;
+        @SuppressWarnings("unchecked")
+        final Element<E>[] updated = (Element<E>[]) new Element[count];
+        boolean ordered = true;
+        for (int i = 0; i < count; ++i) {
+            final Element<E> element = sourceTree.get(from + i).getValue();
+            updated[i] = element;
+            // the index is not maintained while the trees are used, so it keeps the old view index here
+            element.index = sortedTree.indexOf(element.sortedNode);
+            ordered = ordered && isInPlace(element.index);
+        }
+        if (!ordered) {
+            // all the updated elements leave first, so the tree is sorted when they are inserted again
+            for (Element<E> element : updated) {
+                sortedTree.remove(element.sortedNode);
+            }
+            for (Element<E> element : updated) {
+                sortedTree.insert(element.sortedNode, elementComparator);
+            }
+            nextTreePermutation(updated);
+        }
+        for (Element<E> element : updated) {
+            nextUpdate(sortedTree.indexOf(element.sortedNode));
+        }
+    }
+
+    /**
+     * @return {@code true} if the element at the specified view index is not less than the previous element and not
+     * greater than the next one.
+     */
+    private boolean isInPlace(int pos) {
+        final Element<E> element = sortedTree.get(pos).getValue();
+        return (pos == 0 || elementComparator.compare(sortedTree.get(pos - 1).getValue(), element) <= 0)
+                && (pos == size - 1 || elementComparator.compare(element, sortedTree.get(pos + 1).getValue()) <= 0);
+    }
+
+    /**
+     * Reports the permutation made by moving the specified elements, which {@link Element#index} fields hold their
+     * old view indexes. The other elements keep their relative order, so only the range between the old and the new
+     * positions of the moved elements is permuted.
+     */
+    private void nextTreePermutation(Element<E>[] moved) {
+        final int[] oldPositions = new int[moved.length];
+        int lo = size;
+        int hi = -1;
+        for (int i = 0; i < moved.length; ++i) {
+            moved[i].moved = true;
+            oldPositions[i] = moved[i].index;
+            final int newPos = sortedTree.indexOf(moved[i].sortedNode);
+            lo = Math.min(lo, Math.min(oldPositions[i], newPos));
+            hi = Math.max(hi, Math.max(oldPositions[i], newPos));
+        }
+        Arrays.sort(oldPositions);
+        final int[] perm = new int[hi + 1 - lo];
+        int oldPtr = 0;
+        int oldPos = lo;
+        RankTree.Node<Element<E>> node = sortedTree.get(lo);
+        for (int newPos = lo; newPos <= hi; ++newPos, node = RankTree.next(node)) {
+            final Element<E> element = node.getValue();
+            if (element.moved) {
+                perm[element.index - lo] = newPos;
+                continue;
+            }
+            // the unchanged elements fill the old positions not taken by the moved ones, in the same order
+            while (oldPtr < oldPositions.length && oldPositions[oldPtr] == oldPos) {
+                ++oldPtr;
+                ++oldPos;
+            }
+            perm[oldPos++ - lo] = newPos;
+        }
+        for (Element<E> element : moved) {
+            element.moved = false;
+        }
+        nextPermutation(lo, hi + 1, perm);
+    }
+
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
+            useArrays();
             removeAllFromMapping();
         } else {
             for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
@@ -394,6 +790,7 @@ public final class SortedList<E> extends TransformationList<E, E> {
             }
         }
         if (size == 0) {
+            useArrays();
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
         } else {
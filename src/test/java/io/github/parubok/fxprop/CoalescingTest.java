@@ -0,0 +1,97 @@
+package io.github.parubok.fxprop;
+
+import io.github.parubok.swingfx.beans.property.ListProperty;
+import io.github.parubok.swingfx.beans.property.ReadOnlyIntegerProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CoalescingTest {
+    private JTable table;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    public void enable() {
+        SwingPropertySupport.setCoalescingEnabled(true);
+    }
+
+    @AfterEach
+    public void disable() {
+        SwingPropertySupport.setCoalescingEnabled(false);
+    }
+
+    @Test
+    public void coalesce_selection_events() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Assertions.assertTrue(SwingPropertySupport.isCoalescingEnabled());
+            table = new JTable(new DefaultTableModel(100, 2));
+            table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+            ReadOnlyIntegerProperty count = SwingPropertySupport.selectedRowCountProperty(table);
+            ListProperty<Integer> rows = SwingPropertySupport.selectedRowsProperty(table);
+            count.addListener((observable, oldValue, newValue) -> events.add("count=" + newValue));
+            rows.addListener((observable, oldValue, newValue) -> events.add("rows=" + newValue.size()));
+            for (int i = 0; i < 10; i++) {
+                table.addRowSelectionInterval(i, i);
+            }
+            // not updated yet:
+            Assertions.assertEquals(0, count.get());
+            Assertions.assertTrue(rows.isEmpty());
+            Assertions.assertTrue(events.isEmpty());
+        });
+        SwingUtilities.invokeAndWait(() -> {
+            // each property updated once, in the order of the first request
+            // (the selection model notifies the most recently added listener first):
+            Assertions.assertEquals(Arrays.asList("rows=10", "count=10"), events);
+            Assertions.assertEquals(10, SwingPropertySupport.selectedRowCountProperty(table).get());
+            Assertions.assertEquals(10, SwingPropertySupport.selectedRowsProperty(table).size());
+        });
+    }
+
+    @Test
+    public void equal_selections_of_two_tables() throws Exception {
+        JTable[] tables = new JTable[2];
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < tables.length; i++) {
+                tables[i] = new JTable(new DefaultTableModel(10, 2));
+                ListProperty<Integer> rows = SwingPropertySupport.selectedRowsProperty(tables[i]);
+                final int tableIndex = i;
+                rows.addListener((observable, oldValue, newValue) -> events.add(tableIndex + ":" + newValue));
+            }
+            // the list properties of both tables are equal (empty) when the updates are requested
+            tables[0].setRowSelectionInterval(0, 0);
+            tables[1].setRowSelectionInterval(0, 0);
+        });
+        SwingUtilities.invokeAndWait(() -> {
+            Assertions.assertEquals(Arrays.asList("0:[0]", "1:[0]"), events);
+            Assertions.assertEquals(Collections.singletonList(0), SwingPropertySupport.selectedRowsProperty(tables[1]));
+        });
+    }
+
+    @Test
+    public void fx_to_swing_not_deferred() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            table = new JTable(new DefaultTableModel(100, 2));
+            table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+            ListProperty<Integer> rows = SwingPropertySupport.selectedRowsProperty(table);
+            rows.setAll(3, 5);
+            Assertions.assertArrayEquals(new int[]{3, 5}, table.getSelectedRows());
+        });
+        SwingUtilities.invokeAndWait(() -> {
+            Assertions.assertEquals(Arrays.asList(3, 5), SwingPropertySupport.selectedRowsProperty(table).get());
+            table.clearSelection();
+        });
+        SwingUtilities.invokeAndWait(() -> {
+            Assertions.assertEquals(Collections.emptyList(), SwingPropertySupport.selectedRowsProperty(table).get());
+        });
+    }
+}
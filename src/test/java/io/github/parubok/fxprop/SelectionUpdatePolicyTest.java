@@ -0,0 +1,105 @@
+package io.github.parubok.fxprop;
+
+import io.github.parubok.swingfx.beans.property.IntegerProperty;
+import io.github.parubok.swingfx.beans.property.ListProperty;
+import io.github.parubok.swingfx.beans.property.ReadOnlyIntegerProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SelectionUpdatePolicyTest {
+    private static JTable newTable() {
+        JTable table = new JTable(new DefaultTableModel(100, 2));
+        table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        return table;
+    }
+
+    private static void dragSelect(ListSelectionModel sm, int count) {
+        sm.setValueIsAdjusting(true);
+        for (int i = 0; i < count; i++) {
+            sm.setSelectionInterval(0, i);
+        }
+        sm.setValueIsAdjusting(false);
+    }
+
+    @Test
+    public void live() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = newTable();
+            ReadOnlyIntegerProperty p = SwingPropertySupport.selectedRowCountProperty(table);
+            Assertions.assertSame(SelectionUpdatePolicy.LIVE, SwingPropertySupport.getSelectionUpdatePolicy(p));
+            List<Number> values = new ArrayList<>();
+            p.addListener((observable, oldValue, newValue) -> values.add(newValue));
+            dragSelect(table.getSelectionModel(), 5);
+            Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5), values);
+        });
+    }
+
+    @Test
+    public void adjusting_end() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = newTable();
+            ReadOnlyIntegerProperty countProp = SwingPropertySupport.selectedRowCountProperty(table);
+            ListProperty<Integer> rowsProp = SwingPropertySupport.selectedRowsProperty(table);
+            SwingPropertySupport.setSelectionUpdatePolicy(countProp, SelectionUpdatePolicy.ADJUSTING_END);
+            SwingPropertySupport.setSelectionUpdatePolicy(rowsProp, SelectionUpdatePolicy.ADJUSTING_END);
+            List<Number> counts = new ArrayList<>();
+            countProp.addListener((observable, oldValue, newValue) -> counts.add(newValue));
+            List<Integer> sizes = new ArrayList<>();
+            rowsProp.addListener((observable, oldValue, newValue) -> sizes.add(newValue.size()));
+
+            ListSelectionModel sm = table.getSelectionModel();
+            sm.setValueIsAdjusting(true);
+            for (int i = 0; i < 10; i++) {
+                sm.setSelectionInterval(0, i);
+            }
+            Assertions.assertEquals(0, countProp.get());
+            Assertions.assertTrue(rowsProp.isEmpty());
+            sm.setValueIsAdjusting(false);
+            Assertions.assertEquals(Collections.singletonList(10), counts);
+            Assertions.assertEquals(Collections.singletonList(10), sizes);
+
+            table.clearSelection(); // not adjusting
+            Assertions.assertEquals(Arrays.asList(10, 0), counts);
+        });
+    }
+
+    @Test
+    public void throttle() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JList<String> list = new JList<>(new String[]{"a", "b", "c", "d"});
+            IntegerProperty p = SwingPropertySupport.selectedIndexProperty(list);
+            SwingPropertySupport.setSelectionUpdatePolicy(p, SelectionUpdatePolicy.throttle(1));
+            List<Number> values = new ArrayList<>();
+            p.addListener((observable, oldValue, newValue) -> values.add(newValue));
+            ListSelectionModel sm = list.getSelectionModel();
+            sm.setValueIsAdjusting(true);
+            sm.setSelectionInterval(1, 1); // first event of the series is not delayed
+            sm.setSelectionInterval(2, 2);
+            sm.setSelectionInterval(3, 3);
+            Assertions.assertEquals(Collections.singletonList(1), values);
+            sm.setValueIsAdjusting(false);
+            Assertions.assertEquals(Arrays.asList(1, 3), values);
+        });
+    }
+
+    @Test
+    public void unsupported_property() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> SwingPropertySupport.setSelectionUpdatePolicy(SwingPropertySupport.enabledProperty(new JLabel()),
+                            SelectionUpdatePolicy.ADJUSTING_END));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> SelectionUpdatePolicy.throttle(0));
+        });
+    }
+}
@@ -92,4 +92,39 @@ public class TableModelRowCountPropertyTest {
             }
         });
     }
+
+    @Test
+    public void insert_burst() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            DefaultTableModel model = new DefaultTableModel(0, 2);
+            ReadOnlyIntegerProperty rowCountProperty = SwingPropertySupport.modelRowCountProperty(model);
+            final int[] invalidations = new int[1];
+            rowCountProperty.addListener(observable -> invalidations[0]++);
+            for (int i = 0; i < 100; i++) {
+                model.addRow(new Object[]{"v1", "v2"});
+            }
+            Assertions.assertEquals(1, invalidations[0]);
+            Assertions.assertEquals(100, rowCountProperty.get());
+            model.removeRow(0);
+            Assertions.assertEquals(2, invalidations[0]);
+            Assertions.assertEquals(99, rowCountProperty.get());
+        });
+    }
+
+    @Test
+    public void concurrent_access() throws Exception {
+        DefaultTableModel model = new DefaultTableModel(5, 2);
+        List<ReadOnlyIntegerProperty> props = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> props.add(SwingPropertySupport.modelRowCountProperty(model))));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+        Assertions.assertEquals(8, props.size());
+        props.forEach(p -> Assertions.assertSame(props.get(0), p));
+        Assertions.assertEquals(1, model.getTableModelListeners().length);
+    }
 }
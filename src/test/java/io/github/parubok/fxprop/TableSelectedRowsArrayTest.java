@@ -0,0 +1,95 @@
+package io.github.parubok.fxprop;
+
+import io.github.parubok.swingfx.collections.ArrayChangeListener;
+import io.github.parubok.swingfx.collections.ObservableIntegerArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.DefaultListSelectionModel;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TableSelectedRowsArrayTest {
+
+    @Test
+    public void basic() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = TableSelectedRowsPropertyTest.newTable();
+            table.getSelectionModel().setSelectionInterval(1, 2);
+            ObservableIntegerArray a = SwingPropertySupport.selectedRowsArray(table);
+            Assertions.assertSame(a, SwingPropertySupport.selectedRowsArray(table));
+            Assertions.assertArrayEquals(new int[]{1, 2}, a.toArray(null));
+
+            table.getSelectionModel().addSelectionInterval(10, 12);
+            Assertions.assertArrayEquals(new int[]{1, 2, 10, 11, 12}, a.toArray(null));
+
+            table.getSelectionModel().removeSelectionInterval(2, 10);
+            Assertions.assertArrayEquals(new int[]{1, 11, 12}, a.toArray(null));
+            Assertions.assertArrayEquals(table.getSelectedRows(), a.toArray(null));
+
+            table.selectAll();
+            Assertions.assertArrayEquals(table.getSelectedRows(), a.toArray(null));
+
+            table.clearSelection();
+            Assertions.assertEquals(0, a.size());
+        });
+    }
+
+    @Test
+    public void range_changes() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = TableSelectedRowsPropertyTest.newTable();
+            table.getSelectionModel().setSelectionInterval(0, 0);
+            table.getSelectionModel().addSelectionInterval(15, 16);
+            ObservableIntegerArray a = SwingPropertySupport.selectedRowsArray(table);
+            List<String> changes = new ArrayList<>();
+            a.addListener((ArrayChangeListener<ObservableIntegerArray>) (array, sizeChanged, from, to) ->
+                    changes.add(sizeChanged + ":" + from + "-" + to));
+
+            table.getSelectionModel().addSelectionInterval(5, 6);
+            Assertions.assertArrayEquals(new int[]{0, 5, 6, 15, 16}, a.toArray(null));
+            Assertions.assertEquals("[true:1-5]", changes.toString());
+
+            changes.clear();
+            table.getSelectionModel().removeSelectionInterval(16, 16);
+            Assertions.assertArrayEquals(new int[]{0, 5, 6, 15}, a.toArray(null));
+            // the event range includes the previous lead index (6)
+            Assertions.assertEquals("[true:1-4]", changes.toString());
+
+            changes.clear();
+            table.getSelectionModel().setSelectionInterval(9, 9);
+            Assertions.assertArrayEquals(new int[]{9}, a.toArray(null));
+            // same number of selected rows - the element is overwritten
+            table.getSelectionModel().setSelectionInterval(8, 8);
+            Assertions.assertArrayEquals(new int[]{8}, a.toArray(null));
+            Assertions.assertEquals("[true:0-1, false:0-1]", changes.toString());
+        });
+    }
+
+    @Test
+    public void selection_model_change() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = TableSelectedRowsPropertyTest.newTable();
+            table.getSelectionModel().setSelectionInterval(3, 4);
+            ObservableIntegerArray a = SwingPropertySupport.selectedRowsArray(table);
+            DefaultListSelectionModel model = new DefaultListSelectionModel();
+            model.setSelectionInterval(7, 7);
+            table.setSelectionModel(model);
+            Assertions.assertArrayEquals(new int[]{7}, a.toArray(null));
+            model.addSelectionInterval(1, 1);
+            Assertions.assertArrayEquals(new int[]{1, 7}, a.toArray(null));
+        });
+    }
+
+    @Test
+    public void read_only() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = TableSelectedRowsPropertyTest.newTable();
+            ObservableIntegerArray a = SwingPropertySupport.selectedRowsArray(table);
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> a.addAll(1));
+            Assertions.assertThrows(UnsupportedOperationException.class, a::clear);
+        });
+    }
+}
@@ -4,6 +4,7 @@ import io.github.parubok.com.sun.swingfx.collections.ObservableListWrapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import io.github.parubok.swingfx.beans.property.ListProperty;
+import io.github.parubok.swingfx.collections.ListChangeListener;
 
 import javax.swing.DefaultListSelectionModel;
 import javax.swing.JTable;
@@ -13,6 +14,8 @@ import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class TableSelectedRowsPropertyTest {
 
@@ -126,4 +129,86 @@ public class TableSelectedRowsPropertyTest {
             Assertions.assertEquals(Arrays.asList(5, 6, 7), p.get());
         });
     }
+
+    @Test
+    public void range_changes() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = newTable();
+            table.addRowSelectionInterval(1, 3);
+            table.addRowSelectionInterval(10, 11);
+            ListProperty<Integer> p = SwingPropertySupport.selectedRowsProperty(table);
+            List<String> changes = new ArrayList<>();
+            p.addListener((ListChangeListener<Integer>) c -> {
+                while (c.next()) {
+                    changes.add(c.getFrom() + ":" + c.getRemoved() + "->" + c.getAddedSubList());
+                }
+            });
+
+            table.addRowSelectionInterval(5, 6);
+            Assertions.assertEquals(Arrays.asList(1, 2, 3, 5, 6, 10, 11), p.get());
+            Assertions.assertEquals(Collections.singletonList("3:[]->[5, 6]"), changes);
+
+            changes.clear();
+            table.getSelectionModel().setValueIsAdjusting(true);
+            table.removeRowSelectionInterval(2, 2);
+            table.removeRowSelectionInterval(10, 10);
+            table.getSelectionModel().setValueIsAdjusting(false);
+            Assertions.assertEquals(Arrays.asList(1, 3, 5, 6, 11), p.get());
+            Assertions.assertEquals(Arrays.asList("1:[2]->[]", "4:[10]->[]"), changes);
+
+            changes.clear();
+            table.setRowSelectionInterval(4, 5);
+            Assertions.assertEquals(Arrays.asList(4, 5), p.get());
+            Assertions.assertEquals(Arrays.asList("0:[1, 3]->[4]", "2:[6, 11]->[]"), changes);
+        });
+    }
+
+    @Test
+    public void sorted_again() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = newTable();
+            ListProperty<Integer> p = SwingPropertySupport.selectedRowsProperty(table);
+            p.setAll(9, 7, 8); // unsorted
+            p.remove(Integer.valueOf(9));
+            p.add(9); // sorted again
+            List<String> changes = new ArrayList<>();
+            p.addListener((ListChangeListener<Integer>) c -> {
+                while (c.next()) {
+                    changes.add(c.getFrom() + ":" + c.getRemoved() + "->" + c.getAddedSubList());
+                }
+            });
+
+            table.addRowSelectionInterval(11, 11);
+            Assertions.assertEquals(Arrays.asList(7, 8, 9, 11), p.get());
+            // only the range of the event is synchronized
+            Assertions.assertEquals(Collections.singletonList("3:[]->[11]"), changes);
+
+            p.set(0, 12); // unsorted
+            changes.clear();
+            table.addRowSelectionInterval(15, 15);
+            Assertions.assertEquals(Arrays.asList(8, 9, 11, 12, 15), p.get());
+        });
+    }
+
+    @Test
+    public void set_scattered_rows() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            JTable table = newTable();
+            ListProperty<Integer> p = SwingPropertySupport.selectedRowsProperty(table);
+            List<String> events = new ArrayList<>();
+            table.getSelectionModel().addListSelectionListener(e -> {
+                if (!e.getValueIsAdjusting()) {
+                    events.add(e.getFirstIndex() + "-" + e.getLastIndex());
+                }
+            });
+            p.setAll(12, 1, 4, 3, 5, 3, 7, 11);
+            Assertions.assertArrayEquals(new int[]{1, 3, 4, 5, 7, 11, 12}, table.getSelectedRows());
+            Assertions.assertEquals(Collections.singletonList("1-12"), events);
+            Assertions.assertEquals(Arrays.asList(12, 1, 4, 3, 5, 3, 7, 11), p.get());
+
+            events.clear();
+            p.setAll(1, 3, 4, 5, 7, 11, 12); // same rows
+            Assertions.assertTrue(events.isEmpty());
+        });
+    }
 }
@@ -0,0 +1,123 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.beans.property.SimpleStringProperty;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import io.github.parubok.swingfx.collections.ObservableList;
+import io.github.parubok.swingfx.collections.ObservableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class BatchTest {
+    @Test
+    void properties() {
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        SimpleStringProperty b = new SimpleStringProperty("x");
+        int[] computations = new int[1];
+        StringBinding sum = Bindings.createStringBinding(() -> {
+            computations[0]++;
+            return a.get() + b.get();
+        }, a, b);
+        List<String> events = new ArrayList<>();
+        a.addListener((observable, oldValue, newValue) -> events.add("a " + oldValue + "->" + newValue));
+        sum.addListener((observable, oldValue, newValue) -> events.add("sum " + oldValue + "->" + newValue));
+        computations[0] = 0;
+
+        Bindings.batch(() -> {
+            a.set(2);
+            a.set(3);
+            Assertions.assertEquals(3, a.get());
+            b.set("y");
+            b.set("z");
+            a.set(4);
+            Assertions.assertTrue(events.isEmpty());
+        });
+        // change listeners of the source go first, since the notifications are performed in the order of dependencies
+        Assertions.assertEquals(Arrays.asList("a 1->4", "sum 1x->4z"), events);
+        Assertions.assertEquals(1, computations[0]);
+
+        events.clear();
+        Bindings.batch(() -> {
+            a.set(5);
+            a.set(4);
+        });
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void nested() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty();
+        List<String> events = new ArrayList<>();
+        p.addListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        Bindings.batch(() -> {
+            p.set(1);
+            Bindings.batch(() -> p.set(2));
+            Assertions.assertTrue(events.isEmpty());
+            p.set(3);
+        });
+        Assertions.assertEquals(Arrays.asList("0->3"), events);
+
+        p.set(4);
+        Assertions.assertEquals(Arrays.asList("0->3", "3->4"), events);
+    }
+
+    @Test
+    void exception_in_body() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty();
+        List<String> events = new ArrayList<>();
+        p.addListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        Assertions.assertThrows(IllegalStateException.class, () -> Bindings.batch(() -> {
+            p.set(1);
+            throw new IllegalStateException();
+        }));
+        Assertions.assertEquals(Arrays.asList("0->1"), events);
+    }
+
+    @Test
+    void list() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        List<String> changes = new ArrayList<>();
+        int[] count = new int[1];
+        list.addListener((ListChangeListener<String>) c -> {
+            count[0]++;
+            while (c.next()) {
+                changes.add(c.getFrom() + "-" + c.getTo() + " removed " + c.getRemoved() + " added "
+                        + c.getAddedSubList());
+            }
+        });
+        Bindings.batch(() -> {
+            list.add("d");
+            list.remove("a");
+            list.set(0, "x");
+            Assertions.assertEquals(Arrays.asList("x", "c", "d"), list);
+        });
+        Assertions.assertEquals(1, count[0]);
+        Assertions.assertEquals(Arrays.asList("0-1 removed [a, b] added [x]", "2-3 removed [] added [d]"), changes);
+    }
+
+    @Test
+    void map() {
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        List<String> changes = new ArrayList<>();
+        map.addListener((io.github.parubok.swingfx.collections.MapChangeListener<String, Integer>) c ->
+                changes.add(c.getKey() + ": " + (c.wasRemoved() ? c.getValueRemoved() : "-") + "->"
+                        + (c.wasAdded() ? c.getValueAdded() : "-")));
+        Bindings.batch(() -> {
+            map.put("a", 10);
+            map.put("a", 11);
+            map.remove("b");
+            map.put("b", 2);
+            map.put("c", 3);
+            map.put("d", 4);
+            map.remove("d");
+        });
+        Assertions.assertEquals(Arrays.asList("a: 1->11", "c: -->3"), changes);
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import io.github.parubok.swingfx.collections.ObservableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+class BindingDiagnosticsTest {
+    private final BindingDiagnostics diagnostics = BindingDiagnostics.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        diagnostics.setEnabled(false);
+        diagnostics.reset();
+        Bindings.setGlitchFreePropagation(false);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void disabled_by_default() {
+        Assertions.assertFalse(diagnostics.isEnabled());
+        SimpleIntegerProperty a = new SimpleIntegerProperty(null, "a");
+        a.addListener(observable -> a.get());
+        a.set(1);
+        Assertions.assertTrue(diagnostics.getListenerCounts().isEmpty());
+        Assertions.assertTrue(diagnostics.getSlowestListeners().isEmpty());
+    }
+
+    @Test
+    void statistics() {
+        diagnostics.setEnabled(true);
+        SimpleIntegerProperty a = new SimpleIntegerProperty(null, "a");
+        IntegerBinding b = (IntegerBinding) a.add(1);
+        BooleanBinding c = b.greaterThan(10);
+        c.addListener((observable, oldValue, newValue) -> sleep(20));
+        a.addListener(observable -> a.get());
+        a.set(20);
+        a.set(0);
+        a.set(30);
+
+        Map<String, Integer> counts = diagnostics.getListenerCounts();
+        String aName = counts.keySet().stream().filter(name -> name.endsWith("[a]")).findFirst().orElse(null);
+        Assertions.assertNotNull(aName, counts.toString());
+        // binding b and the invalidation listener
+        Assertions.assertEquals(2, counts.get(aName));
+        Assertions.assertTrue(diagnostics.getFiresPerSecond().get(aName) > 0.0);
+
+        List<String> slowest = diagnostics.getSlowestListeners();
+        Assertions.assertTrue(slowest.get(0).contains("3 calls"), slowest.toString());
+
+        List<String> chains = diagnostics.getLongestPropagationChains();
+        Assertions.assertFalse(chains.isEmpty());
+        String[] longest = chains.get(0).split(" -> ");
+        Assertions.assertEquals(3, longest.length, chains.toString());
+        Assertions.assertEquals(aName, longest[0]);
+    }
+
+    @Test
+    void shared_listener() {
+        diagnostics.setEnabled(true);
+        SimpleIntegerProperty a = new SimpleIntegerProperty(null, "a");
+        SimpleIntegerProperty b = new SimpleIntegerProperty(null, "b");
+        // validates the property, so the next change is reported again
+        InvalidationListener listener = observable -> ((SimpleIntegerProperty) observable).get();
+        a.addListener(listener);
+        b.addListener(listener);
+        a.set(1);
+        b.set(1);
+        b.set(2);
+        List<String> slowest = diagnostics.getSlowestListeners();
+        Assertions.assertEquals(2, slowest.size(), slowest.toString());
+        Assertions.assertTrue(slowest.stream().anyMatch(line -> line.contains("[a]:") && line.contains("1 calls")),
+                slowest.toString());
+        Assertions.assertTrue(slowest.stream().anyMatch(line -> line.contains("[b]:") && line.contains("2 calls")),
+                slowest.toString());
+    }
+
+    @Test
+    void glitch_free_chain() {
+        diagnostics.setEnabled(true);
+        Bindings.setGlitchFreePropagation(true);
+        SimpleIntegerProperty source = new SimpleIntegerProperty(null, "source");
+        SimpleIntegerProperty other = new SimpleIntegerProperty(null, "other");
+        other.addListener(observable -> { });
+        IntegerBinding bottom = (IntegerBinding) source.add(1);
+        // the change listener is deferred until the invalidation of the binding is complete
+        bottom.addListener((observable, oldValue, newValue) -> other.set(newValue.intValue()));
+        source.set(1);
+        Assertions.assertEquals(2, other.get());
+
+        String bottomName = diagnostics.getListenerCounts().keySet().stream()
+                .filter(name -> name.startsWith("IntegerOperationBinding@")).findFirst().orElse(null);
+        Assertions.assertNotNull(bottomName, diagnostics.getListenerCounts().toString());
+        List<String> chains = diagnostics.getLongestPropagationChains();
+        String[] longest = chains.get(0).split(" -> ");
+        Assertions.assertEquals(3, longest.length, chains.toString());
+        Assertions.assertTrue(longest[0].endsWith("[source]"), chains.toString());
+        Assertions.assertEquals(bottomName, longest[1]);
+        Assertions.assertTrue(longest[2].endsWith("[other]"), chains.toString());
+        // the deferred notification is not counted as another event of the binding
+        Assertions.assertTrue(diagnostics.getSlowestListeners().stream()
+                .anyMatch(line -> line.contains(bottomName + ":") && line.contains("1 calls")));
+    }
+
+    @Test
+    void collections() {
+        diagnostics.setEnabled(true);
+        ObservableList<String> list = FXCollections.observableArrayList();
+        list.addListener((ListChangeListener<String>) change -> { });
+        list.addListener((InvalidationListener) observable -> { });
+        list.add("a");
+        Assertions.assertEquals(1, diagnostics.getListenerCounts().size());
+        Assertions.assertEquals(2, diagnostics.getListenerCounts().values().iterator().next());
+        Assertions.assertEquals(2, diagnostics.getSlowestListeners().size());
+    }
+
+    @Test
+    void mxbean() throws Exception {
+        BindingDiagnostics.register();
+        BindingDiagnostics.register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(BindingDiagnostics.OBJECT_NAME);
+        Assertions.assertEquals(Boolean.FALSE, server.getAttribute(name, "Enabled"));
+        server.setAttribute(name, new Attribute("Enabled", true));
+        Assertions.assertTrue(diagnostics.isEnabled());
+        Assertions.assertNotNull(server.getAttribute(name, "ListenerCounts"));
+    }
+}
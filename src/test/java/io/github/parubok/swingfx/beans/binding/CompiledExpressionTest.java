@@ -0,0 +1,88 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.beans.property.SimpleLongProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CompiledExpressionTest {
+    @Test
+    void comparison_tree() {
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        SimpleIntegerProperty b = new SimpleIntegerProperty(2);
+        SimpleIntegerProperty c = new SimpleIntegerProperty(3);
+        SimpleIntegerProperty d = new SimpleIntegerProperty(10);
+        BooleanBinding tree = a.add(b).multiply(c).greaterThan(d);
+        BooleanBinding compiled = Bindings.compile(tree);
+        Assertions.assertNotSame(tree, compiled);
+        Assertions.assertEquals(Arrays.asList(a, b, c, d), compiled.getDependencies());
+        Assertions.assertFalse(compiled.get());
+
+        List<Boolean> events = new ArrayList<>();
+        compiled.addListener((observable, oldValue, newValue) -> events.add(newValue));
+        a.set(3);
+        Assertions.assertTrue(compiled.get());
+        d.set(20);
+        Assertions.assertEquals(Arrays.asList(true, false), events);
+        Assertions.assertEquals(tree.get(), compiled.get());
+
+        compiled.dispose();
+        a.set(10);
+        Assertions.assertEquals(Arrays.asList(true, false), events);
+    }
+
+    @Test
+    void mixed_types() {
+        SimpleIntegerProperty i = new SimpleIntegerProperty(7);
+        SimpleLongProperty l = new SimpleLongProperty(2L);
+        SimpleDoubleProperty d = new SimpleDoubleProperty(0.5);
+        // integer division is performed before the conversion to double
+        NumberBinding tree = i.divide(l).add(d).subtract(1).multiply(i);
+        NumberBinding compiled = Bindings.compile(tree);
+        Assertions.assertTrue(compiled instanceof DoubleBinding);
+        Assertions.assertEquals(Arrays.asList(i, l, d), compiled.getDependencies());
+        Assertions.assertEquals(tree.doubleValue(), compiled.doubleValue());
+        Assertions.assertEquals(17.5, compiled.doubleValue());
+
+        l.set(3L);
+        Assertions.assertEquals(tree.doubleValue(), compiled.doubleValue());
+        Assertions.assertEquals(10.5, compiled.doubleValue());
+
+        NumberBinding max = Bindings.compile(Bindings.max(i.multiply(2), Bindings.min(l, 100)));
+        Assertions.assertTrue(max instanceof LongBinding);
+        Assertions.assertEquals(14L, max.longValue());
+
+        l.set(0L);
+        Assertions.assertThrows(ArithmeticException.class, compiled::doubleValue);
+    }
+
+    @Test
+    void equality_with_epsilon() {
+        SimpleDoubleProperty a = new SimpleDoubleProperty(1.0);
+        SimpleDoubleProperty b = new SimpleDoubleProperty(1.05);
+        BooleanBinding compiled = Bindings.compile(Bindings.equal(a.multiply(2), b.add(b), 0.2));
+        Assertions.assertTrue(compiled.get());
+        b.set(1.2);
+        Assertions.assertFalse(compiled.get());
+        Assertions.assertTrue(Bindings.compile(Bindings.notEqual(a.add(1), b, 0.1)).get());
+    }
+
+    @Test
+    void not_compiled() {
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        BooleanBinding simple = a.greaterThan(0);
+        Assertions.assertSame(simple, Bindings.compile(simple));
+        NumberBinding sum = a.add(1);
+        Assertions.assertSame(sum, Bindings.compile(sum));
+        // already compiled
+        NumberBinding compiled = Bindings.compile(a.add(1).add(a));
+        Assertions.assertSame(compiled, Bindings.compile(compiled));
+        Assertions.assertEquals(Arrays.asList(a), compiled.getDependencies());
+        Assertions.assertEquals(3, compiled.intValue());
+    }
+}
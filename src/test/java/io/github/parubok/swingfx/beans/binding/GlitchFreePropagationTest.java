@@ -0,0 +1,132 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class GlitchFreePropagationTest {
+    private final SimpleIntegerProperty source = new SimpleIntegerProperty(1);
+    private final IntegerBinding left = source.add(1);
+    private final IntegerBinding right = source.multiply(10);
+    private final List<String> events = new ArrayList<>();
+    private int computeCount;
+    private final ObjectBinding<String> bottom = Bindings.createObjectBinding(() -> {
+        computeCount++;
+        return left.get() + ":" + right.get();
+    }, left, right);
+
+    @AfterEach
+    void tearDown() {
+        Bindings.setGlitchFreePropagation(false);
+    }
+
+    @Test
+    void diamond_default() {
+        bottom.addListener((observable, oldValue, newValue) -> events.add(newValue));
+        computeCount = 0;
+        source.set(2);
+        // the first notification sees the new left value and the old right value
+        Assertions.assertEquals(Arrays.asList("3:10", "3:20"), events);
+        Assertions.assertEquals(2, computeCount);
+    }
+
+    @Test
+    void diamond_glitch_free() {
+        Bindings.setGlitchFreePropagation(true);
+        Assertions.assertTrue(Bindings.isGlitchFreePropagation());
+        bottom.addListener((observable, oldValue, newValue) -> events.add(newValue));
+        computeCount = 0;
+        source.set(2);
+        Assertions.assertEquals(Arrays.asList("3:20"), events);
+        Assertions.assertEquals(1, computeCount);
+
+        source.set(3);
+        Assertions.assertEquals(Arrays.asList("3:20", "4:30"), events);
+        Assertions.assertEquals(2, computeCount);
+    }
+
+    @Test
+    void height_order() {
+        Bindings.setGlitchFreePropagation(true);
+        bottom.addListener((observable, oldValue, newValue) -> events.add("bottom " + newValue));
+        right.addIntegerChangeListener((observable, oldValue, newValue) -> events.add("right " + newValue));
+        source.addListener((observable, oldValue, newValue) -> events.add("source " + newValue));
+        source.set(2);
+        Assertions.assertEquals(Arrays.asList("source 2", "right 20", "bottom 3:20"), events);
+    }
+
+    @Test
+    void listener_changes_source() {
+        Bindings.setGlitchFreePropagation(true);
+        SimpleIntegerProperty other = new SimpleIntegerProperty();
+        bottom.addListener((observable, oldValue, newValue) -> {
+            events.add(newValue);
+            other.set(left.get());
+        });
+        NumberBinding sum = other.add(right);
+        sum.addListener((observable, oldValue, newValue) -> events.add("sum " + newValue));
+        source.set(2);
+        // the sum is invalidated by both changes before its deferred notification, so it is notified once
+        Assertions.assertEquals(Arrays.asList("3:20", "sum 23"), events);
+    }
+
+    @Test
+    void listener_exception_does_not_drop_notifications() {
+        Bindings.setGlitchFreePropagation(true);
+        RuntimeException failure = new IllegalStateException("test");
+        right.addListener((observable, oldValue, newValue) -> {
+            throw failure;
+        });
+        bottom.addListener((observable, oldValue, newValue) -> events.add(newValue));
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> source.set(2));
+        Assertions.assertSame(failure, e);
+        Assertions.assertEquals(Arrays.asList("3:20"), events);
+
+        // no stale state is left for the next wave
+        Assertions.assertThrows(RuntimeException.class, () -> source.set(3));
+        Assertions.assertEquals(Arrays.asList("3:20", "4:30"), events);
+    }
+
+    @Test
+    void batch_on_other_thread() throws Exception {
+        SimpleIntegerProperty other = new SimpleIntegerProperty();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        other.addListener(observable -> {
+            started.countDown();
+            try {
+                done.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                Bindings.batch(() -> other.set(1));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        try {
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            // the batch of the other thread is flushed in a glitch-free wave which must not affect this thread
+            bottom.addListener((observable, oldValue, newValue) -> events.add(newValue));
+            source.set(2);
+            Assertions.assertEquals(Arrays.asList("3:10", "3:20"), events);
+        } finally {
+            done.countDown();
+            thread.join();
+        }
+        Assertions.assertNull(failure.get());
+    }
+}
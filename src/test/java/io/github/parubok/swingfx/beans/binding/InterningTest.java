@@ -0,0 +1,75 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.com.sun.swingfx.binding.IntegerConstant;
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ObservableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class InterningTest {
+    @AfterEach
+    void tearDown() {
+        Bindings.setInterning(false);
+    }
+
+    @Test
+    void disabled_by_default() {
+        Assertions.assertFalse(Bindings.isInterning());
+        SimpleIntegerProperty count = new SimpleIntegerProperty();
+        Assertions.assertNotSame(Bindings.greaterThan(count, 0), Bindings.greaterThan(count, 0));
+    }
+
+    @Test
+    void same_operation() {
+        Bindings.setInterning(true);
+        SimpleIntegerProperty count = new SimpleIntegerProperty();
+        SimpleIntegerProperty other = new SimpleIntegerProperty();
+        BooleanBinding positive = Bindings.greaterThan(count, 0);
+        Assertions.assertSame(positive, Bindings.greaterThan(count, 0));
+        Assertions.assertSame(positive, count.greaterThan(0));
+        Assertions.assertNotSame(positive, Bindings.greaterThan(count, 1));
+        Assertions.assertNotSame(positive, Bindings.greaterThan(count, 0L));
+        Assertions.assertNotSame(positive, Bindings.greaterThan(other, 0));
+        Assertions.assertNotSame(positive, Bindings.lessThan(count, 0));
+        Assertions.assertSame(count.add(other), count.add(other));
+        Assertions.assertNotSame(count.add(other), other.add(count));
+        Assertions.assertNotSame(Bindings.equal(count, other, 0.5), Bindings.equal(count, other, 0.1));
+
+        count.set(1);
+        Assertions.assertTrue(positive.get());
+
+        ObservableList<String> list = FXCollections.observableArrayList();
+        BooleanBinding notEmpty = Bindings.isNotEmpty(list);
+        Assertions.assertSame(notEmpty, Bindings.isNotEmpty(list));
+        Assertions.assertNotSame(notEmpty, Bindings.isEmpty(list));
+        Assertions.assertNotSame(notEmpty, Bindings.isNotEmpty(FXCollections.observableArrayList()));
+        list.add("a");
+        Assertions.assertTrue(notEmpty.get());
+
+        Bindings.setInterning(false);
+        Assertions.assertNotSame(notEmpty, Bindings.isNotEmpty(list));
+    }
+
+    @Test
+    void constant_folding() {
+        Bindings.setInterning(true);
+        SimpleDoubleProperty x = new SimpleDoubleProperty(1.5);
+        NumberBinding constant = Bindings.multiply(IntegerConstant.valueOf(2),
+                Bindings.add(IntegerConstant.valueOf(3), IntegerConstant.valueOf(4)));
+        Assertions.assertTrue(constant.getDependencies().isEmpty());
+        Assertions.assertEquals(14, constant.intValue());
+
+        NumberBinding sum = x.add(constant);
+        Assertions.assertEquals(Arrays.asList(x), sum.getDependencies());
+        Assertions.assertEquals(15.5, sum.doubleValue());
+        // the folded constant is compared by value
+        Assertions.assertSame(sum, x.add(14));
+        x.set(2.0);
+        Assertions.assertEquals(16.0, sum.doubleValue());
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ObservableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class LazyBindingTest {
+    @AfterEach
+    void tearDown() {
+        Bindings.setLazyBindings(false);
+    }
+
+    @Test
+    void attach_on_listener() {
+        Bindings.setLazyBindings(true);
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        int[] computations = new int[1];
+        IntegerBinding twice = Bindings.createIntegerBinding(() -> {
+            computations[0]++;
+            return a.get() * 2;
+        }, a);
+        a.set(2);
+        a.set(3);
+        Assertions.assertEquals(0, computations[0]);
+
+        List<Integer> events = new ArrayList<>();
+        ChangeListener<Number> listener = (observable, oldValue, newValue) -> events.add(newValue.intValue());
+        twice.addListener(listener);
+        Assertions.assertEquals(1, computations[0]);
+        a.set(4);
+        Assertions.assertEquals(Arrays.asList(8), events);
+
+        twice.removeListener(listener);
+        Assertions.assertFalse(twice.isValid());
+        a.set(5);
+        Assertions.assertEquals(Arrays.asList(8), events);
+        Assertions.assertEquals(10, twice.get());
+        Assertions.assertEquals(3, computations[0]);
+    }
+
+    @Test
+    void get_without_listeners() {
+        Bindings.setLazyBindings(true);
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        int[] computations = new int[1];
+        IntegerBinding twice = Bindings.createIntegerBinding(() -> {
+            computations[0]++;
+            return a.get() * 2;
+        }, a);
+        // the value is not cached, so the binding does not need to observe the dependency
+        Assertions.assertEquals(2, twice.get());
+        Assertions.assertFalse(twice.isValid());
+        a.set(5);
+        Assertions.assertEquals(10, twice.get());
+        Assertions.assertEquals(10, twice.get());
+        Assertions.assertEquals(3, computations[0]);
+
+        InvalidationListener listener = observable -> { };
+        twice.addListener(listener);
+        Assertions.assertEquals(10, twice.get());
+        Assertions.assertTrue(twice.isValid());
+        Assertions.assertEquals(10, twice.get());
+        Assertions.assertEquals(4, computations[0]);
+        a.set(7);
+        Assertions.assertFalse(twice.isValid());
+        Assertions.assertEquals(14, twice.get());
+
+        twice.removeListener(listener);
+        a.set(8);
+        Assertions.assertEquals(16, twice.get());
+        Assertions.assertFalse(twice.isValid());
+    }
+
+    @Test
+    void chain() {
+        Bindings.setLazyBindings(true);
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        BooleanBinding positive = a.subtract(1).greaterThan(0);
+        List<String> events = new ArrayList<>();
+        InvalidationListener listener = observable -> events.add("invalidated");
+        positive.addListener(listener);
+        Assertions.assertFalse(positive.get());
+        a.set(2);
+        Assertions.assertEquals(Arrays.asList("invalidated"), events);
+        Assertions.assertTrue(positive.get());
+        positive.removeListener(listener);
+        a.set(0);
+        Assertions.assertFalse(positive.get());
+    }
+
+    @Test
+    void list_binding() {
+        Bindings.setLazyBindings(true);
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        SimpleIntegerProperty limit = new SimpleIntegerProperty(1);
+        ListBinding<String> head = new ListBinding<String>() {
+            {
+                bind(source, limit);
+            }
+
+            @Override
+            protected ObservableList<String> computeValue() {
+                return FXCollections.observableArrayList(source.subList(0, Math.min(limit.get(), source.size())));
+            }
+        };
+        InvalidationListener listener = observable -> { };
+        head.addListener(listener);
+        Assertions.assertEquals(Arrays.asList("a"), head.get());
+        source.add(0, "b");
+        Assertions.assertFalse(head.isValid());
+        Assertions.assertEquals(Arrays.asList("b"), head.get());
+        head.removeListener(listener);
+        Assertions.assertFalse(head.isValid());
+        limit.set(2);
+        Assertions.assertEquals(Arrays.asList("b", "a"), head.get());
+    }
+
+    @Test
+    void eager_by_default() {
+        SimpleIntegerProperty a = new SimpleIntegerProperty(1);
+        NumberBinding sum = a.add(1);
+        // the mode applies to the bindings created after it is enabled
+        Bindings.setLazyBindings(true);
+        InvalidationListener listener = observable -> { };
+        sum.addListener(listener);
+        Assertions.assertEquals(2, sum.intValue());
+        sum.removeListener(listener);
+        Assertions.assertTrue(sum.isValid());
+    }
+}
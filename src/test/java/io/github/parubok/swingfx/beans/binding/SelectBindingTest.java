@@ -0,0 +1,171 @@
+package io.github.parubok.swingfx.beans.binding;
+
+import io.github.parubok.com.sun.swingfx.property.PropertyReference;
+import io.github.parubok.com.sun.swingfx.property.adapter.ReadOnlyPropertyDescriptor;
+import io.github.parubok.swingfx.beans.property.SimpleObjectProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+class SelectBindingTest {
+    public static class Bean {
+        private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+        private Object value;
+
+        public Bean(Object value) {
+            this.value = value;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public void setValue(Object value) {
+            Object old = this.value;
+            this.value = value;
+            pcs.firePropertyChange("value", old, value);
+        }
+
+        public void addPropertyChangeListener(PropertyChangeListener listener) {
+            pcs.addPropertyChangeListener(listener);
+        }
+
+        public void removePropertyChangeListener(PropertyChangeListener listener) {
+            pcs.removePropertyChangeListener(listener);
+        }
+
+        int getListenerCount() {
+            return pcs.getPropertyChangeListeners().length;
+        }
+    }
+
+    /**
+     * Bean which refers only to the classes of the bootstrap class loader, so it can be loaded by a separate loader.
+     */
+    public static class PlainBean {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    @Test
+    void select_java_bean_chain() {
+        Bean inner = new Bean("a");
+        Bean outer = new Bean(inner);
+        ObjectBinding<Object> b = Bindings.select(outer, "value", "value");
+        Assertions.assertEquals("a", b.get());
+
+        inner.setValue("b");
+        Assertions.assertEquals("b", b.get());
+
+        outer.setValue(new Bean("c"));
+        Assertions.assertEquals("c", b.get());
+
+        outer.setValue(null);
+        Assertions.assertNull(b.get());
+    }
+
+    @Test
+    void select_observable_root() {
+        SimpleObjectProperty<Bean> root = new SimpleObjectProperty<>(new Bean("a"));
+        ObjectBinding<Object> b = Bindings.select(root, "value");
+        Assertions.assertEquals("a", b.get());
+        root.get().setValue("b");
+        Assertions.assertEquals("b", b.get());
+        root.set(new Bean("c"));
+        Assertions.assertEquals("c", b.get());
+    }
+
+    @Test
+    void java_bean_step_reused() {
+        Bean inner1 = new Bean("a");
+        SimpleObjectProperty<Bean> root = new SimpleObjectProperty<>(new Bean(inner1));
+        ObjectBinding<Object> b = Bindings.select(root, "value", "value");
+        b.addListener((observable, oldValue, newValue) -> {
+        });
+        Assertions.assertEquals("a", b.get());
+        Assertions.assertEquals(1, inner1.getListenerCount());
+        for (int i = 0; i < 10; i++) {
+            inner1.setValue("v" + i);
+            Assertions.assertEquals("v" + i, b.get());
+        }
+        Assertions.assertEquals(1, inner1.getListenerCount());
+
+        Bean inner2 = new Bean("b");
+        root.get().setValue(inner2);
+        Assertions.assertEquals("b", b.get());
+        Assertions.assertEquals(0, inner1.getListenerCount());
+        Assertions.assertEquals(1, inner2.getListenerCount());
+
+        b.dispose();
+        Assertions.assertEquals(0, inner2.getListenerCount());
+    }
+
+    @Test
+    void null_step_releases_adapter() {
+        Bean inner = new Bean("a");
+        Bean outer = new Bean(inner);
+        SimpleObjectProperty<Bean> root = new SimpleObjectProperty<>(outer);
+        ObjectBinding<Object> b = Bindings.select(root, "value", "value");
+        b.addListener((observable, oldValue, newValue) -> {
+        });
+        Assertions.assertEquals("a", b.get());
+        Assertions.assertEquals(1, inner.getListenerCount());
+
+        outer.setValue(null);
+        Assertions.assertNull(b.get());
+        Assertions.assertEquals(0, inner.getListenerCount());
+
+        root.set(null);
+        Assertions.assertNull(b.get());
+        Assertions.assertEquals(0, outer.getListenerCount());
+    }
+
+    @Test
+    void property_reference_cache() {
+        PropertyReference<Object> r1 = PropertyReference.of(Bean.class, "value");
+        PropertyReference<Object> r2 = PropertyReference.of(Bean.class, "value");
+        Assertions.assertSame(r1, r2);
+        Assertions.assertTrue(r1.isReadable());
+        Assertions.assertTrue(r1.isWritable());
+        Assertions.assertFalse(r1.hasProperty());
+        Assertions.assertNotSame(r1, PropertyReference.of(SimpleObjectProperty.class, "value"));
+    }
+
+    @Test
+    void cache_does_not_pin_foreign_classes() throws Exception {
+        URL classes = SelectBindingTest.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null);
+        Class<?> type = loader.loadClass(PlainBean.class.getName());
+        Assertions.assertNotSame(PlainBean.class, type);
+        Object bean = type.getConstructor().newInstance();
+        PropertyReference<Object> ref = PropertyReference.of(type, "text");
+        ref.set(bean, "a");
+        Assertions.assertEquals("a", ref.get(bean));
+        Assertions.assertSame(ref, PropertyReference.of(type, "text"));
+        Assertions.assertNotNull(ReadOnlyPropertyDescriptor.forProperty(type, "text"));
+
+        WeakReference<ClassLoader> loaderRef = new WeakReference<>(loader);
+        loader.close();
+        loader = null;
+        type = null;
+        bean = null;
+        ref = null;
+        for (int i = 0; i < 100 && loaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(loaderRef.get());
+    }
+}
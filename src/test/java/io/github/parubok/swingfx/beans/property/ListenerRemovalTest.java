@@ -0,0 +1,111 @@
+package io.github.parubok.swingfx.beans.property;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.value.ChangeListener;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import io.github.parubok.swingfx.collections.ObservableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+class ListenerRemovalTest {
+    private static final int COUNT = 200;
+
+    private static List<Integer> shuffledIds(long seed) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            ids.add(i);
+        }
+        Collections.shuffle(ids, new Random(seed));
+        return ids;
+    }
+
+    @Test
+    void random_removal_keeps_order() {
+        SimpleObjectProperty<String> property = new SimpleObjectProperty<>("a");
+        List<Integer> calls = new ArrayList<>();
+        List<InvalidationListener> listeners = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            final int id = i;
+            InvalidationListener listener = observable -> {
+                calls.add(id);
+                property.get();
+            };
+            listeners.add(listener);
+            property.addListener(listener);
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            expected.add(i);
+        }
+        for (int id : shuffledIds(1).subList(0, COUNT - 3)) {
+            property.removeListener(listeners.get(id));
+            expected.remove((Integer) id);
+            calls.clear();
+            property.set(property.get() + "a");
+            Assertions.assertEquals(expected, calls);
+        }
+        // re-added listener is notified last
+        property.addListener(listeners.get(0));
+        expected.add(0);
+        calls.clear();
+        property.set("b");
+        Assertions.assertEquals(expected, calls);
+    }
+
+    @Test
+    void duplicates() {
+        SimpleIntegerProperty property = new SimpleIntegerProperty();
+        List<String> calls = new ArrayList<>();
+        ChangeListener<Number> shared = (observable, oldValue, newValue) -> calls.add("shared");
+        for (int i = 0; i < COUNT; i++) {
+            final int id = i;
+            property.addListener((observable, oldValue, newValue) -> calls.add(String.valueOf(id)));
+            if (i % 50 == 0) {
+                property.addListener(shared);
+            }
+        }
+        property.removeListener(shared);
+        property.removeListener(shared);
+        property.set(1);
+        Assertions.assertEquals(COUNT + 2, calls.size());
+        Assertions.assertEquals("shared", calls.get(101));
+        Assertions.assertEquals("shared", calls.get(152));
+        property.removeListener(shared);
+        property.removeListener(shared);
+        property.removeListener(shared);
+        calls.clear();
+        property.set(2);
+        Assertions.assertEquals(COUNT, calls.size());
+        Assertions.assertFalse(calls.contains("shared"));
+    }
+
+    @Test
+    void removal_during_event() {
+        ObservableList<String> list = FXCollections.observableArrayList();
+        List<Integer> calls = new ArrayList<>();
+        List<ListChangeListener<String>> listeners = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            final int id = i;
+            listeners.add(change -> {
+                calls.add(id);
+                // each listener removes itself and the next one, the removed listeners are still notified
+                list.removeListener(listeners.get(id));
+                if (id + 1 < COUNT) {
+                    list.removeListener(listeners.get(id + 1));
+                }
+            });
+        }
+        listeners.forEach(list::addListener);
+        list.add("a");
+        Assertions.assertEquals(COUNT, calls.size());
+        calls.clear();
+        list.add("b");
+        Assertions.assertTrue(calls.isEmpty());
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.parubok.swingfx.beans.property;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.WeakListener;
+import io.github.parubok.swingfx.beans.value.ObservableValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class WeakListenerReapingTest {
+    /**
+     * Behaves like {@link io.github.parubok.swingfx.beans.WeakInvalidationListener} with a controllable referent.
+     */
+    private static final class StaleableListener implements InvalidationListener, WeakListener {
+        private final int id;
+        private final List<Integer> calls;
+        boolean collected;
+
+        StaleableListener(int id, List<Integer> calls) {
+            this.id = id;
+            this.calls = calls;
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            if (collected) {
+                observable.removeListener(this);
+            } else {
+                calls.add(id);
+                ((ObservableValue<?>) observable).getValue(); // validate, so the next change is reported
+            }
+        }
+
+        @Override
+        public boolean wasGarbageCollected() {
+            return collected;
+        }
+    }
+
+    private static void check(Property<?> property, Runnable change) {
+        List<Integer> calls = new ArrayList<>();
+        List<StaleableListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            StaleableListener listener = new StaleableListener(i, calls);
+            listeners.add(listener);
+            property.addListener(listener);
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            listeners.get(i).collected = true;
+        }
+        change.run();
+        Assertions.assertEquals(666, calls.size());
+
+        calls.clear();
+        // the removed listeners are not notified again, the remaining ones keep their order
+        for (StaleableListener listener : listeners) {
+            listener.collected = false;
+        }
+        change.run();
+        Assertions.assertEquals(666, calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            Assertions.assertNotEquals(0, calls.get(i) % 3);
+            if (i > 0) {
+                Assertions.assertTrue(calls.get(i - 1) < calls.get(i));
+            }
+        }
+        for (StaleableListener listener : listeners) {
+            property.removeListener(listener);
+        }
+        calls.clear();
+        change.run();
+        Assertions.assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void object_property() {
+        SimpleObjectProperty<Integer> p = new SimpleObjectProperty<>(0);
+        p.addListener((observable, oldValue, newValue) -> { });
+        check(p, () -> p.set(p.get() + 1));
+    }
+
+    @Test
+    void integer_property() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty();
+        p.addListener((observable, oldValue, newValue) -> { });
+        check(p, () -> p.set(p.get() + 1));
+    }
+
+    @Test
+    void add_after_collection() {
+        SimpleStringProperty p = new SimpleStringProperty();
+        List<Integer> calls = new ArrayList<>();
+        List<StaleableListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            StaleableListener listener = new StaleableListener(i, calls);
+            listeners.add(listener);
+            p.addListener(listener);
+        }
+        p.addListener((observable, oldValue, newValue) -> { });
+        listeners.forEach(listener -> listener.collected = true);
+        // adding trims the collected listeners without notification
+        for (int i = 100; i < 300; i++) {
+            p.addListener(new StaleableListener(i, calls));
+        }
+        p.set("a");
+        Assertions.assertEquals(200, calls.size());
+        Assertions.assertEquals(100, (int) calls.get(0));
+    }
+}
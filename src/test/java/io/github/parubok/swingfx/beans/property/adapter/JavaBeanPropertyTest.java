@@ -0,0 +1,116 @@
+package io.github.parubok.swingfx.beans.property.adapter;
+
+import io.github.parubok.fxprop.misc.MethodAccessor;
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+class JavaBeanPropertyTest {
+    public static class Bean {
+        private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+        private double weight;
+        private String name;
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            double old = this.weight;
+            this.weight = weight;
+            pcs.firePropertyChange("weight", old, weight);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            String old = this.name;
+            this.name = name;
+            pcs.firePropertyChange("name", old, name);
+        }
+
+        public int getBroken() {
+            throw new IllegalStateException("broken");
+        }
+
+        public int getFailing() {
+            throw new AssertionError("failing");
+        }
+
+        public void addPropertyChangeListener(PropertyChangeListener listener) {
+            pcs.addPropertyChangeListener(listener);
+        }
+
+        public void removePropertyChangeListener(PropertyChangeListener listener) {
+            pcs.removePropertyChangeListener(listener);
+        }
+    }
+
+    @Test
+    void primitive_get_set() throws Exception {
+        Bean bean = new Bean();
+        JavaBeanDoubleProperty p = JavaBeanDoublePropertyBuilder.create().bean(bean).name("weight").build();
+        Assertions.assertEquals(0.0, p.get());
+        p.set(2.5);
+        Assertions.assertEquals(2.5, bean.getWeight());
+        bean.setWeight(3.0);
+        Assertions.assertEquals(3.0, p.get());
+
+        SimpleDoubleProperty source = new SimpleDoubleProperty(7.0);
+        p.bind(source);
+        Assertions.assertEquals(7.0, bean.getWeight());
+        source.set(8.0);
+        Assertions.assertEquals(8.0, bean.getWeight());
+    }
+
+    @Test
+    void object_get_set() throws Exception {
+        Bean bean1 = new Bean();
+        Bean bean2 = new Bean();
+        JavaBeanObjectPropertyBuilder<String> builder = JavaBeanObjectPropertyBuilder.<String>create()
+                .beanClass(Bean.class).name("name");
+        JavaBeanObjectProperty<String> p1 = builder.bean(bean1).build();
+        JavaBeanObjectProperty<String> p2 = builder.bean(bean2).build();
+        p1.set("a");
+        p2.set("b");
+        Assertions.assertEquals("a", bean1.getName());
+        Assertions.assertEquals("b", bean2.getName());
+        Assertions.assertEquals("a", p1.get());
+        Assertions.assertEquals("b", p2.get());
+    }
+
+    @Test
+    void getter_exception() throws Exception {
+        ReadOnlyJavaBeanIntegerProperty p = ReadOnlyJavaBeanIntegerPropertyBuilder.create()
+                .bean(new Bean()).name("broken").build();
+        UndeclaredThrowableException e = Assertions.assertThrows(UndeclaredThrowableException.class, p::get);
+        Assertions.assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void accessor_exceptions() throws Exception {
+        Bean bean = new Bean();
+        MethodAccessor setter = MethodAccessor.forSetter(Bean.class.getMethod("setWeight", double.class));
+        setter.set(bean, 3); // widening, as by Method.invoke
+        Assertions.assertEquals(3.0, bean.getWeight());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> setter.set(bean, "3"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> setter.set(bean, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> setter.set("bean", 3.0));
+
+        MethodAccessor getter = MethodAccessor.forGetter(Bean.class.getMethod("getBroken"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> getter.get("bean"));
+        Assertions.assertThrows(NullPointerException.class, () -> getter.get(null));
+        InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class, () -> getter.get(bean));
+        Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+
+        MethodAccessor failing = MethodAccessor.forGetter(Bean.class.getMethod("getFailing"));
+        Assertions.assertThrows(AssertionError.class, () -> failing.get(bean));
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.parubok.swingfx.beans.value;
+
+import io.github.parubok.swingfx.beans.InvalidationListener;
+import io.github.parubok.swingfx.beans.binding.DoubleBinding;
+import io.github.parubok.swingfx.beans.binding.IntegerBinding;
+import io.github.parubok.swingfx.beans.property.ReadOnlyFloatWrapper;
+import io.github.parubok.swingfx.beans.property.SimpleDoubleProperty;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.beans.property.SimpleLongProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class PrimitiveChangeListenerTest {
+    @Test
+    void double_property() {
+        SimpleDoubleProperty p = new SimpleDoubleProperty(1.0);
+        List<Object> events = new ArrayList<>();
+        DoubleChangeListener listener = (observable, oldValue, newValue) -> {
+            Assertions.assertSame(p, observable);
+            events.add(oldValue + "->" + newValue);
+        };
+        p.addDoubleChangeListener(listener);
+        p.set(2.5);
+        p.set(2.5);
+        p.set(Double.NaN);
+        p.set(Double.NaN);
+        Assertions.assertEquals(Arrays.asList("1.0->2.5", "2.5->NaN"), events);
+
+        p.removeDoubleChangeListener(listener);
+        p.set(3.0);
+        Assertions.assertEquals(2, events.size());
+    }
+
+    @Test
+    void integer_property_with_other_listeners() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty(1);
+        List<Object> events = new ArrayList<>();
+        p.addListener(observable -> events.add("invalidated"));
+        p.addListener((observable, oldValue, newValue) -> events.add("boxed " + oldValue + "->" + newValue));
+        p.addIntegerChangeListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        p.set(5);
+        Assertions.assertEquals(Arrays.asList("invalidated", "boxed 1->5", "1->5"), events);
+    }
+
+    @Test
+    void reentrant_change() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty(1);
+        List<Object> events = new ArrayList<>();
+        p.addListener((observable, oldValue, newValue) -> {
+            events.add("boxed " + oldValue + "->" + newValue);
+            if (newValue.intValue() == 5) {
+                p.set(6);
+            }
+        });
+        p.addIntegerChangeListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        p.set(5);
+        Assertions.assertEquals(Arrays.asList("boxed 1->5", "boxed 5->6", "5->6", "1->5"), events);
+    }
+
+    @Test
+    void single_listener_transitions() {
+        SimpleDoubleProperty p = new SimpleDoubleProperty(1.0);
+        List<Object> events = new ArrayList<>();
+        ChangeListener<Number> boxed = (observable, oldValue, newValue) -> events.add("boxed " + oldValue + "->" + newValue);
+        DoubleChangeListener primitive = (observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue);
+        InvalidationListener invalidation = observable -> events.add("invalidated");
+        p.addListener(boxed);
+        p.addDoubleChangeListener(primitive);
+        p.set(2.0);
+        Assertions.assertEquals(Arrays.asList("boxed 1.0->2.0", "1.0->2.0"), events);
+
+        events.clear();
+        p.removeListener(boxed);
+        p.removeListener(boxed); // not registered
+        p.set(2.0);
+        p.set(3.0);
+        Assertions.assertEquals(Arrays.asList("2.0->3.0"), events);
+
+        events.clear();
+        p.addListener(invalidation);
+        p.removeDoubleChangeListener(primitive);
+        p.set(4.0);
+        Assertions.assertEquals(Arrays.asList("invalidated"), events);
+
+        events.clear();
+        p.removeListener(invalidation);
+        p.set(5.0);
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void bound_long_property() {
+        SimpleLongProperty source = new SimpleLongProperty(1L);
+        SimpleLongProperty p = new SimpleLongProperty();
+        p.bind(source);
+        List<Object> events = new ArrayList<>();
+        p.addLongChangeListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        source.set(7L);
+        source.set(8L);
+        Assertions.assertEquals(Arrays.asList("1->7", "7->8"), events);
+    }
+
+    @Test
+    void remove_during_notification() {
+        SimpleIntegerProperty p = new SimpleIntegerProperty();
+        List<Object> events = new ArrayList<>();
+        IntegerChangeListener second = (observable, oldValue, newValue) -> events.add("second " + newValue);
+        p.addIntegerChangeListener((observable, oldValue, newValue) -> {
+            events.add("first " + newValue);
+            p.removeIntegerChangeListener(second);
+        });
+        p.addIntegerChangeListener(second);
+        p.set(1);
+        p.set(2);
+        Assertions.assertEquals(Arrays.asList("first 1", "second 1", "first 2"), events);
+    }
+
+    @Test
+    void bindings() {
+        SimpleDoubleProperty source = new SimpleDoubleProperty(1.0);
+        DoubleBinding binding = source.multiply(2.0);
+        IntegerBinding intBinding = source.asInteger(Number::intValue);
+        List<Object> events = new ArrayList<>();
+        DoubleChangeListener listener = (observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue);
+        binding.addDoubleChangeListener(listener);
+        intBinding.addIntegerChangeListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        source.set(2.0);
+        binding.removeDoubleChangeListener(listener);
+        source.set(3.0);
+        Assertions.assertEquals(Arrays.asList("2.0->4.0", "1->2", "2->3"), events);
+    }
+
+    @Test
+    void read_only_wrapper() {
+        ReadOnlyFloatWrapper wrapper = new ReadOnlyFloatWrapper(0.5f);
+        List<Object> events = new ArrayList<>();
+        wrapper.getReadOnlyProperty()
+                .addFloatChangeListener((observable, oldValue, newValue) -> events.add(oldValue + "->" + newValue));
+        wrapper.set(1.5f);
+        wrapper.set(1.5f);
+        Assertions.assertEquals(Arrays.asList("0.5->1.5"), events);
+    }
+
+    /**
+     * Relies on the default (boxing) implementation of the primitive listener methods.
+     */
+    static final class IntegerValue extends ObservableValueBase<Number> implements ObservableIntegerValue {
+        private int value;
+
+        void set(int value) {
+            this.value = value;
+            fireValueChangedEvent();
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public Number getValue() {
+            return value;
+        }
+
+        @Override
+        public int intValue() {
+            return value;
+        }
+
+        @Override
+        public long longValue() {
+            return value;
+        }
+
+        @Override
+        public float floatValue() {
+            return value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return value;
+        }
+    }
+
+    @Test
+    void default_implementation() {
+        IntegerValue value = new IntegerValue();
+        List<Object> events = new ArrayList<>();
+        IntegerChangeListener listener = (observable, oldValue, newValue) -> {
+            Assertions.assertSame(value, observable);
+            events.add(oldValue + "->" + newValue);
+        };
+        value.addIntegerChangeListener(listener);
+        value.set(3);
+        value.removeIntegerChangeListener(listener);
+        value.set(4);
+        Assertions.assertEquals(Arrays.asList("0->3"), events);
+    }
+}
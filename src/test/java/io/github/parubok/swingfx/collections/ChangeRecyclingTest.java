@@ -0,0 +1,107 @@
+package io.github.parubok.swingfx.collections;
+
+import io.github.parubok.swingfx.collections.transformation.SortedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+class ChangeRecyclingTest {
+    @AfterEach
+    void tearDown() {
+        FXCollections.setChangeRecycling(false);
+    }
+
+    @Test
+    void single_changes() {
+        FXCollections.setChangeRecycling(true);
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        List<String> log = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                log.add(c.getFrom() + "-" + c.getTo() + " " + c.getRemoved() + (c.wasUpdated() ? " u" : ""));
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            list.set(1, "x" + i);
+        }
+        list.add("d");
+        list.remove(0);
+        list.set(0, "y");
+        Assertions.assertEquals(Arrays.asList("1-2 [b]", "1-2 [x0]", "1-2 [x1]", "3-4 []", "0-0 [a]", "0-1 [x2]"), log);
+        Assertions.assertEquals(Arrays.asList("y", "c", "d"), list);
+    }
+
+    @Test
+    void retained_change() {
+        FXCollections.setChangeRecycling(true);
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        List<List<? extends String>> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            changes.add(c);
+            c.next();
+            removed.add(c.getRemoved());
+        });
+        list.set(0, "x");
+        Assertions.assertThrows(IllegalStateException.class, () -> changes.get(0).getFrom());
+        Assertions.assertThrows(IllegalStateException.class, () -> removed.get(0).size());
+
+        // a change of several parts is not recycled
+        list.removeAll("x", "c");
+        changes.get(1).reset();
+        Assertions.assertTrue(changes.get(1).next());
+        Assertions.assertEquals(Collections.singletonList("x"), changes.get(1).getRemoved());
+    }
+
+    @Test
+    void reused_change() {
+        FXCollections.setChangeRecycling(true);
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        List<Object> changes = new ArrayList<>();
+        List<Object> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            c.next();
+            changes.add(c);
+            removed.add(c.getRemoved());
+        });
+        for (int i = 0; i < 3; i++) {
+            list.setAll("x" + i);
+        }
+        Assertions.assertEquals(3, changes.size());
+        Assertions.assertSame(changes.get(0), changes.get(2));
+        Assertions.assertSame(removed.get(0), removed.get(2));
+    }
+
+    @Test
+    void single_element_change_reused() {
+        FXCollections.setChangeRecycling(true);
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        List<Object> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+        list.set(0, "x");
+        list.add("c");
+        list.remove(1);
+        Assertions.assertEquals(3, changes.size());
+        Assertions.assertSame(changes.get(0), changes.get(1));
+        Assertions.assertSame(changes.get(0), changes.get(2));
+    }
+
+    @Test
+    void sorted_list() {
+        FXCollections.setChangeRecycling(true);
+        ObservableList<Integer> source = FXCollections.observableArrayList(5, 3, 1);
+        SortedList<Integer> sorted = new SortedList<>(source, Comparator.naturalOrder());
+        for (int i = 0; i < 10; i++) {
+            source.set(i % 3, i * 7 % 11);
+            List<Integer> expected = new ArrayList<>(source);
+            Collections.sort(expected);
+            Assertions.assertEquals(expected, sorted);
+        }
+    }
+}
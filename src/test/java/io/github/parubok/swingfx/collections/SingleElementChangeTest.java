@@ -0,0 +1,69 @@
+package io.github.parubok.swingfx.collections;
+
+import io.github.parubok.swingfx.beans.binding.Bindings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+class SingleElementChangeTest {
+    private static List<String> record(ObservableList<String> list) {
+        List<String> log = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                log.add(c.getFrom() + "-" + c.getTo() + " " + c.getRemoved() + " " + c.getAddedSubList()
+                        + (c.wasReplaced() ? " replaced" : ""));
+            }
+            Assertions.assertFalse(c.next());
+        });
+        return log;
+    }
+
+    @Test
+    void add_set_remove() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        List<String> log = record(list);
+        list.add("c");
+        list.add(0, "x");
+        list.set(1, "y");
+        list.remove(2);
+        list.remove("x");
+        Assertions.assertEquals(Arrays.asList("2-3 [] [c]", "0-1 [] [x]", "1-2 [a] [y] replaced", "2-2 [b] []",
+                "0-0 [x] []"), log);
+        Assertions.assertEquals(Arrays.asList("y", "c"), list);
+    }
+
+    @Test
+    void change_block_and_batch() {
+        ObservableList<String> list = FXCollections.observableArrayList("a");
+        List<String> log = record(list);
+        list.addAll("b", "c");
+        Bindings.batch(() -> {
+            list.add("d");
+            list.set(0, "x");
+        });
+        Assertions.assertEquals(Arrays.asList("1-3 [] [b, c]", "0-1 [a] [x] replaced", "3-4 [] [d]"), log);
+    }
+
+    @Test
+    void modification_count() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        Iterator<String> iterator = list.iterator();
+        list.add("c");
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void change_string() {
+        ObservableList<String> list = FXCollections.observableArrayList("a");
+        List<String> strings = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> strings.add(c.toString()));
+        list.set(0, "b");
+        Assertions.assertEquals(1, strings.size());
+        Assertions.assertTrue(strings.get(0).contains("replaced"), strings.get(0));
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.parubok.swingfx.collections.transformation;
+
+import io.github.parubok.swingfx.beans.Observable;
+import io.github.parubok.swingfx.beans.property.SimpleIntegerProperty;
+import io.github.parubok.swingfx.collections.FXCollections;
+import io.github.parubok.swingfx.collections.ListChangeListener;
+import io.github.parubok.swingfx.collections.ModifiableObservableListBase;
+import io.github.parubok.swingfx.collections.ObservableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+class SortedListTest {
+    /**
+     * Replays the changes of the list.
+     */
+    private static <E> List<E> mirror(ObservableList<E> list) {
+        List<E> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<E>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<E> copy = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        mirror.set(c.getPermutation(i), copy.get(i));
+                    }
+                } else {
+                    for (int i = 0; i < c.getRemovedSize(); i++) {
+                        mirror.remove(c.getFrom());
+                    }
+                    mirror.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        return mirror;
+    }
+
+    private static void check(ObservableList<Integer> source, SortedList<Integer> sorted, List<Integer> mirror) {
+        List<Integer> expected = new ArrayList<>(source);
+        expected.sort(sorted.getComparator());
+        Assertions.assertEquals(expected, sorted);
+        Assertions.assertEquals(expected, mirror);
+        for (int i = 0; i < sorted.size(); i += 97) {
+            Assertions.assertEquals(sorted.get(i), source.get(sorted.getSourceIndex(i)));
+        }
+    }
+
+    @Test
+    void large_list() {
+        Random random = new Random(7);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < SortedList.TREE_THRESHOLD + 500; i++) {
+            source.add(random.nextInt(1000));
+        }
+        SortedList<Integer> sorted = new SortedList<>(source, Comparator.naturalOrder());
+        List<Integer> mirror = mirror(sorted);
+        check(source, sorted, mirror);
+
+        for (int i = 0; i < 2000; i++) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    source.add(random.nextInt(source.size() + 1), random.nextInt(1000));
+                    break;
+                case 1:
+                    source.remove(random.nextInt(source.size()));
+                    break;
+                default:
+                    source.set(random.nextInt(source.size()), random.nextInt(1000));
+                    break;
+            }
+        }
+        check(source, sorted, mirror);
+
+        // shrink below the threshold, so the arrays are used again
+        source.remove(0, SortedList.TREE_THRESHOLD);
+        source.add(0, -1);
+        check(source, sorted, mirror);
+
+        source.addAll(new ArrayList<>(source));
+        source.sort(Comparator.reverseOrder());
+        sorted.setComparator(Comparator.reverseOrder());
+        check(source, sorted, mirror);
+
+        sorted.setComparator(null);
+        Assertions.assertEquals(source, sorted);
+        Assertions.assertEquals(source, mirror);
+    }
+
+    @Test
+    void large_list_updates() {
+        Random random = new Random(13);
+        ObservableList<SimpleIntegerProperty> source = FXCollections.observableArrayList(
+                p -> new Observable[] {p});
+        for (int i = 0; i < SortedList.TREE_THRESHOLD + 500; i++) {
+            source.add(new SimpleIntegerProperty(random.nextInt(1000)));
+        }
+        Comparator<SimpleIntegerProperty> byValue = Comparator.comparingInt(SimpleIntegerProperty::get);
+        SortedList<SimpleIntegerProperty> sorted = new SortedList<>(source, byValue);
+        List<SimpleIntegerProperty> mirror = mirror(sorted);
+        List<int[]> ranges = new ArrayList<>();
+        sorted.addListener((ListChangeListener<SimpleIntegerProperty>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    ranges.add(new int[] {c.getFrom(), c.getTo()});
+                }
+            }
+        });
+
+        SimpleIntegerProperty first = sorted.get(0);
+        first.set(-1);
+        // still the smallest, so it is not moved
+        Assertions.assertSame(first, sorted.get(0));
+        Assertions.assertTrue(ranges.isEmpty());
+
+        for (int i = 0; i < 500; i++) {
+            source.get(random.nextInt(source.size())).set(random.nextInt(1000));
+        }
+        List<SimpleIntegerProperty> expected = new ArrayList<>(source);
+        expected.sort(byValue);
+        Assertions.assertEquals(toValues(expected), toValues(sorted));
+        Assertions.assertEquals(sorted, mirror);
+        for (int i = 0; i < sorted.size(); i += 97) {
+            Assertions.assertSame(sorted.get(i), source.get(sorted.getSourceIndex(i)));
+        }
+
+        // a single element moves within a short range instead of the whole list being sorted again
+        ranges.clear();
+        SimpleIntegerProperty element = sorted.get(100);
+        element.set(sorted.get(110).get());
+        Assertions.assertEquals(1, ranges.size());
+        Assertions.assertTrue(ranges.get(0)[1] - ranges.get(0)[0] < 20);
+        Assertions.assertEquals(sorted, mirror);
+
+    }
+
+    /**
+     * List which reports updates of ranges of its mutable elements.
+     */
+    private static final class UpdatableList extends ModifiableObservableListBase<int[]> {
+        private final List<int[]> elements = new ArrayList<>();
+
+        void update(int from, int to, Random random) {
+            beginChange();
+            for (int i = from; i < to; i++) {
+                elements.get(i)[0] = random.nextInt(1000);
+                nextUpdate(i);
+            }
+            endChange();
+        }
+
+        @Override
+        public int[] get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, int[] element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected int[] doSet(int index, int[] element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected int[] doRemove(int index) {
+            return elements.remove(index);
+        }
+    }
+
+    @Test
+    void large_list_range_updates() {
+        Random random = new Random(17);
+        UpdatableList source = new UpdatableList();
+        List<int[]> initial = new ArrayList<>();
+        for (int i = 0; i < SortedList.TREE_THRESHOLD + 500; i++) {
+            initial.add(new int[] {random.nextInt(1000)});
+        }
+        source.addAll(initial);
+        Comparator<int[]> byValue = Comparator.comparingInt(e -> e[0]);
+        SortedList<int[]> sorted = new SortedList<>(source, byValue);
+        List<int[]> mirror = mirror(sorted);
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(source.size() - 20);
+            source.update(from, from + 1 + random.nextInt(20), random);
+        }
+        // wide update
+        source.update(0, source.size() / 2, random);
+        List<int[]> expected = new ArrayList<>(source);
+        expected.sort(byValue);
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i)[0], sorted.get(i)[0]);
+        }
+        Assertions.assertEquals(sorted, mirror);
+        for (int i = 0; i < sorted.size(); i += 97) {
+            Assertions.assertSame(sorted.get(i), source.get(sorted.getSourceIndex(i)));
+        }
+    }
+
+    private static List<Integer> toValues(List<SimpleIntegerProperty> list) {
+        List<Integer> values = new ArrayList<>();
+        for (SimpleIntegerProperty p : list) {
+            values.add(p.get());
+        }
+        return values;
+    }
+
+    @Test
+    void parallel_sort() {
+        Random random = new Random(11);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < SortedList.PARALLEL_SORT_THRESHOLD + 1000; i++) {
+            // distinct instances of equal strings, to check the order of the equal elements
+            values.add(new String(String.valueOf(random.nextInt(5000))));
+        }
+        ObservableList<String> source = FXCollections.observableArrayList(values);
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        SortedList<String> sorted = new SortedList<>(source, byLength);
+        assertStablySorted(values, byLength, sorted);
+
+        List<String> mirror = mirror(sorted);
+        List<String> previous = new ArrayList<>(sorted);
+        Comparator<String> natural = Comparator.naturalOrder();
+        sorted.setComparator(natural);
+        assertStablySorted(previous, natural, sorted);
+        Assertions.assertEquals(sorted, mirror);
+
+        // initial sort of the whole source
+        source.clear();
+        source.setAll(values);
+        assertStablySorted(values, natural, sorted);
+        Assertions.assertEquals(sorted, mirror);
+    }
+
+    @Test
+    void comparator_changes() {
+        Random random = new Random(5);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(new String(String.valueOf(random.nextInt(3000))));
+        }
+        ObservableList<String> source = FXCollections.observableArrayList(values);
+        int[] comparisons = new int[1];
+        Comparator<String> byLength = (s1, s2) -> {
+            comparisons[0]++;
+            return Integer.compare(s1.length(), s2.length());
+        };
+        SortedList<String> sorted = new SortedList<>(source, byLength);
+        List<String> mirror = mirror(sorted);
+        int[] events = new int[1];
+        sorted.addListener((ListChangeListener<String>) c -> events[0]++);
+
+        // reversal - a single comparison of each pair of the neighbours
+        List<String> previous = new ArrayList<>(sorted);
+        comparisons[0] = 0;
+        sorted.setComparator(byLength.reversed());
+        Assertions.assertTrue(comparisons[0] < values.size());
+        assertStablySorted(previous, byLength.reversed(), sorted);
+        Assertions.assertEquals(sorted, mirror);
+        Assertions.assertEquals(1, events[0]);
+
+        // secondary key
+        Comparator<String> natural = Comparator.naturalOrder();
+        previous = new ArrayList<>(sorted);
+        sorted.setComparators(Arrays.asList(byLength.reversed(), natural));
+        assertStablySorted(previous, byLength.reversed().thenComparing(natural), sorted);
+        Assertions.assertEquals(sorted, mirror);
+        Assertions.assertEquals(2, events[0]);
+        Assertions.assertEquals(Arrays.asList(byLength.reversed(), natural), sorted.getComparators());
+
+        // toggle of the direction of the secondary key
+        previous = new ArrayList<>(sorted);
+        sorted.setComparators(Arrays.asList(byLength.reversed(), natural.reversed()));
+        assertStablySorted(previous, byLength.reversed().thenComparing(natural.reversed()), sorted);
+        Assertions.assertEquals(sorted, mirror);
+
+        // toggle of the direction of both keys
+        previous = new ArrayList<>(sorted);
+        sorted.setComparators(Arrays.asList(byLength, natural));
+        assertStablySorted(previous, byLength.thenComparing(natural), sorted);
+        Assertions.assertEquals(sorted, mirror);
+        Assertions.assertEquals(4, events[0]);
+
+        // the order is kept by the combined comparator
+        source.add("-1");
+        for (int i = 1; i < sorted.size(); i++) {
+            Assertions.assertTrue(byLength.thenComparing(natural).compare(sorted.get(i - 1), sorted.get(i)) <= 0);
+        }
+        Assertions.assertEquals(sorted, mirror);
+
+        sorted.setComparators(Collections.emptyList());
+        Assertions.assertNull(sorted.getComparator());
+        Assertions.assertEquals(source, sorted);
+        Assertions.assertEquals(sorted, mirror);
+    }
+
+    private static void assertStablySorted(List<String> values, Comparator<String> comparator, List<String> sorted) {
+        List<String> expected = new ArrayList<>(values);
+        expected.sort(comparator);
+        Assertions.assertEquals(expected.size(), sorted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertSame(expected.get(i), sorted.get(i));
+        }
+    }
+}